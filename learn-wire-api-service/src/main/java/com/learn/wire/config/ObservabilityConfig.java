@@ -0,0 +1,30 @@
+package com.learn.wire.config;
+
+import java.util.List;
+
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.learn.wire.constant.ObservabilityConst;
+import com.learn.wire.observability.ObservabilityProperties;
+import com.learn.wire.observability.SqlStatementIntegrator;
+import com.learn.wire.observability.SqlStatementSessionListener;
+
+@Configuration
+@EnableConfigurationProperties(ObservabilityProperties.class)
+public class ObservabilityConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer sqlStatementMetricsCustomizer() {
+        final IntegratorProvider integratorProvider = () -> List.of(new SqlStatementIntegrator());
+        return hibernateProperties -> {
+            hibernateProperties.put(ObservabilityConst.HIBERNATE_INTEGRATOR_PROVIDER, integratorProvider);
+            hibernateProperties.put(
+                    ObservabilityConst.HIBERNATE_SESSION_EVENTS_AUTO,
+                    SqlStatementSessionListener.class.getName());
+        };
+    }
+}
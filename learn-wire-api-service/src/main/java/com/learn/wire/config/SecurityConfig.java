@@ -5,13 +5,17 @@ import java.util.List;
 
 import javax.crypto.spec.SecretKeySpec;
 
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
@@ -19,6 +23,7 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -26,6 +31,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.learn.wire.constant.ApiConst;
 import com.learn.wire.constant.SecurityConst;
+import com.learn.wire.observability.ServerTimingPhase;
+import com.learn.wire.observability.ServerTimingRecorder;
 import com.learn.wire.security.SecurityProperties;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 
@@ -38,6 +45,21 @@ public class SecurityConfig {
 
     private final SecurityProperties securityProperties;
 
+    @Bean
+    @Order(SecurityConst.METRICS_FILTER_CHAIN_ORDER)
+    SecurityFilterChain metricsSecurityFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder) {
+        http.securityMatcher(SecurityConst.ACTUATOR_PROMETHEUS_PATH, SecurityConst.ACTUATOR_METRICS_PATH);
+        http.csrf(AbstractHttpConfigurer::disable);
+        http.formLogin(AbstractHttpConfigurer::disable);
+        http.httpBasic(Customizer.withDefaults());
+        http.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        http.userDetailsService(metricsScrapeUsers(passwordEncoder));
+        http.authorizeHttpRequests(authorize -> authorize
+                .anyRequest()
+                .hasAuthority(SecurityConst.METRICS_SCRAPE_AUTHORITY));
+        return http.build();
+    }
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) {
         http.csrf(AbstractHttpConfigurer::disable);
@@ -51,6 +73,7 @@ public class SecurityConfig {
                         SecurityConst.API_DOCS_PATH,
                         SecurityConst.SWAGGER_UI_PATH,
                         SecurityConst.SWAGGER_UI_HTML_PATH,
+                        SecurityConst.ACTUATOR_HEALTH_PATH,
                         ApiConst.AUTH_REGISTER_PATH,
                         ApiConst.AUTH_LOGIN_PATH,
                         ApiConst.AUTH_REFRESH_PATH)
@@ -89,7 +112,15 @@ public class SecurityConfig {
     JwtDecoder jwtDecoder() {
         final var keyBytes = this.securityProperties.getJwtSecret().getBytes(StandardCharsets.UTF_8);
         final var key = new SecretKeySpec(keyBytes, SecurityConst.JWT_SECRET_ALGORITHM);
-        return NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        final JwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        return token -> {
+            ServerTimingRecorder.enter(ServerTimingPhase.AUTH);
+            try {
+                return jwtDecoder.decode(token);
+            } finally {
+                ServerTimingRecorder.exit();
+            }
+        };
     }
 
     @Bean
@@ -103,4 +134,16 @@ public class SecurityConfig {
     PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
+
+    private UserDetailsService metricsScrapeUsers(PasswordEncoder passwordEncoder) {
+        final var username = this.securityProperties.getMetricsScrapeUsername();
+        final var password = this.securityProperties.getMetricsScrapePassword();
+        if (StringUtils.isAnyBlank(username, password)) {
+            return new InMemoryUserDetailsManager();
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(passwordEncoder.encode(password))
+                .authorities(SecurityConst.METRICS_SCRAPE_AUTHORITY)
+                .build());
+    }
 }
@@ -14,12 +14,17 @@ public final class ApiConst {
     public static final String DECK_FLASHCARDS_PATH = API_BASE_PATH + "/decks/{deckId}/flashcards";
     public static final String DECK_FLASHCARDS_WILDCARD_PATH = API_BASE_PATH + "/decks/*/flashcards/**";
     public static final String DECK_FLASHCARDS_ROOT_WILDCARD_PATH = API_BASE_PATH + "/decks/*/flashcards";
+    public static final String DECK_FLASHCARDS_EXPORT_PATH = DECK_FLASHCARDS_PATH + "/export";
+    public static final String DECK_FLASHCARDS_EXPORT_WILDCARD_PATH = API_BASE_PATH + "/decks/*/flashcards/export";
+    public static final String FOLDER_EXPORT_PATH = FOLDERS_PATH + "/{folderId}/export";
+    public static final String FOLDER_EXPORT_WILDCARD_PATH = FOLDERS_PATH + "/*/export";
     public static final String STUDY_SESSIONS_PATH = API_BASE_PATH + "/decks/{deckId}/study-sessions";
     public static final String STUDY_SESSIONS_WILDCARD_PATH = API_BASE_PATH + "/decks/*/study-sessions/**";
     public static final String STUDY_SESSIONS_ROOT_WILDCARD_PATH = API_BASE_PATH + "/decks/*/study-sessions";
     public static final String STUDY_SESSION_PATH = API_BASE_PATH + "/study-sessions";
     public static final String STUDY_SESSION_BY_ID_PATH = STUDY_SESSION_PATH + "/{sessionId}";
     public static final String STUDY_SESSION_EVENTS_PATH = STUDY_SESSION_BY_ID_PATH + "/events";
+    public static final String STUDY_SESSION_EVENT_BATCH_PATH = STUDY_SESSION_EVENTS_PATH + "/batch";
     public static final String STUDY_SESSION_COMPLETE_PATH = STUDY_SESSION_BY_ID_PATH + "/complete";
     public static final String STUDY_SESSION_WILDCARD_PATH = STUDY_SESSION_PATH + "/**";
     public static final String STUDY_SESSION_ROOT_WILDCARD_PATH = STUDY_SESSION_PATH;
@@ -31,7 +36,11 @@ public final class ApiConst {
     public static final String AUTH_ME_SETTINGS_SUB_PATH = "/me/settings";
     public static final String FOLDER_ID_SUB_PATH = "/{folderId}";
     public static final String DECK_ID_SUB_PATH = "/{deckId}";
+    public static final String DECK_COPY_SUB_PATH = "/{deckId}/copy";
     public static final String FLASHCARD_ID_SUB_PATH = "/{flashcardId}";
+    public static final String FLASHCARD_IMPORT_SUB_PATH = "/import";
+    public static final String FLASHCARD_BATCH_SUB_PATH = "/batch";
+    public static final String FLASHCARD_MOVE_SUB_PATH = "/move";
     public static final String AUTH_REGISTER_PATH = AUTH_PATH + AUTH_REGISTER_SUB_PATH;
     public static final String AUTH_LOGIN_PATH = AUTH_PATH + AUTH_LOGIN_SUB_PATH;
     public static final String AUTH_REFRESH_PATH = AUTH_PATH + AUTH_REFRESH_SUB_PATH;
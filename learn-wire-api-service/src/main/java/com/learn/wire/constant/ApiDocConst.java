@@ -26,11 +26,17 @@ public final class ApiDocConst {
     public static final String DECK_OPERATION_CREATE_IN_FOLDER = "Create deck in folder";
     public static final String DECK_OPERATION_UPDATE = "Update deck";
     public static final String DECK_OPERATION_DELETE = "Delete deck";
+    public static final String DECK_OPERATION_COPY = "Copy deck with its flashcards";
 
     public static final String FLASHCARD_OPERATION_GET_LIST_BY_DECK = "Get flashcard list by deck";
     public static final String FLASHCARD_OPERATION_CREATE_IN_DECK = "Create flashcard in deck";
     public static final String FLASHCARD_OPERATION_UPDATE = "Update flashcard";
     public static final String FLASHCARD_OPERATION_DELETE = "Delete flashcard";
+    public static final String FLASHCARD_OPERATION_IMPORT = "Import flashcards from CSV or TSV";
+    public static final String FLASHCARD_OPERATION_BATCH = "Create, update and delete flashcards in one batch";
+    public static final String FLASHCARD_OPERATION_MOVE = "Move or merge flashcards into another deck";
+    public static final String FLASHCARD_OPERATION_EXPORT_DECK = "Export deck flashcards as CSV or NDJSON";
+    public static final String FLASHCARD_OPERATION_EXPORT_FOLDER = "Export folder subtree flashcards as CSV or NDJSON";
 
     public static final String FOLDER_OPERATION_GET_LIST = "Get folder list";
     public static final String FOLDER_OPERATION_GET_BY_ID = "Get folder by id";
@@ -41,5 +47,6 @@ public final class ApiDocConst {
     public static final String STUDY_OPERATION_CREATE_SESSION = "Create study session";
     public static final String STUDY_OPERATION_GET_SESSION = "Get study session";
     public static final String STUDY_OPERATION_SUBMIT_EVENT = "Submit study event";
+    public static final String STUDY_OPERATION_SUBMIT_EVENT_BATCH = "Submit ordered batch of study events";
     public static final String STUDY_OPERATION_COMPLETE_SESSION = "Complete study session";
 }
@@ -18,9 +18,12 @@ public final class DeckConst {
     public static final String DEFAULT_SIZE_PARAM = "20";
     public static final String SORT_BY_CREATED_AT = "createdAt";
     public static final String SORT_BY_NAME = "name";
+    public static final String SORT_BY_FLASHCARD_COUNT = "flashcardCount";
+    public static final String SORT_BY_TIE_BREAKER = "id";
     public static final String SORT_DIRECTION_ASC = "asc";
     public static final String SORT_DIRECTION_DESC = "desc";
     public static final String DEFAULT_ACTOR = "system";
+    public static final String COPY_NAME_SUFFIX = " (copy)";
 
     public static final String NAME_IS_REQUIRED_KEY = ErrorMessageConst.DECK_VALIDATION_NAME_REQUIRED;
     public static final String NAME_TOO_LONG_KEY = ErrorMessageConst.DECK_VALIDATION_NAME_TOO_LONG;
@@ -32,6 +35,7 @@ public final class DeckConst {
     public static final String NOT_FOUND_KEY = ErrorMessageConst.DECK_ERROR_NOT_FOUND;
     public static final String DUPLICATE_NAME_KEY = ErrorMessageConst.DECK_ERROR_DUPLICATE_NAME;
     public static final String FOLDER_HAS_SUBFOLDERS_KEY = ErrorMessageConst.DECK_ERROR_FOLDER_HAS_SUBFOLDERS;
+    public static final String COPY_SWAP_TOO_LONG_KEY = ErrorMessageConst.DECK_VALIDATION_COPY_SWAP_TOO_LONG;
 
     public static final String NAME_IS_REQUIRED_MESSAGE = "{" + NAME_IS_REQUIRED_KEY + "}";
     public static final String NAME_TOO_LONG_MESSAGE = "{" + NAME_TOO_LONG_KEY + "}";
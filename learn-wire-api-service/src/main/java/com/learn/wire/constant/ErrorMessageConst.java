@@ -8,6 +8,7 @@ public final class ErrorMessageConst {
     public static final String COMMON_ERROR_INVALID_REQUEST = "common.error.invalidRequest";
     public static final String COMMON_ERROR_INTERNAL = "common.error.internal";
     public static final String COMMON_ERROR_RUNTIME = "common.error.runtime";
+    public static final String COMMON_VALIDATION_CURSOR_INVALID = "common.validation.cursor.invalid";
     public static final String FOLDER_ERROR_NOT_FOUND = "folder.error.notFound";
     public static final String FOLDER_ERROR_NEGATIVE_AGGREGATE = "folder.error.negativeAggregate";
     public static final String FOLDER_ERROR_DUPLICATE_NAME = "folder.error.duplicateName";
@@ -18,6 +19,8 @@ public final class ErrorMessageConst {
     public static final String FLASHCARD_ERROR_NOT_FOUND = "flashcard.error.notFound";
     public static final String FLASHCARD_ERROR_DECK_NOT_FOUND = "flashcard.error.deckNotFound";
     public static final String FLASHCARD_ERROR_TERM_LANG_MISMATCH = "flashcard.error.termLangMismatch";
+    public static final String FLASHCARD_ERROR_IMPORT_MALFORMED = "flashcard.error.importMalformed";
+    public static final String FLASHCARD_ERROR_IMPORT_TOO_MANY_ROWS = "flashcard.error.importTooManyRows";
     public static final String AUTH_ERROR_EMAIL_ALREADY_EXISTS = "auth.error.emailAlreadyExists";
     public static final String AUTH_ERROR_INVALID_CREDENTIALS = "auth.error.invalidCredentials";
     public static final String AUTH_ERROR_REFRESH_TOKEN_INVALID = "auth.error.refreshTokenInvalid";
@@ -31,6 +34,7 @@ public final class ErrorMessageConst {
     public static final String STUDY_ERROR_DECK_HAS_NO_FLASHCARDS = "study.error.deckHasNoFlashcards";
     public static final String STUDY_ERROR_MATCH_REQUIRES_MORE_FLASHCARDS = "study.error.matchRequiresMoreFlashcards";
     public static final String STUDY_ERROR_EVENT_NOT_SUPPORTED = "study.error.eventNotSupported";
+    public static final String STUDY_ERROR_EVENT_ALREADY_RECORDED = "study.error.eventAlreadyRecorded";
 
     public static final String FOLDER_VALIDATION_NAME_REQUIRED = "folder.validation.name.required";
     public static final String FOLDER_VALIDATION_NAME_TOO_LONG = "folder.validation.name.tooLong";
@@ -51,6 +55,13 @@ public final class ErrorMessageConst {
     public static final String FLASHCARD_VALIDATION_SIZE_INVALID = "flashcard.validation.size.invalid";
     public static final String FLASHCARD_VALIDATION_SORT_BY_INVALID = "flashcard.validation.sortBy.invalid";
     public static final String FLASHCARD_VALIDATION_SORT_DIRECTION_INVALID = "flashcard.validation.sortDirection.invalid";
+    public static final String FLASHCARD_VALIDATION_IMPORT_FORMAT_INVALID = "flashcard.validation.importFormat.invalid";
+    public static final String FLASHCARD_VALIDATION_EXPORT_FORMAT_INVALID = "flashcard.validation.exportFormat.invalid";
+    public static final String FLASHCARD_VALIDATION_BATCH_SIZE_INVALID = "flashcard.validation.batch.size.invalid";
+    public static final String FLASHCARD_VALIDATION_BATCH_DUPLICATE_ID = "flashcard.validation.batch.duplicateId";
+    public static final String FLASHCARD_VALIDATION_MOVE_TARGET_INVALID = "flashcard.validation.move.target.invalid";
+    public static final String FLASHCARD_VALIDATION_MOVE_SELECTION_SIZE_INVALID = "flashcard.validation.move.selection.size.invalid";
+    public static final String FLASHCARD_VALIDATION_MOVE_MERGE_REQUIRES_ALL = "flashcard.validation.move.merge.requiresAll";
     public static final String DECK_VALIDATION_NAME_REQUIRED = "deck.validation.name.required";
     public static final String DECK_VALIDATION_NAME_TOO_LONG = "deck.validation.name.tooLong";
     public static final String DECK_VALIDATION_DESCRIPTION_TOO_LONG = "deck.validation.description.tooLong";
@@ -58,6 +69,7 @@ public final class ErrorMessageConst {
     public static final String DECK_VALIDATION_SIZE_INVALID = "deck.validation.size.invalid";
     public static final String DECK_VALIDATION_SORT_BY_INVALID = "deck.validation.sortBy.invalid";
     public static final String DECK_VALIDATION_SORT_DIRECTION_INVALID = "deck.validation.sortDirection.invalid";
+    public static final String DECK_VALIDATION_COPY_SWAP_TOO_LONG = "deck.validation.copy.swapTooLong";
     public static final String AUTH_VALIDATION_EMAIL_REQUIRED = "auth.validation.email.required";
     public static final String AUTH_VALIDATION_EMAIL_INVALID = "auth.validation.email.invalid";
     public static final String AUTH_VALIDATION_EMAIL_TOO_LONG = "auth.validation.email.tooLong";
@@ -81,4 +93,5 @@ public final class ErrorMessageConst {
     public static final String STUDY_VALIDATION_EVENT_CLIENT_SEQUENCE_INVALID = "study.validation.event.clientSequence.invalid";
     public static final String STUDY_VALIDATION_EVENT_TARGET_TILE_REQUIRED = "study.validation.event.targetTileId.required";
     public static final String STUDY_VALIDATION_EVENT_TARGET_INDEX_INVALID = "study.validation.event.targetIndex.invalid";
+    public static final String STUDY_VALIDATION_EVENT_BATCH_SIZE_INVALID = "study.validation.eventBatch.size.invalid";
 }
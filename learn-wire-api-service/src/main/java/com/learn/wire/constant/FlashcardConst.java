@@ -6,6 +6,9 @@ public final class FlashcardConst {
     }
 
     public static final String TABLE_NAME = "flashcards";
+    public static final String ID_GENERATOR_NAME = "flashcard_id_generator";
+    public static final String ID_SEQUENCE_NAME = "flashcards_pooled_id_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
     public static final int FRONT_TEXT_MIN_LENGTH = 1;
     public static final int FRONT_TEXT_MAX_LENGTH = 300;
     public static final int BACK_TEXT_MIN_LENGTH = 1;
@@ -24,6 +27,42 @@ public final class FlashcardConst {
     public static final String SORT_DIRECTION_ASC = "asc";
     public static final String SORT_DIRECTION_DESC = "desc";
     public static final String DEFAULT_ACTOR = "system";
+    public static final int BULK_DELETE_BACKGROUND_THRESHOLD = 5000;
+    public static final int BULK_DELETE_CHUNK_SIZE = 1000;
+    public static final String IMPORT_CSV_MEDIA_TYPE = "text/csv";
+    public static final String IMPORT_TSV_MEDIA_TYPE = "text/tab-separated-values";
+    public static final String IMPORT_FORMAT_CSV = "csv";
+    public static final String IMPORT_FORMAT_TSV = "tsv";
+    public static final String IMPORT_HAS_HEADER_PARAM = "hasHeader";
+    public static final String DEFAULT_IMPORT_HAS_HEADER_PARAM = "false";
+    public static final int IMPORT_FRONT_TEXT_COLUMN = 0;
+    public static final int IMPORT_BACK_TEXT_COLUMN = 1;
+    public static final int IMPORT_FRONT_LANG_COLUMN = 2;
+    public static final int IMPORT_BACK_LANG_COLUMN = 3;
+    public static final int IMPORT_BATCH_SIZE = 50;
+    public static final int IMPORT_MAX_ROWS = 20000;
+    public static final int IMPORT_MAX_REPORTED_ERRORS = 100;
+    public static final String EXPORT_FORMAT_PARAM = "format";
+    public static final String EXPORT_FORMAT_CSV = "csv";
+    public static final String EXPORT_FORMAT_NDJSON = "ndjson";
+    public static final String DEFAULT_EXPORT_FORMAT_PARAM = EXPORT_FORMAT_CSV;
+    public static final String EXPORT_CSV_MEDIA_TYPE = "text/csv;charset=UTF-8";
+    public static final String EXPORT_NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    public static final String EXPORT_DECK_FILE_NAME_FORMAT = "deck-%d.%s";
+    public static final String EXPORT_FOLDER_FILE_NAME_FORMAT = "folder-%d.%s";
+    public static final String EXPORT_FETCH_SIZE = "500";
+    public static final char EXPORT_LINE_SEPARATOR = '\n';
+    public static final int BATCH_MAX_OPERATIONS = 500;
+    public static final int MOVE_MAX_SELECTION = 1000;
+    public static final String[] EXPORT_CSV_HEADERS = {
+            "frontText",
+            "backText",
+            "frontLangCode",
+            "backLangCode",
+            "deckName",
+            "deckId",
+            "id"
+    };
 
     public static final String FRONT_REQUIRED_KEY = ErrorMessageConst.FLASHCARD_VALIDATION_FRONT_REQUIRED;
     public static final String FRONT_TOO_LONG_KEY = ErrorMessageConst.FLASHCARD_VALIDATION_FRONT_TOO_LONG;
@@ -36,6 +75,16 @@ public final class FlashcardConst {
     public static final String NOT_FOUND_KEY = ErrorMessageConst.FLASHCARD_ERROR_NOT_FOUND;
     public static final String DECK_NOT_FOUND_KEY = ErrorMessageConst.FLASHCARD_ERROR_DECK_NOT_FOUND;
     public static final String TERM_LANG_MISMATCH_KEY = ErrorMessageConst.FLASHCARD_ERROR_TERM_LANG_MISMATCH;
+    public static final String IMPORT_MALFORMED_KEY = ErrorMessageConst.FLASHCARD_ERROR_IMPORT_MALFORMED;
+    public static final String IMPORT_TOO_MANY_ROWS_KEY = ErrorMessageConst.FLASHCARD_ERROR_IMPORT_TOO_MANY_ROWS;
+    public static final String IMPORT_FORMAT_INVALID_KEY = ErrorMessageConst.FLASHCARD_VALIDATION_IMPORT_FORMAT_INVALID;
+    public static final String EXPORT_FORMAT_INVALID_KEY = ErrorMessageConst.FLASHCARD_VALIDATION_EXPORT_FORMAT_INVALID;
+    public static final String BATCH_SIZE_INVALID_KEY = ErrorMessageConst.FLASHCARD_VALIDATION_BATCH_SIZE_INVALID;
+    public static final String BATCH_DUPLICATE_ID_KEY = ErrorMessageConst.FLASHCARD_VALIDATION_BATCH_DUPLICATE_ID;
+    public static final String MOVE_TARGET_INVALID_KEY = ErrorMessageConst.FLASHCARD_VALIDATION_MOVE_TARGET_INVALID;
+    public static final String MOVE_SELECTION_SIZE_INVALID_KEY =
+            ErrorMessageConst.FLASHCARD_VALIDATION_MOVE_SELECTION_SIZE_INVALID;
+    public static final String MOVE_MERGE_REQUIRES_ALL_KEY = ErrorMessageConst.FLASHCARD_VALIDATION_MOVE_MERGE_REQUIRES_ALL;
 
     public static final String FRONT_REQUIRED_MESSAGE = "{" + FRONT_REQUIRED_KEY + "}";
     public static final String FRONT_TOO_LONG_MESSAGE = "{" + FRONT_TOO_LONG_KEY + "}";
@@ -6,11 +6,23 @@ public final class FolderConst {
     }
 
     public static final String TABLE_NAME = "folders";
+    public static final String COUNTER_DELTA_TABLE_NAME = "folder_counter_deltas";
+    public static final String COUNTER_DELTA_ID_GENERATOR_NAME = "folder_counter_delta_id_generator";
+    public static final String COUNTER_DELTA_ID_SEQUENCE_NAME = "folder_counter_deltas_pooled_id_seq";
+    public static final int COUNTER_DELTA_ID_ALLOCATION_SIZE = 50;
+    public static final long COUNTER_COMPACTION_INTERVAL_MILLIS = 5000L;
+    public static final int COUNTER_COMPACTION_FOLDER_BATCH_SIZE = 200;
+    public static final int COUNTER_COMPACTION_DELETE_CHUNK_SIZE = 1000;
 
     public static final int NAME_MIN_LENGTH = 1;
     public static final int NAME_MAX_LENGTH = 120;
     public static final int DESCRIPTION_MAX_LENGTH = 400;
     public static final int COLOR_HEX_MAX_LENGTH = 16;
+    public static final int ANCESTOR_PATH_MAX_LENGTH = 4000;
+    public static final String ANCESTOR_PATH_ROOT = "/";
+    public static final String ANCESTOR_PATH_SEPARATOR = "/";
+    public static final String ANCESTOR_PATH_WILDCARD = "%";
+    public static final int ROOT_DEPTH = 0;
     public static final int DEFAULT_PAGE = 0;
     public static final int DEFAULT_SIZE = 20;
     public static final int MIN_PAGE = 0;
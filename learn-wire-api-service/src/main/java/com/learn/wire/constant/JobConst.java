@@ -0,0 +1,23 @@
+package com.learn.wire.constant;
+
+public final class JobConst {
+
+    private JobConst() {
+    }
+
+    public static final String CHECKPOINT_TABLE_NAME = "job_checkpoints";
+    public static final int JOB_NAME_MAX_LENGTH = 80;
+    public static final int CHECKPOINT_VALUE_MAX_LENGTH = 120;
+    public static final String CHECKPOINT_INITIAL_VALUE = "";
+    public static final String LOCK_TIMEOUT_SKIP_LOCKED = "-2";
+
+    public static final String FOLDER_COUNT_RECONCILIATION_JOB_NAME = "folder-count-reconciliation";
+    public static final long FOLDER_COUNT_RECONCILIATION_INTERVAL_MILLIS = 600000L;
+    public static final int FOLDER_COUNT_RECONCILIATION_ACTOR_BATCH_SIZE = 100;
+    public static final int FOLDER_COUNT_REPAIR_CHUNK_SIZE = 500;
+
+    public static final String FLASHCARD_PURGE_JOB_NAME_PREFIX = "flashcard-purge:";
+    public static final long FLASHCARD_PURGE_RESUME_INTERVAL_MILLIS = 300000L;
+    public static final long FLASHCARD_PURGE_STALE_MILLIS = 600000L;
+    public static final int FLASHCARD_PURGE_RESUME_BATCH_SIZE = 50;
+}
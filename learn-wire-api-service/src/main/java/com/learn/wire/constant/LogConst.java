@@ -12,11 +12,15 @@ public final class LogConst {
     public static final String DECK_CONTROLLER_CREATED = "Created deck with id={} in folderId={}";
     public static final String DECK_CONTROLLER_UPDATED = "Update deck id={} in folderId={}";
     public static final String DECK_CONTROLLER_DELETED = "Delete deck id={} in folderId={}";
+    public static final String DECK_CONTROLLER_COPIED = "Copied deck id={} into deckId={} folderId={}";
 
     public static final String FLASHCARD_CONTROLLER_GET_LIST = "Get flashcards with deckId={}, page={}, size={}";
     public static final String FLASHCARD_CONTROLLER_CREATED = "Created flashcard with id={} in deckId={}";
     public static final String FLASHCARD_CONTROLLER_UPDATED = "Update flashcard id={} in deckId={}";
     public static final String FLASHCARD_CONTROLLER_DELETED = "Delete flashcard id={} in deckId={}";
+    public static final String FLASHCARD_CONTROLLER_IMPORTED = "Imported flashcards into deckId={} importedCount={} failedCount={}";
+    public static final String FLASHCARD_CONTROLLER_MOVED = "Moved flashcards from deckId={} to deckId={} movedCount={}";
+    public static final String FLASHCARD_CONTROLLER_BATCH_APPLIED = "Applied flashcard batch to deckId={} created={} updated={} deleted={}";
 
     public static final String FOLDER_CONTROLLER_GET_LIST = "Get folders with page={}, size={}, parentFolderId={}";
     public static final String FOLDER_CONTROLLER_GET_BY_ID = "Get folder by id={}";
@@ -27,6 +31,7 @@ public final class LogConst {
     public static final String STUDY_CONTROLLER_STARTED = "Started study session id={} for deckId={}";
     public static final String STUDY_CONTROLLER_GET_SESSION = "Get study session id={}";
     public static final String STUDY_CONTROLLER_SUBMIT_EVENT = "Submit study event for sessionId={}";
+    public static final String STUDY_CONTROLLER_SUBMIT_EVENT_BATCH = "Submit study event batch for sessionId={}";
     public static final String STUDY_CONTROLLER_COMPLETED = "Complete study session id={}";
 
     public static final String AUTH_SERVICE_REGISTERED_NEW_USER = "Registered new user id={} email={}";
@@ -35,6 +40,8 @@ public final class LogConst {
     public static final String DECK_SERVICE_CREATE = "Create deck in folderId={}";
     public static final String DECK_SERVICE_UPDATE = "Update deck id={} in folderId={}";
     public static final String DECK_SERVICE_DELETE = "Delete deck id={} in folderId={}";
+    public static final String DECK_SERVICE_COPY = "Copy deck id={} in folderId={} to folderId={} swapSides={}";
+    public static final String DECK_SERVICE_COPIED = "Copied deck id={} into deckId={} flashcardCount={}";
     public static final String DECK_SERVICE_DUPLICATE_ACTIVE_NAME =
             "Duplicate active deck name with folderId={} and name={}";
 
@@ -44,6 +51,21 @@ public final class LogConst {
     public static final String FLASHCARD_SERVICE_CREATED = "Created flashcard id={} in deckId={}";
     public static final String FLASHCARD_SERVICE_UPDATE = "Update flashcard id={} in deckId={}";
     public static final String FLASHCARD_SERVICE_DELETE = "Delete flashcard id={} in deckId={}";
+    public static final String FLASHCARD_SERVICE_IMPORT = "Import flashcards into deckId={} format={} hasHeader={}";
+    public static final String FLASHCARD_SERVICE_BATCH = "Apply flashcard batch to deckId={} creates={} updates={} deletes={}";
+    public static final String FLASHCARD_SERVICE_MOVE =
+            "Move flashcards from deckId={} to deckId={} selectionSize={} deleteSourceDeck={}";
+    public static final String FLASHCARD_SERVICE_EXPORT = "Export flashcards deckId={} folderId={} format={}";
+    public static final String FLASHCARD_SERVICE_EXPORTED = "Exported flashcards deckId={} folderId={} rowCount={}";
+    public static final String FLASHCARD_PURGE_JOB_SCHEDULED =
+            "Scheduled background flashcard purge for deckIds={} expectedCount={}";
+    public static final String FLASHCARD_PURGE_JOB_STARTED =
+            "Started background flashcard purge for deckIds={} expectedCount={}";
+    public static final String FLASHCARD_PURGE_JOB_CHUNK = "Purged flashcard chunk for deckIds={} affectedCount={}";
+    public static final String FLASHCARD_PURGE_JOB_COMPLETED =
+            "Completed background flashcard purge for deckIds={} affectedCount={}";
+    public static final String FLASHCARD_PURGE_JOB_RESUMED = "Resuming stalled flashcard purge for deckIds={}";
+    public static final String FLASHCARD_PURGE_JOB_RESUME_FAILED = "Failed to resume flashcard purges, retrying next run";
 
     public static final String FOLDER_SERVICE_GET_LIST =
             "Get folders with page={}, size={}, parentFolderId={}, sortBy={}, sortDirection={}";
@@ -54,8 +76,37 @@ public final class LogConst {
     public static final String FOLDER_SERVICE_UPDATED = "Updated folder id={}";
     public static final String FOLDER_SERVICE_DELETE = "Delete folder id={}";
     public static final String FOLDER_SERVICE_SOFT_DELETED = "Soft deleted subtree rootId={} affectedCount={}";
+    public static final String FOLDER_SERVICE_SUBTREE_MOVED = "Moved subtree rootId={} descendantCount={}";
+    public static final String FOLDER_COUNTER_SERVICE_APPLIED =
+            "Applied flashcard delta={} from folderId={} affectedCount={}";
+    public static final String FOLDER_COUNTER_SERVICE_TRANSFERRED =
+            "Transferred flashcard count={} from folderId={} to folderId={} affectedRows={}";
+    public static final String FOLDER_COUNTER_COMPACTED = "Compacted folder counter deltas folderCount={} deltaCount={}";
+    public static final String FOLDER_COUNTER_COMPACTION_NEGATIVE =
+            "Skipped negative folder counter compaction folderId={} storedDirect={} directDelta={} storedAggregate={} aggregateDelta={}";
+    public static final String FOLDER_COUNTER_COMPACTION_FAILED = "Failed to compact folder counter deltas, retrying next run";
+    public static final String FOLDER_COUNT_DRIFT_REPAIRED =
+            "Repaired folder count drift actor={} driftedFolders={} directDrift={} aggregateDrift={}";
+    public static final String FOLDER_COUNT_RECONCILIATION_COMPLETED = "Completed folder count reconciliation sweep";
+    public static final String FOLDER_COUNT_RECONCILIATION_FAILED = "Failed folder count reconciliation, resuming from checkpoint";
 
     public static final String STUDY_SERVICE_START_SESSION = "Start study session with deckId={}, mode={}, seed={}";
+    public static final String STUDY_SERVICE_REPLAYED_EVENTS =
+            "Resolved conflicting study events modeStateId={} alreadyRecordedCount={}";
+    public static final String MATCH_BOARD_LOADED = "Loaded match board modeStateId={} recoveredMatchedTiles={}";
+    public static final String MATCH_BOARD_FLUSHED = "Flushed match boards count={} matchedTileCount={}";
+    public static final String MATCH_BOARD_FLUSH_FAILED = "Failed to flush match boards count={}, changes requeued";
+    public static final String MATCH_BOARD_EVICTED = "Evicted idle match boards count={}";
+    public static final String MATCH_BOARD_ROLLED_BACK = "Evicted match board modeStateId={} after rollback";
+    public static final String MATCH_BOARD_ROLLBACK_FLUSH_FAILED =
+            "Failed to flush committed match board changes modeStateId={} after rollback";
+
+    public static final String SQL_REQUEST_METRICS =
+            "SQL metrics endpoint={} statements={} rowsHydrated={} flushes={} dbTimeMs={}";
+    public static final String SQL_REQUEST_BUDGET_EXCEEDED =
+            "SQL statement budget exceeded endpoint={} statements={} budget={}";
+    public static final String SLOW_REQUEST =
+            "Slow request endpoint={} status={} totalMs={} authMs={} dbMs={} engineMs={} serializeMs={}";
 
     public static final String LANGUAGE_CONTROLLER_GET_LIST = "Get languages";
     public static final String LANGUAGE_SERVICE_GET_LIST = "Get active languages";
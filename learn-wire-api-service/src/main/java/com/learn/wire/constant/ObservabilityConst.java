@@ -0,0 +1,76 @@
+package com.learn.wire.constant;
+
+import java.util.List;
+
+public final class ObservabilityConst {
+
+    private ObservabilityConst() {
+    }
+
+    public static final String OBSERVABILITY_PROPERTIES_PREFIX = "app.observability";
+
+    public static final String SQL_STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String SQL_ROWS_HYDRATED_HEADER = "X-Sql-Rows-Hydrated";
+    public static final String SQL_FLUSHES_HEADER = "X-Sql-Flushes";
+    public static final String SQL_TIME_MILLIS_HEADER = "X-Sql-Time-Ms";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String SERVER_TIMING_ENTRY_FORMAT = "%s;dur=%.2f";
+    public static final String SERVER_TIMING_ENTRY_SEPARATOR = ", ";
+    public static final String SERVER_TIMING_TOTAL = "total";
+    public static final String SERVER_TIMING_AUTH = "auth";
+    public static final String SERVER_TIMING_DB = "db";
+    public static final String SERVER_TIMING_ENGINE = "engine";
+    public static final String SERVER_TIMING_SERIALIZE = "serialize";
+
+    public static final String HIBERNATE_INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+    public static final String HIBERNATE_SESSION_EVENTS_AUTO = "hibernate.session.events.auto";
+
+    public static final String SERVICE_CALL_METRIC = "learnwise.service.calls";
+    public static final String STUDY_EVENT_METRIC = "learnwise.study.events";
+    public static final String STUDY_EVENT_DURATION_METRIC = "learnwise.study.event.duration";
+    public static final String SQL_STATEMENTS_METRIC = "learnwise.sql.statements";
+    public static final String SQL_ROWS_HYDRATED_METRIC = "learnwise.sql.rows.hydrated";
+    public static final String SQL_TIME_METRIC = "learnwise.sql.time";
+    public static final String FOLDER_COUNT_DRIFT_METRIC = "learnwise.folder.count.drift";
+    public static final String FOLDER_COUNT_RECONCILED_METRIC = "learnwise.folder.count.reconciled.actors";
+
+    public static final String TAG_SERVICE = "service";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_EXCEPTION = "exception";
+    public static final String TAG_MODE = "mode";
+    public static final String TAG_EVENT_TYPE = "event_type";
+    public static final String TAG_ENDPOINT = "endpoint";
+    public static final String TAG_COUNTER = "counter";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_APPLIED = "applied";
+    public static final String OUTCOME_DUPLICATE = "duplicate";
+    public static final String EXCEPTION_NONE = "none";
+    public static final String COUNTER_DIRECT = "direct";
+    public static final String COUNTER_AGGREGATE = "aggregate";
+
+    public static final String SERVICE_IMPL_POINTCUT =
+            "execution(public * com.learn.wire.service.impl.*ServiceImpl.*(..))";
+    public static final String REPOSITORY_POINTCUT =
+            "execution(* org.springframework.data.repository.Repository+.*(..))";
+    public static final String STUDY_MODE_ENGINE_POINTCUT =
+            "execution(public * com.learn.wire.service.engine.StudyModeEngine+.*(..))";
+
+    public static final String JFR_CATEGORY = "LearnWise";
+    public static final String JFR_STUDY_ENGINE_EVENT = "com.learn.wire.StudyEngine";
+    public static final String JFR_REPOSITORY_CALL_EVENT = "com.learn.wire.RepositoryCall";
+    public static final String JFR_FOLDER_COUNTER_EVENT = "com.learn.wire.FolderCounterPropagation";
+    public static final String JFR_REPOSITORY_CALL_THRESHOLD = "1 ms";
+    public static final String JFR_EVENT_TYPE_BATCH = "batch";
+
+    public static final int SQL_STATEMENT_BUDGET_DEFAULT = 30;
+    public static final long SLOW_REQUEST_THRESHOLD_MILLIS_DEFAULT = 500L;
+    public static final long NANOS_PER_MILLI = 1_000_000L;
+    public static final double NANOS_PER_MILLI_DECIMAL = 1_000_000D;
+    public static final String ENDPOINT_SEPARATOR = " ";
+    public static final List<String> STREAMING_ENDPOINT_PATTERNS = List.of(
+            ApiConst.DECK_FLASHCARDS_EXPORT_WILDCARD_PATH,
+            ApiConst.FOLDER_EXPORT_WILDCARD_PATH);
+}
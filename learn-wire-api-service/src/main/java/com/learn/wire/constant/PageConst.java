@@ -0,0 +1,27 @@
+package com.learn.wire.constant;
+
+public final class PageConst {
+
+    private PageConst() {
+    }
+
+    public static final long UNKNOWN_TOTAL_ELEMENTS = -1L;
+    public static final int UNKNOWN_TOTAL_PAGES = -1;
+    public static final boolean DEFAULT_INCLUDE_TOTAL = true;
+
+    public static final String CURSOR_SORT_BY_PARAM = "sortBy";
+    public static final String CURSOR_SORT_DIRECTION_PARAM = "sortDirection";
+    public static final String CURSOR_FILTER_PARAM = "filter";
+    public static final String CURSOR_FILTER_HASH_ALGORITHM = "SHA-256";
+    public static final String CURSOR_FILTER_HASH_UNAVAILABLE_MESSAGE = "SHA-256 algorithm is unavailable";
+    public static final int CURSOR_FILTER_FINGERPRINT_BYTES = 12;
+    public static final String CURSOR_KEY_PREFIX = "key.";
+    public static final String CURSOR_PARAM_SEPARATOR = "&";
+    public static final String CURSOR_VALUE_SEPARATOR = "=";
+    public static final char CURSOR_TYPE_INSTANT = 'T';
+    public static final char CURSOR_TYPE_STRING = 'S';
+    public static final char CURSOR_TYPE_INTEGER = 'I';
+    public static final char CURSOR_TYPE_LONG = 'L';
+
+    public static final String CURSOR_INVALID_KEY = ErrorMessageConst.COMMON_VALIDATION_CURSOR_INVALID;
+}
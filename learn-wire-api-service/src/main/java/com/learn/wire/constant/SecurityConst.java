@@ -11,6 +11,11 @@ public final class SecurityConst {
     public static final String API_DOCS_PATH = "/v3/api-docs/**";
     public static final String SWAGGER_UI_PATH = "/swagger-ui/**";
     public static final String SWAGGER_UI_HTML_PATH = "/swagger-ui.html";
+    public static final String ACTUATOR_HEALTH_PATH = "/actuator/health/**";
+    public static final String ACTUATOR_PROMETHEUS_PATH = "/actuator/prometheus";
+    public static final String ACTUATOR_METRICS_PATH = "/actuator/metrics/**";
+    public static final String METRICS_SCRAPE_AUTHORITY = "METRICS_SCRAPE";
+    public static final int METRICS_FILTER_CHAIN_ORDER = 1;
 
     public static final String HTTP_METHOD_GET = "GET";
     public static final String HTTP_METHOD_POST = "POST";
@@ -10,8 +10,20 @@ public final class StudyConst {
     public static final String SESSION_ITEM_TABLE_NAME = "study_session_items";
     public static final String SESSION_SNAPSHOT_ITEM_TABLE_NAME = "study_session_snapshot_items";
     public static final String ATTEMPT_TABLE_NAME = "study_attempts";
+    public static final String ATTEMPT_UNIQUE_CONSTRAINT_PREFIX = "uq_study_attempts_";
+    public static final String ATTEMPT_EVENT_ID_CONSTRAINT_NAME = ATTEMPT_UNIQUE_CONSTRAINT_PREFIX + "mode_state_event_id";
+    public static final String ATTEMPT_SEQUENCE_CONSTRAINT_NAME = ATTEMPT_UNIQUE_CONSTRAINT_PREFIX + "mode_state_sequence";
     public static final String MATCH_TILE_TABLE_NAME = "match_session_tiles";
     public static final String MATCH_STATE_TABLE_NAME = "match_session_states";
+    public static final String SESSION_ITEM_ID_GENERATOR_NAME = "study_session_item_id_generator";
+    public static final String SESSION_ITEM_ID_SEQUENCE_NAME = "study_session_items_pooled_id_seq";
+    public static final String SESSION_SNAPSHOT_ITEM_ID_GENERATOR_NAME = "study_session_snapshot_item_id_generator";
+    public static final String SESSION_SNAPSHOT_ITEM_ID_SEQUENCE_NAME = "study_session_snapshot_items_pooled_id_seq";
+    public static final String ATTEMPT_ID_GENERATOR_NAME = "study_attempt_id_generator";
+    public static final String ATTEMPT_ID_SEQUENCE_NAME = "study_attempts_pooled_id_seq";
+    public static final String MATCH_TILE_ID_GENERATOR_NAME = "match_session_tile_id_generator";
+    public static final String MATCH_TILE_ID_SEQUENCE_NAME = "match_session_tiles_pooled_id_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
     public static final int MODE_MAX_LENGTH = 20;
     public static final int STATUS_MAX_LENGTH = 20;
     public static final int EVENT_TYPE_MAX_LENGTH = 80;
@@ -24,8 +36,13 @@ public final class StudyConst {
     public static final int MIN_SEED = 0;
     public static final int DEFAULT_INDEX = 0;
     public static final int DEFAULT_CLIENT_SEQUENCE = 0;
+    public static final int EVENT_BATCH_MAX_SIZE = 200;
+    public static final int EVENT_WINDOW_SIZE = 128;
+    public static final int EVENT_WINDOW_MAX_MODE_STATES = 10000;
     public static final int MINIMUM_MATCH_PAIR_COUNT = 2;
     public static final long MATCH_FEEDBACK_HOLD_MILLIS = 800L;
+    public static final long MATCH_BOARD_FLUSH_INTERVAL_MILLIS = 2000L;
+    public static final long MATCH_BOARD_IDLE_EVICT_MILLIS = 600000L;
     public static final int ZERO_SCORE = 0;
     public static final String ENGINE_NOT_REGISTERED_ERROR = "Study mode engine is not registered: ";
     public static final String ENGINE_DUPLICATED_ERROR = "Duplicate study mode engine registration: ";
@@ -58,6 +75,7 @@ public final class StudyConst {
     public static final String DECK_HAS_NO_FLASHCARDS_KEY = ErrorMessageConst.STUDY_ERROR_DECK_HAS_NO_FLASHCARDS;
     public static final String MATCH_REQUIRES_MORE_FLASHCARDS_KEY = ErrorMessageConst.STUDY_ERROR_MATCH_REQUIRES_MORE_FLASHCARDS;
     public static final String EVENT_NOT_SUPPORTED_KEY = ErrorMessageConst.STUDY_ERROR_EVENT_NOT_SUPPORTED;
+    public static final String EVENT_ALREADY_RECORDED_KEY = ErrorMessageConst.STUDY_ERROR_EVENT_ALREADY_RECORDED;
 
     public static final String MODE_INVALID_KEY = ErrorMessageConst.STUDY_VALIDATION_MODE_INVALID;
     public static final String SEED_INVALID_KEY = ErrorMessageConst.STUDY_VALIDATION_SEED_INVALID;
@@ -66,4 +84,5 @@ public final class StudyConst {
     public static final String EVENT_CLIENT_SEQUENCE_INVALID_KEY = ErrorMessageConst.STUDY_VALIDATION_EVENT_CLIENT_SEQUENCE_INVALID;
     public static final String EVENT_TARGET_TILE_REQUIRED_KEY = ErrorMessageConst.STUDY_VALIDATION_EVENT_TARGET_TILE_REQUIRED;
     public static final String EVENT_TARGET_INDEX_INVALID_KEY = ErrorMessageConst.STUDY_VALIDATION_EVENT_TARGET_INDEX_INVALID;
+    public static final String EVENT_BATCH_SIZE_INVALID_KEY = ErrorMessageConst.STUDY_VALIDATION_EVENT_BATCH_SIZE_INVALID;
 }
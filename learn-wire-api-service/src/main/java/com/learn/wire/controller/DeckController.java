@@ -17,6 +17,7 @@ import com.learn.wire.constant.ApiDocConst;
 import com.learn.wire.constant.LogConst;
 import com.learn.wire.dto.common.response.PageResponse;
 import com.learn.wire.dto.deck.query.DeckListQuery;
+import com.learn.wire.dto.deck.request.DeckCopyRequest;
 import com.learn.wire.dto.deck.request.DeckCreateRequest;
 import com.learn.wire.dto.deck.request.DeckListRequest;
 import com.learn.wire.dto.deck.request.DeckUpdateRequest;
@@ -65,6 +66,17 @@ public class DeckController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(ApiConst.DECK_COPY_SUB_PATH)
+    @Operation(summary = ApiDocConst.DECK_OPERATION_COPY)
+    ResponseEntity<DeckResponse> copyDeck(
+            @PathVariable Long folderId,
+            @PathVariable Long deckId,
+            @Valid @RequestBody DeckCopyRequest request) {
+        final DeckResponse response = this.deckService.copyDeck(folderId, deckId, request);
+        log.info(LogConst.DECK_CONTROLLER_COPIED, deckId, response.id(), response.folderId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @PutMapping(ApiConst.DECK_ID_SUB_PATH)
     @Operation(summary = ApiDocConst.DECK_OPERATION_UPDATE)
     ResponseEntity<DeckResponse> updateDeck(
@@ -1,5 +1,8 @@
 package com.learn.wire.controller;
 
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -9,17 +12,28 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.learn.wire.constant.ApiConst;
 import com.learn.wire.constant.ApiDocConst;
+import com.learn.wire.constant.FlashcardConst;
 import com.learn.wire.constant.LogConst;
 import com.learn.wire.dto.common.response.PageResponse;
+import com.learn.wire.dto.flashcard.query.FlashcardBatchCommand;
+import com.learn.wire.dto.flashcard.query.FlashcardImportQuery;
 import com.learn.wire.dto.flashcard.query.FlashcardListQuery;
+import com.learn.wire.dto.flashcard.query.FlashcardMoveCommand;
+import com.learn.wire.dto.flashcard.request.FlashcardBatchRequest;
 import com.learn.wire.dto.flashcard.request.FlashcardCreateRequest;
 import com.learn.wire.dto.flashcard.request.FlashcardListRequest;
+import com.learn.wire.dto.flashcard.request.FlashcardMoveRequest;
 import com.learn.wire.dto.flashcard.request.FlashcardUpdateRequest;
+import com.learn.wire.dto.flashcard.response.FlashcardBatchResponse;
+import com.learn.wire.dto.flashcard.response.FlashcardImportResponse;
+import com.learn.wire.dto.flashcard.response.FlashcardMoveResponse;
 import com.learn.wire.dto.flashcard.response.FlashcardResponse;
 import com.learn.wire.service.FlashcardService;
 
@@ -62,6 +76,48 @@ public class FlashcardController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(
+            value = ApiConst.FLASHCARD_IMPORT_SUB_PATH,
+            consumes = { FlashcardConst.IMPORT_CSV_MEDIA_TYPE, FlashcardConst.IMPORT_TSV_MEDIA_TYPE })
+    @Operation(summary = ApiDocConst.FLASHCARD_OPERATION_IMPORT)
+    ResponseEntity<FlashcardImportResponse> importFlashcards(
+            @PathVariable Long deckId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(
+                    name = FlashcardConst.IMPORT_HAS_HEADER_PARAM,
+                    defaultValue = FlashcardConst.DEFAULT_IMPORT_HAS_HEADER_PARAM) boolean hasHeader,
+            InputStream content) {
+        final var query = FlashcardImportQuery.fromRequest(deckId, contentType, hasHeader);
+        final var response = this.flashcardService.importFlashcards(query, content);
+        log.info(LogConst.FLASHCARD_CONTROLLER_IMPORTED, deckId, response.importedCount(), response.failedCount());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(ApiConst.FLASHCARD_BATCH_SUB_PATH)
+    @Operation(summary = ApiDocConst.FLASHCARD_OPERATION_BATCH)
+    ResponseEntity<FlashcardBatchResponse> applyBatch(
+            @PathVariable Long deckId,
+            @Valid @RequestBody FlashcardBatchRequest request) {
+        final var response = this.flashcardService.applyBatch(FlashcardBatchCommand.fromRequest(deckId, request));
+        log.info(
+                LogConst.FLASHCARD_CONTROLLER_BATCH_APPLIED,
+                deckId,
+                response.created().size(),
+                response.updated().size(),
+                response.deletedIds().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(ApiConst.FLASHCARD_MOVE_SUB_PATH)
+    @Operation(summary = ApiDocConst.FLASHCARD_OPERATION_MOVE)
+    ResponseEntity<FlashcardMoveResponse> moveFlashcards(
+            @PathVariable Long deckId,
+            @RequestBody FlashcardMoveRequest request) {
+        final var response = this.flashcardService.moveFlashcards(FlashcardMoveCommand.fromRequest(deckId, request));
+        log.info(LogConst.FLASHCARD_CONTROLLER_MOVED, deckId, response.targetDeckId(), response.movedCount());
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping(ApiConst.FLASHCARD_ID_SUB_PATH)
     @Operation(summary = ApiDocConst.FLASHCARD_OPERATION_UPDATE)
     ResponseEntity<FlashcardResponse> updateFlashcard(
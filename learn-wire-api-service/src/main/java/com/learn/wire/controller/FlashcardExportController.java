@@ -0,0 +1,64 @@
+package com.learn.wire.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.learn.wire.constant.ApiConst;
+import com.learn.wire.constant.ApiDocConst;
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.dto.flashcard.query.FlashcardExportFormat;
+import com.learn.wire.dto.flashcard.query.FlashcardExportQuery;
+import com.learn.wire.service.FlashcardExportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@Tag(name = ApiDocConst.TAG_FLASHCARDS)
+@RequiredArgsConstructor
+public class FlashcardExportController {
+
+    private final FlashcardExportService flashcardExportService;
+
+    @GetMapping(ApiConst.DECK_FLASHCARDS_EXPORT_PATH)
+    @Operation(summary = ApiDocConst.FLASHCARD_OPERATION_EXPORT_DECK)
+    ResponseEntity<StreamingResponseBody> exportDeck(
+            @PathVariable Long deckId,
+            @RequestParam(
+                    name = FlashcardConst.EXPORT_FORMAT_PARAM,
+                    defaultValue = FlashcardConst.DEFAULT_EXPORT_FORMAT_PARAM) String format) {
+        final var query = this.flashcardExportService.prepareDeckExport(
+                deckId,
+                FlashcardExportFormat.fromValue(format));
+        return toStreamingResponse(query);
+    }
+
+    @GetMapping(ApiConst.FOLDER_EXPORT_PATH)
+    @Operation(summary = ApiDocConst.FLASHCARD_OPERATION_EXPORT_FOLDER)
+    ResponseEntity<StreamingResponseBody> exportFolder(
+            @PathVariable Long folderId,
+            @RequestParam(
+                    name = FlashcardConst.EXPORT_FORMAT_PARAM,
+                    defaultValue = FlashcardConst.DEFAULT_EXPORT_FORMAT_PARAM) String format) {
+        final var query = this.flashcardExportService.prepareFolderExport(
+                folderId,
+                FlashcardExportFormat.fromValue(format));
+        return toStreamingResponse(query);
+    }
+
+    private ResponseEntity<StreamingResponseBody> toStreamingResponse(FlashcardExportQuery query) {
+        final StreamingResponseBody body = outputStream -> this.flashcardExportService.writeExport(query, outputStream);
+        final var disposition = ContentDisposition.attachment().filename(query.fileName()).build();
+        return ResponseEntity.ok()
+                .contentType(query.format().mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.learn.wire.constant.ApiConst;
 import com.learn.wire.constant.ApiDocConst;
 import com.learn.wire.constant.LogConst;
+import com.learn.wire.dto.study.request.StudySessionEventBatchRequest;
 import com.learn.wire.dto.study.request.StudySessionEventRequest;
 import com.learn.wire.dto.study.request.StudySessionStartRequest;
 import com.learn.wire.dto.study.response.StudySessionResponse;
@@ -58,6 +59,15 @@ public class StudySessionController {
         return ResponseEntity.ok(this.studySessionService.submitEvent(sessionId, request));
     }
 
+    @PostMapping(ApiConst.STUDY_SESSION_EVENT_BATCH_PATH)
+    @Operation(summary = ApiDocConst.STUDY_OPERATION_SUBMIT_EVENT_BATCH)
+    ResponseEntity<StudySessionResponse> submitEvents(
+            @PathVariable Long sessionId,
+            @Valid @RequestBody StudySessionEventBatchRequest request) {
+        log.debug(LogConst.STUDY_CONTROLLER_SUBMIT_EVENT_BATCH, sessionId);
+        return ResponseEntity.ok(this.studySessionService.submitEvents(sessionId, request));
+    }
+
     @PostMapping(ApiConst.STUDY_SESSION_COMPLETE_PATH)
     @Operation(summary = ApiDocConst.STUDY_OPERATION_COMPLETE_SESSION)
     ResponseEntity<StudySessionResponse> completeSession(@PathVariable Long sessionId) {
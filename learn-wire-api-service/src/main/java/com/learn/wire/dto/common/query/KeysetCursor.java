@@ -0,0 +1,191 @@
+package com.learn.wire.dto.common.query;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.learn.wire.constant.PageConst;
+import com.learn.wire.exception.BadRequestException;
+
+public final class KeysetCursor {
+
+    private KeysetCursor() {
+    }
+
+    public static KeysetScrollPosition resolvePosition(
+            String cursor,
+            boolean includeTotal,
+            String sortBy,
+            String sortDirection,
+            String filterFingerprint,
+            List<String> keyProperties) {
+        if (StringUtils.isNotBlank(cursor)) {
+            return decode(cursor.trim(), sortBy, sortDirection, filterFingerprint, keyProperties);
+        }
+        if (includeTotal) {
+            return null;
+        }
+        return ScrollPosition.keyset();
+    }
+
+    public static String nextCursor(Window<?> window, String sortBy, String sortDirection, String filterFingerprint) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        final var position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        return encode(sortBy, sortDirection, filterFingerprint, position.getKeys());
+    }
+
+    public static String filterFingerprint(Object... filters) {
+        final List<String> params = new ArrayList<>();
+        for (final Object filter : filters) {
+            params.add(URLEncoder.encode(String.valueOf(filter), StandardCharsets.UTF_8));
+        }
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(PageConst.CURSOR_FILTER_HASH_ALGORITHM);
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(PageConst.CURSOR_FILTER_HASH_UNAVAILABLE_MESSAGE, exception);
+        }
+        final var hash = digest.digest(
+                String.join(PageConst.CURSOR_PARAM_SEPARATOR, params).getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Arrays.copyOf(hash, PageConst.CURSOR_FILTER_FINGERPRINT_BYTES));
+    }
+
+    public static long totalElements(boolean includeTotal, LongSupplier countSupplier) {
+        if (!includeTotal) {
+            return PageConst.UNKNOWN_TOTAL_ELEMENTS;
+        }
+        return countSupplier.getAsLong();
+    }
+
+    public static int totalPages(long totalElements, int size) {
+        if (totalElements < 0) {
+            return PageConst.UNKNOWN_TOTAL_PAGES;
+        }
+        return (int) ((totalElements + size - 1) / size);
+    }
+
+    public static String encode(
+            String sortBy,
+            String sortDirection,
+            String filterFingerprint,
+            Map<String, Object> keys) {
+        final List<String> params = new ArrayList<>();
+        params.add(toParam(PageConst.CURSOR_SORT_BY_PARAM, sortBy));
+        params.add(toParam(PageConst.CURSOR_SORT_DIRECTION_PARAM, sortDirection));
+        params.add(toParam(PageConst.CURSOR_FILTER_PARAM, filterFingerprint));
+        for (final Map.Entry<String, Object> entry : keys.entrySet()) {
+            params.add(toParam(PageConst.CURSOR_KEY_PREFIX + entry.getKey(), encodeValue(entry.getValue())));
+        }
+        final var raw = String.join(PageConst.CURSOR_PARAM_SEPARATOR, params);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static KeysetScrollPosition decode(
+            String cursor,
+            String sortBy,
+            String sortDirection,
+            String filterFingerprint,
+            List<String> keyProperties) {
+        final var params = parseParams(cursor);
+        if (!sortBy.equals(params.get(PageConst.CURSOR_SORT_BY_PARAM))) {
+            throw new BadRequestException(PageConst.CURSOR_INVALID_KEY);
+        }
+        if (!sortDirection.equals(params.get(PageConst.CURSOR_SORT_DIRECTION_PARAM))) {
+            throw new BadRequestException(PageConst.CURSOR_INVALID_KEY);
+        }
+        if (!filterFingerprint.equals(params.get(PageConst.CURSOR_FILTER_PARAM))) {
+            throw new BadRequestException(PageConst.CURSOR_INVALID_KEY);
+        }
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        for (final Map.Entry<String, String> entry : params.entrySet()) {
+            if (!entry.getKey().startsWith(PageConst.CURSOR_KEY_PREFIX)) {
+                continue;
+            }
+            final var property = entry.getKey().substring(PageConst.CURSOR_KEY_PREFIX.length());
+            keys.put(property, decodeValue(entry.getValue()));
+        }
+        if (!keys.keySet().equals(Set.copyOf(keyProperties))) {
+            throw new BadRequestException(PageConst.CURSOR_INVALID_KEY);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Map<String, String> parseParams(String cursor) {
+        final String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException(PageConst.CURSOR_INVALID_KEY);
+        }
+        final Map<String, String> params = new LinkedHashMap<>();
+        for (final String param : raw.split(PageConst.CURSOR_PARAM_SEPARATOR)) {
+            final var separatorIndex = param.indexOf(PageConst.CURSOR_VALUE_SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new BadRequestException(PageConst.CURSOR_INVALID_KEY);
+            }
+            final var name = URLDecoder.decode(param.substring(0, separatorIndex), StandardCharsets.UTF_8);
+            final var value = URLDecoder.decode(param.substring(separatorIndex + 1), StandardCharsets.UTF_8);
+            params.put(name, value);
+        }
+        return params;
+    }
+
+    private static String toParam(String name, String value) {
+        return URLEncoder.encode(name, StandardCharsets.UTF_8)
+                + PageConst.CURSOR_VALUE_SEPARATOR
+                + URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String encodeValue(Object value) {
+        if (value instanceof Instant instant) {
+            return PageConst.CURSOR_TYPE_INSTANT + instant.toString();
+        }
+        if (value instanceof Integer integer) {
+            return PageConst.CURSOR_TYPE_INTEGER + integer.toString();
+        }
+        if (value instanceof Long longValue) {
+            return PageConst.CURSOR_TYPE_LONG + longValue.toString();
+        }
+        return PageConst.CURSOR_TYPE_STRING + String.valueOf(value);
+    }
+
+    private static Object decodeValue(String encoded) {
+        if (encoded.isEmpty()) {
+            throw new BadRequestException(PageConst.CURSOR_INVALID_KEY);
+        }
+        final var type = encoded.charAt(0);
+        final var value = encoded.substring(1);
+        try {
+            return switch (type) {
+                case PageConst.CURSOR_TYPE_INSTANT -> Instant.parse(value);
+                case PageConst.CURSOR_TYPE_INTEGER -> Integer.valueOf(value);
+                case PageConst.CURSOR_TYPE_LONG -> Long.valueOf(value);
+                case PageConst.CURSOR_TYPE_STRING -> value;
+                default -> throw new BadRequestException(PageConst.CURSOR_INVALID_KEY);
+            };
+        } catch (NumberFormatException | DateTimeParseException exception) {
+            throw new BadRequestException(PageConst.CURSOR_INVALID_KEY);
+        }
+    }
+}
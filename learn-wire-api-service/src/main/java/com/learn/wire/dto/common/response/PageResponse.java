@@ -12,5 +12,6 @@ public record PageResponse<T>(
         boolean hasPrevious,
         String search,
         String sortBy,
-        String sortDirection) {
+        String sortDirection,
+        String nextCursor) {
 }
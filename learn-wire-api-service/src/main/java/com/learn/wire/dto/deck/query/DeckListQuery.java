@@ -1,7 +1,12 @@
 package com.learn.wire.dto.deck.query;
 
+import java.util.List;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+
 import com.learn.wire.constant.DeckConst;
 import com.learn.wire.constant.ErrorMessageConst;
+import com.learn.wire.dto.common.query.KeysetCursor;
 import com.learn.wire.dto.common.query.SortDirection;
 import com.learn.wire.dto.deck.request.DeckListRequest;
 import com.learn.wire.exception.BadRequestException;
@@ -12,7 +17,9 @@ public record DeckListQuery(
         int size,
         String search,
         DeckSortField sortField,
-        SortDirection sortDirection) {
+        SortDirection sortDirection,
+        boolean includeTotal,
+        KeysetScrollPosition keysetPosition) {
 
     public static DeckListQuery fromRequest(Long folderId, DeckListRequest request) {
         if (request == null) {
@@ -37,13 +44,30 @@ public record DeckListQuery(
                 request.getSortDirection(),
                 DeckConst.SORT_DIRECTION_INVALID_KEY);
         final String search = normalizeSearch(request.getSearch());
+        final KeysetScrollPosition keysetPosition = KeysetCursor.resolvePosition(
+                request.getCursor(),
+                request.isIncludeTotal(),
+                sortField.value(),
+                sortDirection.value(),
+                KeysetCursor.filterFingerprint(folderId, search),
+                List.of(sortField.sortProperty(), DeckConst.SORT_BY_TIE_BREAKER));
         return new DeckListQuery(
                 folderId,
                 page,
                 size,
                 search,
                 sortField,
-                sortDirection);
+                sortDirection,
+                request.isIncludeTotal(),
+                keysetPosition);
+    }
+
+    public boolean isKeyset() {
+        return this.keysetPosition != null;
+    }
+
+    public String filterFingerprint() {
+        return KeysetCursor.filterFingerprint(this.folderId, this.search);
     }
 
     private static String normalizeSearch(String value) {
@@ -9,7 +9,8 @@ import com.learn.wire.dto.common.query.SortableField;
 
 public enum DeckSortField implements SortableField {
     CREATED_AT(DeckConst.SORT_BY_CREATED_AT, "createdAt"),
-    NAME(DeckConst.SORT_BY_NAME, "name");
+    NAME(DeckConst.SORT_BY_NAME, "name"),
+    FLASHCARD_COUNT(DeckConst.SORT_BY_FLASHCARD_COUNT, "flashcardCount");
 
     private static final SortFieldResolveSpec<DeckSortField> RESOLVE_SPEC = new SortFieldResolveSpec<>(
             CREATED_AT,
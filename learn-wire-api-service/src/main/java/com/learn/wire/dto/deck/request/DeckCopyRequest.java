@@ -0,0 +1,11 @@
+package com.learn.wire.dto.deck.request;
+
+import com.learn.wire.constant.DeckConst;
+
+import jakarta.validation.constraints.Size;
+
+public record DeckCopyRequest(
+        Long targetFolderId,
+        @Size(max = DeckConst.NAME_MAX_LENGTH, message = DeckConst.NAME_TOO_LONG_MESSAGE) String name,
+        boolean swapSides) {
+}
@@ -1,6 +1,7 @@
 package com.learn.wire.dto.deck.request;
 
 import com.learn.wire.constant.DeckConst;
+import com.learn.wire.constant.PageConst;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,4 +17,6 @@ public class DeckListRequest {
     private String search = "";
     private String sortBy = DeckConst.SORT_BY_CREATED_AT;
     private String sortDirection = DeckConst.SORT_DIRECTION_DESC;
+    private String cursor;
+    private boolean includeTotal = PageConst.DEFAULT_INCLUDE_TOTAL;
 }
@@ -0,0 +1,68 @@
+package com.learn.wire.dto.flashcard.query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.collections4.ListUtils;
+
+import com.learn.wire.constant.ErrorMessageConst;
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.dto.flashcard.request.FlashcardBatchRequest;
+import com.learn.wire.dto.flashcard.request.FlashcardBatchUpdateRequest;
+import com.learn.wire.dto.flashcard.request.FlashcardCreateRequest;
+import com.learn.wire.exception.BadRequestException;
+
+public record FlashcardBatchCommand(
+        Long deckId,
+        List<FlashcardCreateRequest> creates,
+        List<FlashcardBatchUpdateRequest> updates,
+        List<Long> deleteIds) {
+
+    public static FlashcardBatchCommand fromRequest(Long deckId, FlashcardBatchRequest request) {
+        if ((deckId == null) || (request == null)) {
+            throw new BadRequestException(ErrorMessageConst.COMMON_ERROR_INVALID_REQUEST);
+        }
+        final var creates = ListUtils.emptyIfNull(request.creates());
+        final var updates = ListUtils.emptyIfNull(request.updates());
+        final var deleteIds = ListUtils.emptyIfNull(request.deleteIds());
+        final var operationCount = creates.size() + updates.size() + deleteIds.size();
+        if ((operationCount == 0) || (operationCount > FlashcardConst.BATCH_MAX_OPERATIONS)) {
+            throw new BadRequestException(FlashcardConst.BATCH_SIZE_INVALID_KEY, FlashcardConst.BATCH_MAX_OPERATIONS);
+        }
+        if (creates.stream().anyMatch(Objects::isNull) || updates.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException(ErrorMessageConst.COMMON_ERROR_INVALID_REQUEST);
+        }
+        validateDistinctIds(updates, deleteIds);
+        return new FlashcardBatchCommand(deckId, List.copyOf(creates), List.copyOf(updates), List.copyOf(deleteIds));
+    }
+
+    public Set<Long> targetIds() {
+        final Set<Long> targetIds = new HashSet<>(this.deleteIds);
+        for (final FlashcardBatchUpdateRequest update : this.updates) {
+            targetIds.add(update.id());
+        }
+        return targetIds;
+    }
+
+    private static void validateDistinctIds(List<FlashcardBatchUpdateRequest> updates, List<Long> deleteIds) {
+        final Set<Long> seenIds = new HashSet<>();
+        for (final FlashcardBatchUpdateRequest update : updates) {
+            requireDistinct(seenIds, update.id());
+        }
+        for (final Long deleteId : deleteIds) {
+            requireDistinct(seenIds, deleteId);
+        }
+    }
+
+    private static void requireDistinct(Set<Long> seenIds, Long id) {
+        if (id == null) {
+            throw new BadRequestException(ErrorMessageConst.COMMON_ERROR_INVALID_REQUEST);
+        }
+        if (seenIds.add(id)) {
+            return;
+        }
+        throw new BadRequestException(FlashcardConst.BATCH_DUPLICATE_ID_KEY, id);
+    }
+}
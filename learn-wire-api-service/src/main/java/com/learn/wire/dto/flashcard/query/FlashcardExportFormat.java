@@ -0,0 +1,38 @@
+package com.learn.wire.dto.flashcard.query;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.exception.BadRequestException;
+
+public enum FlashcardExportFormat {
+    CSV(FlashcardConst.EXPORT_FORMAT_CSV, MediaType.parseMediaType(FlashcardConst.EXPORT_CSV_MEDIA_TYPE)),
+    NDJSON(FlashcardConst.EXPORT_FORMAT_NDJSON, MediaType.parseMediaType(FlashcardConst.EXPORT_NDJSON_MEDIA_TYPE));
+
+    private final String value;
+    private final MediaType mediaType;
+
+    FlashcardExportFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String value() {
+        return this.value;
+    }
+
+    public MediaType mediaType() {
+        return this.mediaType;
+    }
+
+    public static FlashcardExportFormat fromValue(String rawValue) {
+        final var normalized = StringUtils.trimToEmpty(rawValue);
+        for (final FlashcardExportFormat candidate : values()) {
+            if (candidate.value.equalsIgnoreCase(normalized)) {
+                return candidate;
+            }
+        }
+        throw new BadRequestException(FlashcardConst.EXPORT_FORMAT_INVALID_KEY);
+    }
+}
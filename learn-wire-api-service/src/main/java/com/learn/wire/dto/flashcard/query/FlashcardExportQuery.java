@@ -0,0 +1,14 @@
+package com.learn.wire.dto.flashcard.query;
+
+public record FlashcardExportQuery(
+        Long deckId,
+        Long folderId,
+        String descendantPattern,
+        String createdBy,
+        FlashcardExportFormat format,
+        String fileName) {
+
+    public boolean isFolderExport() {
+        return this.folderId != null;
+    }
+}
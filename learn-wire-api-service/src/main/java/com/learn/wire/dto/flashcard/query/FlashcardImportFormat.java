@@ -0,0 +1,35 @@
+package com.learn.wire.dto.flashcard.query;
+
+import org.springframework.http.MediaType;
+
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.exception.BadRequestException;
+
+public enum FlashcardImportFormat {
+    CSV(FlashcardConst.IMPORT_FORMAT_CSV, MediaType.parseMediaType(FlashcardConst.IMPORT_CSV_MEDIA_TYPE)),
+    TSV(FlashcardConst.IMPORT_FORMAT_TSV, MediaType.parseMediaType(FlashcardConst.IMPORT_TSV_MEDIA_TYPE));
+
+    private final String value;
+    private final MediaType mediaType;
+
+    FlashcardImportFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String value() {
+        return this.value;
+    }
+
+    public static FlashcardImportFormat fromMediaType(MediaType contentType) {
+        if (contentType == null) {
+            throw new BadRequestException(FlashcardConst.IMPORT_FORMAT_INVALID_KEY);
+        }
+        for (final FlashcardImportFormat candidate : values()) {
+            if (candidate.mediaType.isCompatibleWith(contentType)) {
+                return candidate;
+            }
+        }
+        throw new BadRequestException(FlashcardConst.IMPORT_FORMAT_INVALID_KEY);
+    }
+}
@@ -0,0 +1,41 @@
+package com.learn.wire.dto.flashcard.query;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.learn.wire.constant.ErrorMessageConst;
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.exception.BadRequestException;
+
+public record FlashcardImportQuery(
+        Long deckId,
+        FlashcardImportFormat format,
+        Charset charset,
+        boolean hasHeader) {
+
+    public static FlashcardImportQuery fromRequest(Long deckId, String contentType, boolean hasHeader) {
+        if (deckId == null) {
+            throw new BadRequestException(ErrorMessageConst.COMMON_ERROR_INVALID_REQUEST);
+        }
+        final MediaType mediaType = parseMediaType(contentType);
+        final Charset charset = mediaType.getCharset() == null
+                ? StandardCharsets.UTF_8
+                : mediaType.getCharset();
+        return new FlashcardImportQuery(
+                deckId,
+                FlashcardImportFormat.fromMediaType(mediaType),
+                charset,
+                hasHeader);
+    }
+
+    private static MediaType parseMediaType(String contentType) {
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException exception) {
+            throw new BadRequestException(FlashcardConst.IMPORT_FORMAT_INVALID_KEY);
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.learn.wire.dto.flashcard.query;
 
+import java.util.List;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+
 import com.learn.wire.constant.ErrorMessageConst;
 import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.dto.common.query.KeysetCursor;
 import com.learn.wire.dto.common.query.SortDirection;
 import com.learn.wire.dto.flashcard.request.FlashcardListRequest;
 import com.learn.wire.exception.BadRequestException;
@@ -12,7 +17,9 @@ public record FlashcardListQuery(
         int size,
         String search,
         FlashcardSortField sortField,
-        SortDirection sortDirection) {
+        SortDirection sortDirection,
+        boolean includeTotal,
+        KeysetScrollPosition keysetPosition) {
 
     public static FlashcardListQuery fromRequest(Long deckId, FlashcardListRequest request) {
         if (request == null) {
@@ -37,13 +44,30 @@ public record FlashcardListQuery(
                 request.getSortDirection(),
                 FlashcardConst.SORT_DIRECTION_INVALID_KEY);
         final String search = normalizeSearch(request.getSearch());
+        final KeysetScrollPosition keysetPosition = KeysetCursor.resolvePosition(
+                request.getCursor(),
+                request.isIncludeTotal(),
+                sortField.value(),
+                sortDirection.value(),
+                KeysetCursor.filterFingerprint(deckId, search),
+                List.of(sortField.sortProperty(), FlashcardConst.SORT_BY_TIE_BREAKER));
         return new FlashcardListQuery(
                 deckId,
                 page,
                 size,
                 search,
                 sortField,
-                sortDirection);
+                sortDirection,
+                request.isIncludeTotal(),
+                keysetPosition);
+    }
+
+    public boolean isKeyset() {
+        return this.keysetPosition != null;
+    }
+
+    public String filterFingerprint() {
+        return KeysetCursor.filterFingerprint(this.deckId, this.search);
     }
 
     private static String normalizeSearch(String value) {
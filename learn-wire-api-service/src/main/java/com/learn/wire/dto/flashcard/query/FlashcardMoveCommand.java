@@ -0,0 +1,44 @@
+package com.learn.wire.dto.flashcard.query;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.collections4.ListUtils;
+
+import com.learn.wire.constant.ErrorMessageConst;
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.dto.flashcard.request.FlashcardMoveRequest;
+import com.learn.wire.exception.BadRequestException;
+
+public record FlashcardMoveCommand(
+        Long sourceDeckId,
+        Long targetDeckId,
+        List<Long> flashcardIds,
+        boolean deleteSourceDeck) {
+
+    public static FlashcardMoveCommand fromRequest(Long sourceDeckId, FlashcardMoveRequest request) {
+        if ((sourceDeckId == null) || (request == null) || (request.targetDeckId() == null)) {
+            throw new BadRequestException(ErrorMessageConst.COMMON_ERROR_INVALID_REQUEST);
+        }
+        if (sourceDeckId.equals(request.targetDeckId())) {
+            throw new BadRequestException(FlashcardConst.MOVE_TARGET_INVALID_KEY);
+        }
+        final var flashcardIds = ListUtils.emptyIfNull(request.flashcardIds());
+        if (flashcardIds.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException(ErrorMessageConst.COMMON_ERROR_INVALID_REQUEST);
+        }
+        final var distinctIds = List.copyOf(new LinkedHashSet<>(flashcardIds));
+        if (distinctIds.size() > FlashcardConst.MOVE_MAX_SELECTION) {
+            throw new BadRequestException(FlashcardConst.MOVE_SELECTION_SIZE_INVALID_KEY, FlashcardConst.MOVE_MAX_SELECTION);
+        }
+        if (request.deleteSourceDeck() && !distinctIds.isEmpty()) {
+            throw new BadRequestException(FlashcardConst.MOVE_MERGE_REQUIRES_ALL_KEY);
+        }
+        return new FlashcardMoveCommand(sourceDeckId, request.targetDeckId(), distinctIds, request.deleteSourceDeck());
+    }
+
+    public boolean isMoveAll() {
+        return this.flashcardIds.isEmpty();
+    }
+}
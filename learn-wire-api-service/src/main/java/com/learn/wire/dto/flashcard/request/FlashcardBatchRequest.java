@@ -0,0 +1,13 @@
+package com.learn.wire.dto.flashcard.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+
+public record FlashcardBatchRequest(
+        List<@Valid FlashcardCreateRequest> creates,
+
+        List<@Valid FlashcardBatchUpdateRequest> updates,
+
+        List<Long> deleteIds) {
+}
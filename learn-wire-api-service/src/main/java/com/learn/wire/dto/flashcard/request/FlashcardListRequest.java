@@ -1,6 +1,7 @@
 package com.learn.wire.dto.flashcard.request;
 
 import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.constant.PageConst;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,4 +17,6 @@ public class FlashcardListRequest {
     private String search = "";
     private String sortBy = FlashcardConst.SORT_BY_CREATED_AT;
     private String sortDirection = FlashcardConst.SORT_DIRECTION_DESC;
+    private String cursor;
+    private boolean includeTotal = PageConst.DEFAULT_INCLUDE_TOTAL;
 }
@@ -0,0 +1,11 @@
+package com.learn.wire.dto.flashcard.request;
+
+import java.util.List;
+
+public record FlashcardMoveRequest(
+        Long targetDeckId,
+
+        List<Long> flashcardIds,
+
+        boolean deleteSourceDeck) {
+}
@@ -0,0 +1,10 @@
+package com.learn.wire.dto.flashcard.response;
+
+import java.util.List;
+
+public record FlashcardBatchResponse(
+        Long deckId,
+        List<FlashcardResponse> created,
+        List<FlashcardResponse> updated,
+        List<Long> deletedIds) {
+}
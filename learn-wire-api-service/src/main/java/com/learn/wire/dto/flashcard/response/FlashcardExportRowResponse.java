@@ -0,0 +1,11 @@
+package com.learn.wire.dto.flashcard.response;
+
+public record FlashcardExportRowResponse(
+        Long id,
+        Long deckId,
+        String deckName,
+        String frontText,
+        String backText,
+        String frontLangCode,
+        String backLangCode) {
+}
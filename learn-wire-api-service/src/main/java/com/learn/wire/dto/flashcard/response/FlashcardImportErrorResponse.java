@@ -0,0 +1,7 @@
+package com.learn.wire.dto.flashcard.response;
+
+public record FlashcardImportErrorResponse(
+        long rowNumber,
+        String messageKey,
+        String message) {
+}
@@ -0,0 +1,10 @@
+package com.learn.wire.dto.flashcard.response;
+
+import java.util.List;
+
+public record FlashcardImportResponse(
+        Long deckId,
+        int importedCount,
+        int failedCount,
+        List<FlashcardImportErrorResponse> errors) {
+}
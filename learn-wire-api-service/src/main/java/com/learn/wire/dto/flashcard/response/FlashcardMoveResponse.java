@@ -0,0 +1,8 @@
+package com.learn.wire.dto.flashcard.response;
+
+public record FlashcardMoveResponse(
+        Long sourceDeckId,
+        Long targetDeckId,
+        int movedCount,
+        boolean sourceDeckDeleted) {
+}
@@ -1,7 +1,12 @@
 package com.learn.wire.dto.folder.query;
 
+import java.util.List;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+
 import com.learn.wire.constant.FolderConst;
 import com.learn.wire.constant.ErrorMessageConst;
+import com.learn.wire.dto.common.query.KeysetCursor;
 import com.learn.wire.dto.common.query.SortDirection;
 import com.learn.wire.dto.folder.request.FolderListRequest;
 import com.learn.wire.exception.BadRequestException;
@@ -12,7 +17,9 @@ public record FolderListQuery(
         String search,
         Long parentFolderId,
         FolderSortField sortField,
-        SortDirection sortDirection) {
+        SortDirection sortDirection,
+        boolean includeTotal,
+        KeysetScrollPosition keysetPosition) {
 
     public static FolderListQuery fromRequest(FolderListRequest request) {
         if (request == null) {
@@ -34,6 +41,13 @@ public record FolderListQuery(
                 request.getSortDirection(),
                 FolderConst.SORT_DIRECTION_INVALID_KEY);
         final var normalizedSearch = normalizeSearch(request.getSearch());
+        final var keysetPosition = KeysetCursor.resolvePosition(
+                request.getCursor(),
+                request.isIncludeTotal(),
+                resolvedSortField.value(),
+                resolvedSortDirection.value(),
+                KeysetCursor.filterFingerprint(normalizedSearch, request.getParentFolderId()),
+                List.of(resolvedSortField.sortProperty(), FolderConst.SORT_BY_TIE_BREAKER));
 
         return new FolderListQuery(
                 page,
@@ -41,7 +55,17 @@ public record FolderListQuery(
                 normalizedSearch,
                 request.getParentFolderId(),
                 resolvedSortField,
-                resolvedSortDirection);
+                resolvedSortDirection,
+                request.isIncludeTotal(),
+                keysetPosition);
+    }
+
+    public boolean isKeyset() {
+        return this.keysetPosition != null;
+    }
+
+    public String filterFingerprint() {
+        return KeysetCursor.filterFingerprint(this.search, this.parentFolderId);
     }
 
     private static String normalizeSearch(String search) {
@@ -1,6 +1,7 @@
 package com.learn.wire.dto.folder.request;
 
 import com.learn.wire.constant.FolderConst;
+import com.learn.wire.constant.PageConst;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,4 +18,6 @@ public class FolderListRequest {
     private Long parentFolderId;
     private String sortBy = FolderConst.SORT_BY_CREATED_AT;
     private String sortDirection = FolderConst.SORT_DIRECTION_DESC;
+    private String cursor;
+    private boolean includeTotal = PageConst.DEFAULT_INCLUDE_TOTAL;
 }
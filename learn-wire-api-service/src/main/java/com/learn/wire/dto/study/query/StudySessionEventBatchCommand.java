@@ -0,0 +1,44 @@
+package com.learn.wire.dto.study.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.learn.wire.constant.ErrorMessageConst;
+import com.learn.wire.constant.StudyConst;
+import com.learn.wire.dto.study.request.StudySessionEventBatchRequest;
+import com.learn.wire.dto.study.request.StudySessionEventRequest;
+import com.learn.wire.exception.BadRequestException;
+
+public record StudySessionEventBatchCommand(
+        List<StudySessionEventCommand> events) {
+
+    public static StudySessionEventBatchCommand fromRequest(StudySessionEventBatchRequest request) {
+        if (request == null) {
+            throw new BadRequestException(ErrorMessageConst.COMMON_ERROR_INVALID_REQUEST);
+        }
+        final var rawEvents = request.events();
+        if ((rawEvents == null) || rawEvents.isEmpty() || (rawEvents.size() > StudyConst.EVENT_BATCH_MAX_SIZE)) {
+            throw new BadRequestException(StudyConst.EVENT_BATCH_SIZE_INVALID_KEY);
+        }
+        return new StudySessionEventBatchCommand(dedupeEvents(rawEvents));
+    }
+
+    private static List<StudySessionEventCommand> dedupeEvents(List<StudySessionEventRequest> rawEvents) {
+        final Set<Integer> seenSequences = new HashSet<>();
+        final Set<String> seenEventIds = new HashSet<>();
+        final List<StudySessionEventCommand> events = new ArrayList<>(rawEvents.size());
+        for (final StudySessionEventRequest rawEvent : rawEvents) {
+            final var event = StudySessionEventCommand.fromRequest(rawEvent);
+            if (!seenSequences.add(event.clientSequence())) {
+                continue;
+            }
+            if (!seenEventIds.add(event.clientEventId())) {
+                continue;
+            }
+            events.add(event);
+        }
+        return List.copyOf(events);
+    }
+}
@@ -0,0 +1,7 @@
+package com.learn.wire.dto.study.request;
+
+import java.util.List;
+
+public record StudySessionEventBatchRequest(
+        List<StudySessionEventRequest> events) {
+}
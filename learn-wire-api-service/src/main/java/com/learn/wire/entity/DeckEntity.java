@@ -38,6 +38,15 @@ public class DeckEntity extends AuditableSoftDeleteEntity {
     @Column(name = "description", nullable = false, length = DeckConst.DESCRIPTION_MAX_LENGTH)
     private String description;
 
+    @Column(name = "search_name", nullable = false, length = DeckConst.NAME_MAX_LENGTH)
+    private String searchName;
+
+    @Column(name = "search_description", nullable = false, length = DeckConst.DESCRIPTION_MAX_LENGTH)
+    private String searchDescription;
+
+    @Column(name = "flashcard_count", nullable = false, updatable = false)
+    private int flashcardCount;
+
     @Column(name = "term_lang_code", length = 10)
     private String termLangCode;
 
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -22,7 +23,11 @@ import lombok.Setter;
 public class FlashcardEntity extends AuditableSoftDeleteEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = FlashcardConst.ID_GENERATOR_NAME)
+    @SequenceGenerator(
+            name = FlashcardConst.ID_GENERATOR_NAME,
+            sequenceName = FlashcardConst.ID_SEQUENCE_NAME,
+            allocationSize = FlashcardConst.ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -35,6 +40,12 @@ public class FlashcardEntity extends AuditableSoftDeleteEntity {
     @Column(name = "back_text", nullable = false, length = FlashcardConst.BACK_TEXT_MAX_LENGTH)
     private String backText;
 
+    @Column(name = "search_front_text", nullable = false, length = FlashcardConst.FRONT_TEXT_MAX_LENGTH)
+    private String searchFrontText;
+
+    @Column(name = "search_back_text", nullable = false, length = FlashcardConst.BACK_TEXT_MAX_LENGTH)
+    private String searchBackText;
+
     @Column(name = "front_lang_code", length = 10)
     private String frontLangCode;
 
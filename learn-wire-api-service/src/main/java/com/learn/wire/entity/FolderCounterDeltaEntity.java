@@ -0,0 +1,50 @@
+package com.learn.wire.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.learn.wire.constant.FolderConst;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = FolderConst.COUNTER_DELTA_TABLE_NAME)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FolderCounterDeltaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = FolderConst.COUNTER_DELTA_ID_GENERATOR_NAME)
+    @SequenceGenerator(
+            name = FolderConst.COUNTER_DELTA_ID_GENERATOR_NAME,
+            sequenceName = FolderConst.COUNTER_DELTA_ID_SEQUENCE_NAME,
+            allocationSize = FolderConst.COUNTER_DELTA_ID_ALLOCATION_SIZE)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "folder_id", nullable = false)
+    private Long folderId;
+
+    @Column(name = "direct_delta", nullable = false)
+    private int directDelta;
+
+    @Column(name = "aggregate_delta", nullable = false)
+    private int aggregateDelta;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
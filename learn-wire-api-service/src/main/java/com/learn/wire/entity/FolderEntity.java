@@ -32,16 +32,34 @@ public class FolderEntity extends AuditableSoftDeleteEntity {
     @Column(name = "description", nullable = false, length = FolderConst.DESCRIPTION_MAX_LENGTH)
     private String description;
 
+    @Column(name = "search_name", nullable = false, length = FolderConst.NAME_MAX_LENGTH)
+    private String searchName;
+
+    @Column(name = "search_description", nullable = false, length = FolderConst.DESCRIPTION_MAX_LENGTH)
+    private String searchDescription;
+
     @Column(name = "color_hex", nullable = false, length = FolderConst.COLOR_HEX_MAX_LENGTH)
     private String colorHex;
 
     @Column(name = "parent_folder_id")
     private Long parentFolderId;
 
-    @Column(name = "direct_flashcard_count", nullable = false)
+    @Column(name = "ancestor_path", nullable = false, length = FolderConst.ANCESTOR_PATH_MAX_LENGTH)
+    private String ancestorPath;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    @Column(name = "direct_flashcard_count", nullable = false, updatable = false)
     private int directFlashcardCount;
 
-    @Column(name = "aggregate_flashcard_count", nullable = false)
+    @Column(name = "aggregate_flashcard_count", nullable = false, updatable = false)
     private int aggregateFlashcardCount;
 
+    @Column(name = "direct_deck_count", nullable = false, updatable = false)
+    private int directDeckCount;
+
+    @Column(name = "child_folder_count", nullable = false, updatable = false)
+    private int childFolderCount;
+
 }
@@ -0,0 +1,36 @@
+package com.learn.wire.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.learn.wire.constant.JobConst;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = JobConst.CHECKPOINT_TABLE_NAME)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpointEntity {
+
+    @Id
+    @Column(name = "job_name", length = JobConst.JOB_NAME_MAX_LENGTH)
+    private String jobName;
+
+    @Column(name = "checkpoint_value", nullable = false, length = JobConst.CHECKPOINT_VALUE_MAX_LENGTH)
+    private String checkpointValue;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
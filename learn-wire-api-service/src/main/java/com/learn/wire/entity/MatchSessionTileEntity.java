@@ -13,6 +13,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -28,20 +29,27 @@ import lombok.Setter;
 public class MatchSessionTileEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = StudyConst.MATCH_TILE_ID_GENERATOR_NAME)
+    @SequenceGenerator(
+            name = StudyConst.MATCH_TILE_ID_GENERATOR_NAME,
+            sequenceName = StudyConst.MATCH_TILE_ID_SEQUENCE_NAME,
+            allocationSize = StudyConst.ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
     @Column(name = "mode_state_id", nullable = false)
     private Long modeStateId;
 
+    @Column(name = "snapshot_item_id")
+    private Long snapshotItemId;
+
     @Column(name = "pair_key", nullable = false)
     private int pairKey;
 
     @Column(name = "side", nullable = false, length = StudyConst.TILE_SIDE_MAX_LENGTH)
     private String side;
 
-    @Column(name = "label_text", nullable = false, length = FlashcardConst.BACK_TEXT_MAX_LENGTH)
+    @Column(name = "label_text", length = FlashcardConst.BACK_TEXT_MAX_LENGTH)
     private String labelText;
 
     @Column(name = "tile_order", nullable = false)
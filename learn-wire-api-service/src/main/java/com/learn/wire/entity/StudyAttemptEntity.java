@@ -11,14 +11,25 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = StudyConst.ATTEMPT_TABLE_NAME)
+@Table(
+        name = StudyConst.ATTEMPT_TABLE_NAME,
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = StudyConst.ATTEMPT_EVENT_ID_CONSTRAINT_NAME,
+                        columnNames = { "mode_state_id", "client_event_id" }),
+                @UniqueConstraint(
+                        name = StudyConst.ATTEMPT_SEQUENCE_CONSTRAINT_NAME,
+                        columnNames = { "mode_state_id", "client_sequence" })
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,7 +37,11 @@ import lombok.Setter;
 public class StudyAttemptEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = StudyConst.ATTEMPT_ID_GENERATOR_NAME)
+    @SequenceGenerator(
+            name = StudyConst.ATTEMPT_ID_GENERATOR_NAME,
+            sequenceName = StudyConst.ATTEMPT_ID_SEQUENCE_NAME,
+            allocationSize = StudyConst.ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
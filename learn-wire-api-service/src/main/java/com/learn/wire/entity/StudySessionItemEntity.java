@@ -12,6 +12,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -27,23 +28,30 @@ import lombok.Setter;
 public class StudySessionItemEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = StudyConst.SESSION_ITEM_ID_GENERATOR_NAME)
+    @SequenceGenerator(
+            name = StudyConst.SESSION_ITEM_ID_GENERATOR_NAME,
+            sequenceName = StudyConst.SESSION_ITEM_ID_SEQUENCE_NAME,
+            allocationSize = StudyConst.ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
     @Column(name = "mode_state_id", nullable = false)
     private Long modeStateId;
 
+    @Column(name = "snapshot_item_id")
+    private Long snapshotItemId;
+
     @Column(name = "flashcard_id", nullable = false)
     private Long flashcardId;
 
     @Column(name = "item_order", nullable = false)
     private int itemOrder;
 
-    @Column(name = "front_text", nullable = false, length = FlashcardConst.FRONT_TEXT_MAX_LENGTH)
+    @Column(name = "front_text", length = FlashcardConst.FRONT_TEXT_MAX_LENGTH)
     private String frontText;
 
-    @Column(name = "back_text", nullable = false, length = FlashcardConst.BACK_TEXT_MAX_LENGTH)
+    @Column(name = "back_text", length = FlashcardConst.BACK_TEXT_MAX_LENGTH)
     private String backText;
 
     @CreationTimestamp
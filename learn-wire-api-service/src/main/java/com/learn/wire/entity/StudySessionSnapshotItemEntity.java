@@ -12,6 +12,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -27,7 +28,11 @@ import lombok.Setter;
 public class StudySessionSnapshotItemEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = StudyConst.SESSION_SNAPSHOT_ITEM_ID_GENERATOR_NAME)
+    @SequenceGenerator(
+            name = StudyConst.SESSION_SNAPSHOT_ITEM_ID_GENERATOR_NAME,
+            sequenceName = StudyConst.SESSION_SNAPSHOT_ITEM_ID_SEQUENCE_NAME,
+            allocationSize = StudyConst.ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
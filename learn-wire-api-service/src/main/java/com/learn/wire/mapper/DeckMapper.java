@@ -14,7 +14,10 @@ public interface DeckMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "folderId", ignore = true)
     @Mapping(target = "normalizedName", ignore = true)
+    @Mapping(target = "searchName", ignore = true)
+    @Mapping(target = "searchDescription", ignore = true)
     @Mapping(target = "termLangCode", ignore = true)
+    @Mapping(target = "flashcardCount", ignore = true)
     @Mapping(target = "settingAutoPlayAudioOverride", ignore = true)
     @Mapping(target = "settingCardsPerSessionOverride", ignore = true)
     @Mapping(target = "settingTtsVoiceIdOverride", ignore = true)
@@ -32,7 +35,10 @@ public interface DeckMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "folderId", ignore = true)
     @Mapping(target = "normalizedName", ignore = true)
+    @Mapping(target = "searchName", ignore = true)
+    @Mapping(target = "searchDescription", ignore = true)
     @Mapping(target = "termLangCode", ignore = true)
+    @Mapping(target = "flashcardCount", ignore = true)
     @Mapping(target = "settingAutoPlayAudioOverride", ignore = true)
     @Mapping(target = "settingCardsPerSessionOverride", ignore = true)
     @Mapping(target = "settingTtsVoiceIdOverride", ignore = true)
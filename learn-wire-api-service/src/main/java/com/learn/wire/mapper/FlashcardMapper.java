@@ -13,6 +13,8 @@ public interface FlashcardMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "deckId", ignore = true)
+    @Mapping(target = "searchFrontText", ignore = true)
+    @Mapping(target = "searchBackText", ignore = true)
     @Mapping(target = "frontLangCode", ignore = true)
     @Mapping(target = "backLangCode", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
@@ -25,6 +27,8 @@ public interface FlashcardMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "deckId", ignore = true)
+    @Mapping(target = "searchFrontText", ignore = true)
+    @Mapping(target = "searchBackText", ignore = true)
     @Mapping(target = "frontLangCode", ignore = true)
     @Mapping(target = "backLangCode", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
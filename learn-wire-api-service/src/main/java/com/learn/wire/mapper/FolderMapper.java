@@ -12,8 +12,14 @@ import org.mapstruct.MappingTarget;
 public interface FolderMapper {
 
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "searchName", ignore = true)
+	@Mapping(target = "searchDescription", ignore = true)
+	@Mapping(target = "ancestorPath", ignore = true)
+	@Mapping(target = "depth", ignore = true)
 	@Mapping(target = "directFlashcardCount", ignore = true)
 	@Mapping(target = "aggregateFlashcardCount", ignore = true)
+	@Mapping(target = "directDeckCount", ignore = true)
+	@Mapping(target = "childFolderCount", ignore = true)
 	@Mapping(target = "createdBy", ignore = true)
 	@Mapping(target = "updatedBy", ignore = true)
 	@Mapping(target = "deletedBy", ignore = true)
@@ -23,8 +29,14 @@ public interface FolderMapper {
 	FolderEntity toEntity(FolderCreateRequest request);
 
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "searchName", ignore = true)
+	@Mapping(target = "searchDescription", ignore = true)
+	@Mapping(target = "ancestorPath", ignore = true)
+	@Mapping(target = "depth", ignore = true)
 	@Mapping(target = "directFlashcardCount", ignore = true)
 	@Mapping(target = "aggregateFlashcardCount", ignore = true)
+	@Mapping(target = "directDeckCount", ignore = true)
+	@Mapping(target = "childFolderCount", ignore = true)
 	@Mapping(target = "createdBy", ignore = true)
 	@Mapping(target = "updatedBy", ignore = true)
 	@Mapping(target = "deletedBy", ignore = true)
@@ -0,0 +1,109 @@
+package com.learn.wire.observability;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import com.learn.wire.constant.ObservabilityConst;
+import com.learn.wire.dto.study.query.StudySessionEventCommand;
+import com.learn.wire.service.engine.StudyModeEngine;
+
+@Aspect
+@Component
+public class FlightRecorderAspect {
+
+    @Around(ObservabilityConst.STUDY_MODE_ENGINE_POINTCUT)
+    public Object recordEngineCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        final var event = new StudyEngineFlightEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        var failed = true;
+        try {
+            final var result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.mode = ((StudyModeEngine) joinPoint.getTarget()).mode().value();
+                event.operation = joinPoint.getSignature().getName();
+                event.failed = failed;
+                describeEvents(event, joinPoint.getArgs());
+                event.commit();
+            }
+        }
+    }
+
+    @Around(ObservabilityConst.REPOSITORY_POINTCUT)
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        final var event = new RepositoryCallFlightEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        var failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = resolveRepositoryName(joinPoint);
+                event.method = joinPoint.getSignature().getName();
+                event.rows = countRows(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private void describeEvents(StudyEngineFlightEvent event, Object[] args) {
+        for (final Object arg : args) {
+            if (arg instanceof StudySessionEventCommand command) {
+                event.eventType = command.eventType().value();
+                event.eventCount = 1;
+                return;
+            }
+            if (arg instanceof List<?> commands) {
+                event.eventType = ObservabilityConst.JFR_EVENT_TYPE_BATCH;
+                event.eventCount = commands.size();
+                return;
+            }
+        }
+    }
+
+    private String resolveRepositoryName(ProceedingJoinPoint joinPoint) {
+        final var interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        return interfaces[0].getSimpleName();
+    }
+
+    private int countRows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> row) {
+            return row.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer affectedRows) {
+            return affectedRows;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,31 @@
+package com.learn.wire.observability;
+
+import org.springframework.stereotype.Component;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class FolderCountDriftMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordReconciled(long directDrift, long aggregateDrift) {
+        Counter.builder(ObservabilityConst.FOLDER_COUNT_RECONCILED_METRIC)
+                .register(this.meterRegistry)
+                .increment();
+        recordDrift(ObservabilityConst.COUNTER_DIRECT, directDrift);
+        recordDrift(ObservabilityConst.COUNTER_AGGREGATE, aggregateDrift);
+    }
+
+    private void recordDrift(String counter, long drift) {
+        Counter.builder(ObservabilityConst.FOLDER_COUNT_DRIFT_METRIC)
+                .tag(ObservabilityConst.TAG_COUNTER, counter)
+                .register(this.meterRegistry)
+                .increment(drift);
+    }
+}
@@ -0,0 +1,36 @@
+package com.learn.wire.observability;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ObservabilityConst.JFR_FOLDER_COUNTER_EVENT)
+@Label("Folder Counter Propagation")
+@Category(ObservabilityConst.JFR_CATEGORY)
+@StackTrace(false)
+public class FolderCounterFlightEvent extends Event {
+
+    @Label("Folder Id")
+    private long folderId;
+
+    @Label("Depth")
+    private int depth;
+
+    @Label("Rows Touched")
+    private int rowsTouched;
+
+    public void complete(Long startFolderId, int propagationDepth, int touchedCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.folderId = startFolderId;
+        this.depth = propagationDepth;
+        this.rowsTouched = touchedCount;
+        commit();
+    }
+}
@@ -0,0 +1,27 @@
+package com.learn.wire.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = ObservabilityConst.OBSERVABILITY_PROPERTIES_PREFIX)
+public class ObservabilityProperties {
+
+    private boolean sqlHeadersEnabled;
+
+    private boolean serverTimingEnabled;
+
+    @Positive
+    private long slowRequestThresholdMillis = ObservabilityConst.SLOW_REQUEST_THRESHOLD_MILLIS_DEFAULT;
+
+    @Positive
+    private int sqlStatementBudget = ObservabilityConst.SQL_STATEMENT_BUDGET_DEFAULT;
+}
@@ -0,0 +1,30 @@
+package com.learn.wire.observability;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name(ObservabilityConst.JFR_REPOSITORY_CALL_EVENT)
+@Label("Repository Call")
+@Category(ObservabilityConst.JFR_CATEGORY)
+@Threshold(ObservabilityConst.JFR_REPOSITORY_CALL_THRESHOLD)
+@StackTrace(false)
+class RepositoryCallFlightEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Failed")
+    boolean failed;
+}
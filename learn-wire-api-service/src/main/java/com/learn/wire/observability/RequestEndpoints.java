@@ -0,0 +1,38 @@
+package com.learn.wire.observability;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+final class RequestEndpoints {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private RequestEndpoints() {
+    }
+
+    static boolean isMapped(HttpServletRequest request) {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) != null;
+    }
+
+    static boolean isStreaming(HttpServletRequest request) {
+        final var path = request.getRequestURI().substring(request.getContextPath().length());
+        for (final String pattern : ObservabilityConst.STREAMING_ENDPOINT_PATTERNS) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String resolve(HttpServletRequest request) {
+        final var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return request.getMethod() + ObservabilityConst.ENDPOINT_SEPARATOR + request.getRequestURI();
+        }
+        return request.getMethod() + ObservabilityConst.ENDPOINT_SEPARATOR + pattern;
+    }
+}
@@ -0,0 +1,32 @@
+package com.learn.wire.observability;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+@Aspect
+@Component
+public class ServerTimingAspect {
+
+    @Around(ObservabilityConst.REPOSITORY_POINTCUT)
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePhase(joinPoint, ServerTimingPhase.DB);
+    }
+
+    @Around(ObservabilityConst.STUDY_MODE_ENGINE_POINTCUT)
+    public Object timeEngineCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePhase(joinPoint, ServerTimingPhase.ENGINE);
+    }
+
+    private Object timePhase(ProceedingJoinPoint joinPoint, ServerTimingPhase phase) throws Throwable {
+        ServerTimingRecorder.enter(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ServerTimingRecorder.exit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.learn.wire.observability;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.learn.wire.constant.LogConst;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final ObservabilityProperties observabilityProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !this.observabilityProperties.isServerTimingEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        final var timingResponse = new ServerTimingResponseWrapper(response);
+        ServerTimingRecorder.start();
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            final var timing = ServerTimingRecorder.finish();
+            timingResponse.writeTimingHeader(timing);
+            logSlowRequest(request, timingResponse, timing);
+        }
+    }
+
+    private void logSlowRequest(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            ServerTimingSnapshot timing) {
+        if (timing.totalMillis() < this.observabilityProperties.getSlowRequestThresholdMillis()) {
+            return;
+        }
+        log.warn(
+                LogConst.SLOW_REQUEST,
+                RequestEndpoints.resolve(request),
+                response.getStatus(),
+                Math.round(timing.totalMillis()),
+                Math.round(timing.phaseMillis(ServerTimingPhase.AUTH)),
+                Math.round(timing.phaseMillis(ServerTimingPhase.DB)),
+                Math.round(timing.phaseMillis(ServerTimingPhase.ENGINE)),
+                Math.round(timing.phaseMillis(ServerTimingPhase.SERIALIZE)));
+    }
+}
@@ -0,0 +1,20 @@
+package com.learn.wire.observability;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+public enum ServerTimingPhase {
+    AUTH(ObservabilityConst.SERVER_TIMING_AUTH),
+    DB(ObservabilityConst.SERVER_TIMING_DB),
+    ENGINE(ObservabilityConst.SERVER_TIMING_ENGINE),
+    SERIALIZE(ObservabilityConst.SERVER_TIMING_SERIALIZE);
+
+    private final String value;
+
+    ServerTimingPhase(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return this.value;
+    }
+}
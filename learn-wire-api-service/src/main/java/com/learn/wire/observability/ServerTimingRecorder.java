@@ -0,0 +1,99 @@
+package com.learn.wire.observability;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+
+public final class ServerTimingRecorder {
+
+    private static final ThreadLocal<Timeline> TIMELINE = new ThreadLocal<>();
+
+    private ServerTimingRecorder() {
+    }
+
+    public static void start() {
+        TIMELINE.set(new Timeline(System.nanoTime()));
+    }
+
+    public static void enter(ServerTimingPhase phase) {
+        final var timeline = TIMELINE.get();
+        if (timeline == null) {
+            return;
+        }
+        timeline.enter(phase, System.nanoTime());
+    }
+
+    public static void exit() {
+        final var timeline = TIMELINE.get();
+        if (timeline == null) {
+            return;
+        }
+        timeline.exit(System.nanoTime());
+    }
+
+    public static ServerTimingSnapshot snapshot() {
+        final var timeline = TIMELINE.get();
+        if (timeline == null) {
+            return null;
+        }
+        return timeline.snapshot(System.nanoTime());
+    }
+
+    public static ServerTimingSnapshot finish() {
+        final var timeline = TIMELINE.get();
+        TIMELINE.remove();
+        if (timeline == null) {
+            return new ServerTimingSnapshot(Map.of(), 0L);
+        }
+        return timeline.finish(System.nanoTime());
+    }
+
+    private static final class Timeline {
+
+        private final long startedAtNanos;
+        private final Map<ServerTimingPhase, Long> phaseNanos = new EnumMap<>(ServerTimingPhase.class);
+        private final Deque<ServerTimingPhase> activePhases = new ArrayDeque<>();
+        private long segmentStartedAtNanos;
+
+        private Timeline(long startedAtNanos) {
+            this.startedAtNanos = startedAtNanos;
+            this.segmentStartedAtNanos = startedAtNanos;
+        }
+
+        private void enter(ServerTimingPhase phase, long nowNanos) {
+            closeSegment(nowNanos);
+            this.activePhases.push(phase);
+        }
+
+        private void exit(long nowNanos) {
+            if (this.activePhases.isEmpty()) {
+                return;
+            }
+            closeSegment(nowNanos);
+            this.activePhases.pop();
+        }
+
+        private ServerTimingSnapshot finish(long nowNanos) {
+            closeSegment(nowNanos);
+            return new ServerTimingSnapshot(Map.copyOf(this.phaseNanos), nowNanos - this.startedAtNanos);
+        }
+
+        private ServerTimingSnapshot snapshot(long nowNanos) {
+            final Map<ServerTimingPhase, Long> snapshotNanos = new EnumMap<>(this.phaseNanos);
+            final var activePhase = this.activePhases.peek();
+            if (activePhase != null) {
+                snapshotNanos.merge(activePhase, nowNanos - this.segmentStartedAtNanos, Long::sum);
+            }
+            return new ServerTimingSnapshot(Map.copyOf(snapshotNanos), nowNanos - this.startedAtNanos);
+        }
+
+        private void closeSegment(long nowNanos) {
+            final var activePhase = this.activePhases.peek();
+            if (activePhase != null) {
+                this.phaseNanos.merge(activePhase, nowNanos - this.segmentStartedAtNanos, Long::sum);
+            }
+            this.segmentStartedAtNanos = nowNanos;
+        }
+    }
+}
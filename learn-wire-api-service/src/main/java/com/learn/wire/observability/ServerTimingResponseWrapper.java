@@ -0,0 +1,53 @@
+package com.learn.wire.observability;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    private boolean serializationStarted;
+
+    ServerTimingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        markSerializationStarted();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        markSerializationStarted();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeTimingHeader(ServerTimingRecorder.snapshot());
+        super.flushBuffer();
+    }
+
+    void writeTimingHeader(ServerTimingSnapshot timing) {
+        if ((timing == null) || isCommitted()) {
+            return;
+        }
+        setHeader(ObservabilityConst.SERVER_TIMING_HEADER, timing.headerValue());
+    }
+
+    private void markSerializationStarted() {
+        if (this.serializationStarted) {
+            return;
+        }
+        this.serializationStarted = true;
+        writeTimingHeader(ServerTimingRecorder.snapshot());
+        ServerTimingRecorder.enter(ServerTimingPhase.SERIALIZE);
+    }
+}
@@ -0,0 +1,42 @@
+package com.learn.wire.observability;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+public record ServerTimingSnapshot(
+        Map<ServerTimingPhase, Long> phaseNanos,
+        long totalNanos) {
+
+    public double phaseMillis(ServerTimingPhase phase) {
+        return toMillis(this.phaseNanos.getOrDefault(phase, 0L));
+    }
+
+    public double totalMillis() {
+        return toMillis(this.totalNanos);
+    }
+
+    public String headerValue() {
+        final List<String> entries = new ArrayList<>();
+        for (final ServerTimingPhase phase : ServerTimingPhase.values()) {
+            // The header is committed before the body is written, so serialization only reaches the slow-request log.
+            if (phase == ServerTimingPhase.SERIALIZE) {
+                continue;
+            }
+            entries.add(formatEntry(phase.value(), phaseMillis(phase)));
+        }
+        entries.add(formatEntry(ObservabilityConst.SERVER_TIMING_TOTAL, totalMillis()));
+        return String.join(ObservabilityConst.SERVER_TIMING_ENTRY_SEPARATOR, entries);
+    }
+
+    private static String formatEntry(String name, double millis) {
+        return String.format(Locale.ROOT, ObservabilityConst.SERVER_TIMING_ENTRY_FORMAT, name, millis);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / ObservabilityConst.NANOS_PER_MILLI_DECIMAL;
+    }
+}
@@ -0,0 +1,41 @@
+package com.learn.wire.observability;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around(ObservabilityConst.SERVICE_IMPL_POINTCUT)
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        final var sample = Timer.start(this.meterRegistry);
+        var outcome = ObservabilityConst.OUTCOME_SUCCESS;
+        var exception = ObservabilityConst.EXCEPTION_NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            outcome = ObservabilityConst.OUTCOME_ERROR;
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            sample.stop(Timer.builder(ObservabilityConst.SERVICE_CALL_METRIC)
+                    .tag(ObservabilityConst.TAG_SERVICE, joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag(ObservabilityConst.TAG_METHOD, joinPoint.getSignature().getName())
+                    .tag(ObservabilityConst.TAG_OUTCOME, outcome)
+                    .tag(ObservabilityConst.TAG_EXCEPTION, exception)
+                    .register(this.meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.learn.wire.observability;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.constant.ObservabilityConst;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final ObservabilityProperties observabilityProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        final var baseline = SqlStatementRecorder.snapshot();
+        if (!this.observabilityProperties.isSqlHeadersEnabled() || RequestEndpoints.isStreaming(request)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                report(request, baseline);
+            }
+            return;
+        }
+        if (WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class) != null) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                writeHeaders(response, report(request, baseline));
+            }
+            return;
+        }
+        final var cachingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, cachingResponse);
+        } finally {
+            writeHeaders(cachingResponse, report(request, baseline));
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private SqlStatementSnapshot report(HttpServletRequest request, SqlStatementSnapshot baseline) {
+        final var metrics = SqlStatementRecorder.snapshot().minus(baseline);
+        final var endpoint = RequestEndpoints.resolve(request);
+        log.debug(
+                LogConst.SQL_REQUEST_METRICS,
+                endpoint,
+                metrics.statements(),
+                metrics.rowsHydrated(),
+                metrics.flushes(),
+                metrics.dbTimeMillis());
+        if (metrics.statements() > this.observabilityProperties.getSqlStatementBudget()) {
+            log.warn(
+                    LogConst.SQL_REQUEST_BUDGET_EXCEEDED,
+                    endpoint,
+                    metrics.statements(),
+                    this.observabilityProperties.getSqlStatementBudget());
+        }
+        if (RequestEndpoints.isMapped(request)) {
+            recordMeters(endpoint, metrics);
+        }
+        return metrics;
+    }
+
+    private void recordMeters(String endpoint, SqlStatementSnapshot metrics) {
+        DistributionSummary.builder(ObservabilityConst.SQL_STATEMENTS_METRIC)
+                .tag(ObservabilityConst.TAG_ENDPOINT, endpoint)
+                .register(this.meterRegistry)
+                .record(metrics.statements());
+        DistributionSummary.builder(ObservabilityConst.SQL_ROWS_HYDRATED_METRIC)
+                .tag(ObservabilityConst.TAG_ENDPOINT, endpoint)
+                .register(this.meterRegistry)
+                .record(metrics.rowsHydrated());
+        Timer.builder(ObservabilityConst.SQL_TIME_METRIC)
+                .tag(ObservabilityConst.TAG_ENDPOINT, endpoint)
+                .register(this.meterRegistry)
+                .record(metrics.dbTimeNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void writeHeaders(HttpServletResponse response, SqlStatementSnapshot metrics) {
+        response.setHeader(ObservabilityConst.SQL_STATEMENTS_HEADER, String.valueOf(metrics.statements()));
+        response.setHeader(ObservabilityConst.SQL_ROWS_HYDRATED_HEADER, String.valueOf(metrics.rowsHydrated()));
+        response.setHeader(ObservabilityConst.SQL_FLUSHES_HEADER, String.valueOf(metrics.flushes()));
+        response.setHeader(ObservabilityConst.SQL_TIME_MILLIS_HEADER, String.valueOf(metrics.dbTimeMillis()));
+    }
+}
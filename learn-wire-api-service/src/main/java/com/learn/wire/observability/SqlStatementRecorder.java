@@ -0,0 +1,61 @@
+package com.learn.wire.observability;
+
+import java.util.function.Consumer;
+
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Counters> COUNTERS = ThreadLocal.withInitial(Counters::new);
+    private static final ThreadLocal<Consumer<SqlStatementSnapshot>> UNIT_OF_WORK_OBSERVER = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static SqlStatementSnapshot snapshot() {
+        final var counters = COUNTERS.get();
+        return new SqlStatementSnapshot(
+                counters.statements,
+                counters.rowsHydrated,
+                counters.flushes,
+                counters.dbTimeNanos);
+    }
+
+    public static void observeUnitsOfWork(Consumer<SqlStatementSnapshot> observer) {
+        UNIT_OF_WORK_OBSERVER.set(observer);
+    }
+
+    public static void stopObservingUnitsOfWork() {
+        UNIT_OF_WORK_OBSERVER.remove();
+    }
+
+    static void recordStatement() {
+        COUNTERS.get().statements++;
+    }
+
+    static void recordRowHydrated() {
+        COUNTERS.get().rowsHydrated++;
+    }
+
+    static void recordFlush() {
+        COUNTERS.get().flushes++;
+    }
+
+    static void recordDbTime(long elapsedNanos) {
+        COUNTERS.get().dbTimeNanos += elapsedNanos;
+    }
+
+    static void completeUnitOfWork(SqlStatementSnapshot unitOfWork) {
+        final var observer = UNIT_OF_WORK_OBSERVER.get();
+        if (observer == null) {
+            return;
+        }
+        observer.accept(unitOfWork);
+    }
+
+    private static final class Counters {
+
+        private long statements;
+        private long rowsHydrated;
+        private long flushes;
+        private long dbTimeNanos;
+    }
+}
@@ -0,0 +1,45 @@
+package com.learn.wire.observability;
+
+import org.hibernate.SessionEventListener;
+
+public class SqlStatementSessionListener implements SessionEventListener {
+
+    private final SqlStatementSnapshot openedAt = SqlStatementRecorder.snapshot();
+    private long statementStartedAtNanos;
+    private long batchStartedAtNanos;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        SqlStatementRecorder.recordStatement();
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        this.statementStartedAtNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementRecorder.recordDbTime(System.nanoTime() - this.statementStartedAtNanos);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        this.batchStartedAtNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementRecorder.recordDbTime(System.nanoTime() - this.batchStartedAtNanos);
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        SqlStatementRecorder.recordFlush();
+    }
+
+    @Override
+    public void end() {
+        SqlStatementRecorder.completeUnitOfWork(SqlStatementRecorder.snapshot().minus(this.openedAt));
+    }
+}
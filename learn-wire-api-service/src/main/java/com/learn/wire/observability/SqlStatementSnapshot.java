@@ -0,0 +1,22 @@
+package com.learn.wire.observability;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+public record SqlStatementSnapshot(
+        long statements,
+        long rowsHydrated,
+        long flushes,
+        long dbTimeNanos) {
+
+    public SqlStatementSnapshot minus(SqlStatementSnapshot baseline) {
+        return new SqlStatementSnapshot(
+                this.statements - baseline.statements,
+                this.rowsHydrated - baseline.rowsHydrated,
+                this.flushes - baseline.flushes,
+                this.dbTimeNanos - baseline.dbTimeNanos);
+    }
+
+    public long dbTimeMillis() {
+        return this.dbTimeNanos / ObservabilityConst.NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,29 @@
+package com.learn.wire.observability;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+public class SqlStatementStatistics extends StatisticsImpl {
+
+    public SqlStatementStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        SqlStatementRecorder.recordStatement();
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        SqlStatementRecorder.recordRowHydrated();
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        SqlStatementRecorder.recordFlush();
+    }
+}
@@ -0,0 +1,31 @@
+package com.learn.wire.observability;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ObservabilityConst.JFR_STUDY_ENGINE_EVENT)
+@Label("Study Engine Call")
+@Category(ObservabilityConst.JFR_CATEGORY)
+@StackTrace(false)
+class StudyEngineFlightEvent extends Event {
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Event Count")
+    int eventCount;
+
+    @Label("Failed")
+    boolean failed;
+}
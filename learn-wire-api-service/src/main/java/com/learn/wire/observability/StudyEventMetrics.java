@@ -0,0 +1,43 @@
+package com.learn.wire.observability;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.learn.wire.constant.ObservabilityConst;
+import com.learn.wire.dto.study.query.StudyEventType;
+import com.learn.wire.dto.study.query.StudyMode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class StudyEventMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordApplied(StudyMode mode, StudyEventType eventType, long elapsedNanos) {
+        countEvent(mode, eventType, ObservabilityConst.OUTCOME_APPLIED);
+        Timer.builder(ObservabilityConst.STUDY_EVENT_DURATION_METRIC)
+                .tag(ObservabilityConst.TAG_MODE, mode.value())
+                .tag(ObservabilityConst.TAG_EVENT_TYPE, eventType.value())
+                .register(this.meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordDuplicate(StudyMode mode, StudyEventType eventType) {
+        countEvent(mode, eventType, ObservabilityConst.OUTCOME_DUPLICATE);
+    }
+
+    private void countEvent(StudyMode mode, StudyEventType eventType, String outcome) {
+        Counter.builder(ObservabilityConst.STUDY_EVENT_METRIC)
+                .tag(ObservabilityConst.TAG_MODE, mode.value())
+                .tag(ObservabilityConst.TAG_EVENT_TYPE, eventType.value())
+                .tag(ObservabilityConst.TAG_OUTCOME, outcome)
+                .register(this.meterRegistry)
+                .increment();
+    }
+}
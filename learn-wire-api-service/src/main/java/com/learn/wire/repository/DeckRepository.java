@@ -1,17 +1,21 @@
 package com.learn.wire.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.learn.wire.entity.DeckEntity;
 
-public interface DeckRepository extends JpaRepository<DeckEntity, Long> {
+public interface DeckRepository
+        extends JpaRepository<DeckEntity, Long>, JpaSpecificationExecutor<DeckEntity> {
 
     Optional<DeckEntity> findByIdAndCreatedByAndDeletedAtIsNull(Long id, String createdBy);
 
@@ -27,8 +31,8 @@ public interface DeckRepository extends JpaRepository<DeckEntity, Long> {
               AND deck.folderId = :folderId
               AND (
                 :search = ''
-                OR LOWER(deck.name) LIKE LOWER(CONCAT('%', :search, '%'))
-                OR LOWER(deck.description) LIKE LOWER(CONCAT('%', :search, '%'))
+                OR deck.searchName LIKE CONCAT('%', :search, '%')
+                OR deck.searchDescription LIKE CONCAT('%', :search, '%')
               )
             """)
     Page<DeckEntity> findPageByFolderAndSearch(
@@ -66,20 +70,46 @@ public interface DeckRepository extends JpaRepository<DeckEntity, Long> {
             @Param("excludeDeckId") Long excludeDeckId);
 
     @Query("""
-            SELECT deck.folderId as folderId, COUNT(deck.id) as deckCount
+            SELECT deck.id
             FROM DeckEntity deck
             WHERE deck.deletedAt IS NULL
               AND deck.createdBy = :createdBy
-              AND deck.folderId IN :folderIds
-            GROUP BY deck.folderId
+              AND deck.folderId IN (
+                SELECT folder.id
+                FROM FolderEntity folder
+                WHERE folder.createdBy = :createdBy
+                  AND folder.deletedAt IS NULL
+                  AND (folder.id = :folderId OR folder.ancestorPath LIKE :descendantPattern)
+              )
             """)
-    List<FolderDeckCountProjection> countActiveDecksByFolderIds(
-            @Param("folderIds") List<Long> folderIds,
+    List<Long> findActiveIdsInFolderSubtree(
+            @Param("folderId") Long folderId,
+            @Param("descendantPattern") String descendantPattern,
             @Param("createdBy") String createdBy);
 
-    interface FolderDeckCountProjection {
-        Long getFolderId();
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE DeckEntity deck
+            SET deck.deletedAt = :deletedAt,
+                deck.deletedBy = :deletedBy,
+                deck.updatedBy = :deletedBy,
+                deck.updatedAt = :deletedAt,
+                deck.normalizedName = NULL
+            WHERE deck.deletedAt IS NULL
+              AND deck.createdBy = :createdBy
+              AND deck.id IN :deckIds
+            """)
+    int softDeleteActiveByIds(
+            @Param("deckIds") List<Long> deckIds,
+            @Param("createdBy") String createdBy,
+            @Param("deletedBy") String deletedBy,
+            @Param("deletedAt") Instant deletedAt);
 
-        long getDeckCount();
-    }
+    @Modifying
+    @Query("""
+            UPDATE DeckEntity deck
+            SET deck.flashcardCount = deck.flashcardCount + :delta
+            WHERE deck.id = :deckId
+            """)
+    int applyFlashcardCountDelta(@Param("deckId") Long deckId, @Param("delta") int delta);
 }
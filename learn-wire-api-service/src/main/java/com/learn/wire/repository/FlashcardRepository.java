@@ -1,17 +1,29 @@
 package com.learn.wire.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.learn.wire.constant.FlashcardConst;
 import com.learn.wire.entity.FlashcardEntity;
 
-public interface FlashcardRepository extends JpaRepository<FlashcardEntity, Long> {
+import jakarta.persistence.QueryHint;
+
+public interface FlashcardRepository
+        extends JpaRepository<FlashcardEntity, Long>, JpaSpecificationExecutor<FlashcardEntity> {
 
     @Query("""
             SELECT flashcard
@@ -21,8 +33,8 @@ public interface FlashcardRepository extends JpaRepository<FlashcardEntity, Long
               AND flashcard.deckId = :deckId
               AND (
                 :search = ''
-                OR LOWER(flashcard.frontText) LIKE LOWER(CONCAT('%', :search, '%'))
-                OR LOWER(flashcard.backText) LIKE LOWER(CONCAT('%', :search, '%'))
+                OR flashcard.searchFrontText LIKE CONCAT('%', :search, '%')
+                OR flashcard.searchBackText LIKE CONCAT('%', :search, '%')
               )
             """)
     Page<FlashcardEntity> findPageByDeckAndSearch(
@@ -33,25 +45,267 @@ public interface FlashcardRepository extends JpaRepository<FlashcardEntity, Long
 
     Optional<FlashcardEntity> findByIdAndDeckIdAndCreatedByAndDeletedAtIsNull(Long id, Long deckId, String createdBy);
 
-    List<FlashcardEntity> findByDeckIdAndCreatedByAndDeletedAtIsNull(Long deckId, String createdBy);
+    @Query("""
+            SELECT f.id
+            FROM FlashcardEntity f
+            WHERE f.deckId = :deckId
+              AND f.createdBy = :createdBy
+              AND f.deletedAt IS NULL
+            ORDER BY f.id ASC
+            """)
+    List<Long> findActiveIdsByDeckId(@Param("deckId") Long deckId, @Param("createdBy") String createdBy);
 
-    long countByDeckIdAndCreatedByAndDeletedAtIsNull(Long deckId, String createdBy);
+    @Query("""
+            SELECT f.id
+            FROM FlashcardEntity f
+            WHERE f.id IN :ids
+              AND f.deckId = :deckId
+              AND f.createdBy = :createdBy
+              AND f.deletedAt IS NULL
+            """)
+    List<Long> findActiveIdsByIdsAndDeckId(
+            @Param("ids") Collection<Long> ids,
+            @Param("deckId") Long deckId,
+            @Param("createdBy") String createdBy);
 
     @Query("""
-            SELECT flashcard.deckId as deckId, COUNT(flashcard.id) as flashcardCount
-            FROM FlashcardEntity flashcard
+            SELECT DISTINCT f.frontLangCode
+            FROM FlashcardEntity f
+            WHERE f.deckId = :deckId
+              AND f.createdBy = :createdBy
+              AND f.deletedAt IS NULL
+              AND f.frontLangCode IS NOT NULL
+            """)
+    List<String> findActiveFrontLangCodesByDeckId(
+            @Param("deckId") Long deckId,
+            @Param("createdBy") String createdBy);
+
+    @Query("""
+            SELECT DISTINCT f.frontLangCode
+            FROM FlashcardEntity f
+            WHERE f.id IN :ids
+              AND f.deckId = :deckId
+              AND f.createdBy = :createdBy
+              AND f.deletedAt IS NULL
+              AND f.frontLangCode IS NOT NULL
+            """)
+    List<String> findActiveFrontLangCodesByIdsAndDeckId(
+            @Param("ids") Collection<Long> ids,
+            @Param("deckId") Long deckId,
+            @Param("createdBy") String createdBy);
+
+    @Query("""
+            SELECT DISTINCT f.backLangCode
+            FROM FlashcardEntity f
+            WHERE f.deckId = :deckId
+              AND f.createdBy = :createdBy
+              AND f.deletedAt IS NULL
+              AND f.backLangCode IS NOT NULL
+            """)
+    List<String> findActiveBackLangCodesByDeckId(
+            @Param("deckId") Long deckId,
+            @Param("createdBy") String createdBy);
+
+    @Query("""
+            SELECT COUNT(f) > 0
+            FROM FlashcardEntity f
+            WHERE f.deckId = :deckId
+              AND f.createdBy = :createdBy
+              AND f.deletedAt IS NULL
+              AND LENGTH(f.backText) > :maxLength
+            """)
+    boolean existsActiveByDeckIdWithBackTextLongerThan(
+            @Param("deckId") Long deckId,
+            @Param("createdBy") String createdBy,
+            @Param("maxLength") int maxLength);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO {h-schema}flashcards (
+                deck_id,
+                front_text,
+                back_text,
+                search_front_text,
+                search_back_text,
+                front_lang_code,
+                back_lang_code,
+                created_by,
+                updated_by,
+                created_at,
+                updated_at
+            )
+            SELECT :targetDeckId,
+                   CASE WHEN :swapSides THEN card.back_text ELSE card.front_text END,
+                   CASE WHEN :swapSides THEN card.front_text ELSE card.back_text END,
+                   CASE WHEN :swapSides THEN card.search_back_text ELSE card.search_front_text END,
+                   CASE WHEN :swapSides THEN card.search_front_text ELSE card.search_back_text END,
+                   CASE WHEN :swapSides THEN card.back_lang_code ELSE card.front_lang_code END,
+                   CASE WHEN :swapSides THEN card.front_lang_code ELSE card.back_lang_code END,
+                   :createdBy,
+                   :createdBy,
+                   :createdAt,
+                   :createdAt
+            FROM {h-schema}flashcards card
+            WHERE card.deck_id = :sourceDeckId
+              AND card.created_by = :createdBy
+              AND card.deleted_at IS NULL
+            ORDER BY card.id ASC
+            """, nativeQuery = true)
+    int copyActiveToDeck(
+            @Param("sourceDeckId") Long sourceDeckId,
+            @Param("targetDeckId") Long targetDeckId,
+            @Param("swapSides") boolean swapSides,
+            @Param("createdBy") String createdBy,
+            @Param("createdAt") Instant createdAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FlashcardEntity flashcard
+            SET flashcard.deckId = :targetDeckId,
+                flashcard.updatedBy = :updatedBy,
+                flashcard.updatedAt = :updatedAt
+            WHERE flashcard.deletedAt IS NULL
+              AND flashcard.createdBy = :createdBy
+              AND flashcard.deckId = :sourceDeckId
+            """)
+    int moveActiveByDeckId(
+            @Param("sourceDeckId") Long sourceDeckId,
+            @Param("targetDeckId") Long targetDeckId,
+            @Param("createdBy") String createdBy,
+            @Param("updatedBy") String updatedBy,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FlashcardEntity flashcard
+            SET flashcard.deckId = :targetDeckId,
+                flashcard.updatedBy = :updatedBy,
+                flashcard.updatedAt = :updatedAt
+            WHERE flashcard.deletedAt IS NULL
+              AND flashcard.createdBy = :createdBy
+              AND flashcard.deckId = :sourceDeckId
+              AND flashcard.id IN :ids
+            """)
+    int moveActiveByIdsAndDeckId(
+            @Param("ids") Collection<Long> ids,
+            @Param("sourceDeckId") Long sourceDeckId,
+            @Param("targetDeckId") Long targetDeckId,
+            @Param("createdBy") String createdBy,
+            @Param("updatedBy") String updatedBy,
+            @Param("updatedAt") Instant updatedAt);
+
+    List<FlashcardEntity> findByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
+    List<FlashcardEntity> findByIdInAndDeckIdAndCreatedByAndDeletedAtIsNull(
+            Collection<Long> ids,
+            Long deckId,
+            String createdBy);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FlashcardEntity flashcard
+            SET flashcard.deletedAt = :deletedAt,
+                flashcard.deletedBy = :deletedBy,
+                flashcard.updatedBy = :deletedBy,
+                flashcard.updatedAt = :deletedAt
             WHERE flashcard.deletedAt IS NULL
               AND flashcard.createdBy = :createdBy
               AND flashcard.deckId IN :deckIds
-            GROUP BY flashcard.deckId
             """)
-    List<DeckFlashcardCountProjection> countActiveFlashcardsByDeckIds(
+    int softDeleteActiveByDeckIds(
+            @Param("deckIds") List<Long> deckIds,
+            @Param("createdBy") String createdBy,
+            @Param("deletedBy") String deletedBy,
+            @Param("deletedAt") Instant deletedAt);
+
+    @Modifying
+    @Query(value = """
+            UPDATE {h-schema}flashcards
+            SET deleted_at = :deletedAt,
+                deleted_by = :deletedBy,
+                updated_by = :deletedBy,
+                updated_at = :deletedAt
+            WHERE id IN (
+                SELECT flashcard.id
+                FROM {h-schema}flashcards flashcard
+                WHERE flashcard.deleted_at IS NULL
+                  AND flashcard.created_by = :createdBy
+                  AND flashcard.deck_id IN (:deckIds)
+                LIMIT :chunkSize
+            )
+            """, nativeQuery = true)
+    int softDeleteActiveChunkByDeckIds(
             @Param("deckIds") List<Long> deckIds,
+            @Param("createdBy") String createdBy,
+            @Param("deletedBy") String deletedBy,
+            @Param("deletedAt") Instant deletedAt,
+            @Param("chunkSize") int chunkSize);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FlashcardConst.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT card.id AS id,
+                   card.deck_id AS deckId,
+                   deck.name AS deckName,
+                   card.front_text AS frontText,
+                   card.back_text AS backText,
+                   card.front_lang_code AS frontLangCode,
+                   card.back_lang_code AS backLangCode
+            FROM {h-schema}flashcards card
+            JOIN {h-schema}decks deck ON deck.id = card.deck_id
+            WHERE card.deleted_at IS NULL
+              AND card.created_by = :createdBy
+              AND card.deck_id = :deckId
+            ORDER BY card.id ASC
+            """, nativeQuery = true)
+    Stream<FlashcardExportProjection> streamActiveForExportByDeckId(
+            @Param("deckId") Long deckId,
             @Param("createdBy") String createdBy);
 
-    interface DeckFlashcardCountProjection {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FlashcardConst.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT card.id AS id,
+                   card.deck_id AS deckId,
+                   deck.name AS deckName,
+                   card.front_text AS frontText,
+                   card.back_text AS backText,
+                   card.front_lang_code AS frontLangCode,
+                   card.back_lang_code AS backLangCode
+            FROM {h-schema}folders folder
+            JOIN {h-schema}decks deck
+              ON deck.folder_id = folder.id
+             AND deck.deleted_at IS NULL
+            JOIN {h-schema}flashcards card
+              ON card.deck_id = deck.id
+             AND card.deleted_at IS NULL
+            WHERE folder.deleted_at IS NULL
+              AND folder.created_by = :createdBy
+              AND (folder.id = :folderId OR folder.ancestor_path LIKE :descendantPattern)
+            ORDER BY card.deck_id ASC, card.id ASC
+            """, nativeQuery = true)
+    Stream<FlashcardExportProjection> streamActiveForExportByFolderSubtree(
+            @Param("folderId") Long folderId,
+            @Param("descendantPattern") String descendantPattern,
+            @Param("createdBy") String createdBy);
+
+    interface FlashcardExportProjection {
+        Long getId();
+
         Long getDeckId();
 
-        long getFlashcardCount();
+        String getDeckName();
+
+        String getFrontText();
+
+        String getBackText();
+
+        String getFrontLangCode();
+
+        String getBackLangCode();
     }
 }
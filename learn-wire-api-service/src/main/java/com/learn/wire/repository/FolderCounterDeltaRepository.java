@@ -0,0 +1,45 @@
+package com.learn.wire.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.learn.wire.entity.FolderCounterDeltaEntity;
+
+import jakarta.persistence.LockModeType;
+
+public interface FolderCounterDeltaRepository extends JpaRepository<FolderCounterDeltaEntity, Long> {
+
+    @Query("""
+            SELECT DISTINCT delta.folderId
+            FROM FolderCounterDeltaEntity delta
+            ORDER BY delta.folderId
+            """)
+    List<Long> findPendingFolderIds(Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<FolderCounterDeltaEntity> findByFolderIdIn(Collection<Long> folderIds);
+
+    @Query("""
+            SELECT delta.folderId as folderId,
+                   SUM(delta.directDelta) as directDelta,
+                   SUM(delta.aggregateDelta) as aggregateDelta
+            FROM FolderCounterDeltaEntity delta
+            WHERE delta.folderId IN :folderIds
+            GROUP BY delta.folderId
+            """)
+    List<PendingDeltaProjection> sumPendingByFolderIds(@Param("folderIds") Collection<Long> folderIds);
+
+    interface PendingDeltaProjection {
+        Long getFolderId();
+
+        long getDirectDelta();
+
+        long getAggregateDelta();
+    }
+}
@@ -1,17 +1,23 @@
 package com.learn.wire.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.learn.wire.entity.FolderEntity;
 
-public interface FolderRepository extends JpaRepository<FolderEntity, Long> {
+public interface FolderRepository
+        extends JpaRepository<FolderEntity, Long>, JpaSpecificationExecutor<FolderEntity> {
 
     Optional<FolderEntity> findByIdAndCreatedByAndDeletedAtIsNull(Long id, String createdBy);
 
@@ -30,8 +36,8 @@ public interface FolderRepository extends JpaRepository<FolderEntity, Long> {
               )
               AND (
                 :search = ''
-                OR LOWER(folder.name) LIKE LOWER(CONCAT('%', :search, '%'))
-                OR LOWER(folder.description) LIKE LOWER(CONCAT('%', :search, '%'))
+                OR folder.searchName LIKE CONCAT('%', :search, '%')
+                OR folder.searchDescription LIKE CONCAT('%', :search, '%')
               )
             """)
     Page<FolderEntity> findPageByParentAndSearch(
@@ -40,18 +46,6 @@ public interface FolderRepository extends JpaRepository<FolderEntity, Long> {
             @Param("search") String search,
             Pageable pageable);
 
-    @Query("""
-            SELECT folder.parentFolderId as parentFolderId, COUNT(folder.id) as childCount
-            FROM FolderEntity folder
-            WHERE folder.deletedAt IS NULL
-              AND folder.createdBy = :createdBy
-              AND folder.parentFolderId IN :parentIds
-            GROUP BY folder.parentFolderId
-            """)
-    List<ParentChildCountProjection> countActiveChildrenByParentIds(
-            @Param("parentIds") List<Long> parentIds,
-            @Param("createdBy") String createdBy);
-
     @Query("""
             SELECT CASE WHEN COUNT(folder.id) > 0 THEN true ELSE false END
             FROM FolderEntity folder
@@ -86,9 +80,166 @@ public interface FolderRepository extends JpaRepository<FolderEntity, Long> {
             @Param("name") String name,
             @Param("excludeFolderId") Long excludeFolderId);
 
-    interface ParentChildCountProjection {
-        Long getParentFolderId();
+    @Query("""
+            SELECT folder.ancestorPath
+            FROM FolderEntity folder
+            WHERE folder.id = :folderId
+              AND folder.createdBy = :createdBy
+              AND folder.deletedAt IS NULL
+            """)
+    Optional<String> findActiveAncestorPath(
+            @Param("folderId") Long folderId,
+            @Param("createdBy") String createdBy);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FolderEntity folder
+            SET folder.directFlashcardCount = folder.directFlashcardCount + :directDelta,
+                folder.aggregateFlashcardCount = folder.aggregateFlashcardCount + :aggregateDelta
+            WHERE folder.id = :folderId
+            """)
+    int applyCompactedDelta(
+            @Param("folderId") Long folderId,
+            @Param("directDelta") int directDelta,
+            @Param("aggregateDelta") int aggregateDelta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FolderEntity folder
+            SET folder.ancestorPath = CONCAT(:newSubtreePath, SUBSTRING(folder.ancestorPath, :suffixStart)),
+                folder.depth = folder.depth + :depthDelta
+            WHERE folder.createdBy = :createdBy
+              AND folder.ancestorPath LIKE :descendantPattern
+            """)
+    int moveDescendants(
+            @Param("createdBy") String createdBy,
+            @Param("descendantPattern") String descendantPattern,
+            @Param("newSubtreePath") String newSubtreePath,
+            @Param("suffixStart") int suffixStart,
+            @Param("depthDelta") int depthDelta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FolderEntity folder
+            SET folder.deletedAt = :deletedAt,
+                folder.deletedBy = :deletedBy,
+                folder.updatedBy = :deletedBy,
+                folder.updatedAt = :deletedAt
+            WHERE folder.createdBy = :createdBy
+              AND folder.deletedAt IS NULL
+              AND (folder.id = :folderId OR folder.ancestorPath LIKE :descendantPattern)
+            """)
+    int softDeleteSubtree(
+            @Param("folderId") Long folderId,
+            @Param("descendantPattern") String descendantPattern,
+            @Param("createdBy") String createdBy,
+            @Param("deletedBy") String deletedBy,
+            @Param("deletedAt") Instant deletedAt);
+
+    @Modifying
+    @Query("""
+            UPDATE FolderEntity folder
+            SET folder.directDeckCount = folder.directDeckCount + :delta
+            WHERE folder.id = :folderId
+            """)
+    int applyDirectDeckCountDelta(@Param("folderId") Long folderId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+            UPDATE FolderEntity folder
+            SET folder.childFolderCount = folder.childFolderCount + :delta
+            WHERE folder.id = :folderId
+            """)
+    int applyChildFolderCountDelta(@Param("folderId") Long folderId, @Param("delta") int delta);
+
+    @Query("""
+            SELECT DISTINCT folder.createdBy
+            FROM FolderEntity folder
+            WHERE folder.deletedAt IS NULL
+              AND folder.createdBy > :afterActor
+            ORDER BY folder.createdBy
+            """)
+    List<String> findActiveOwnersAfter(@Param("afterActor") String afterActor, Limit limit);
+
+    @Query(value = """
+            WITH direct_counts (folder_id, card_count) AS (
+                SELECT deck.folder_id, COUNT(card.id)
+                FROM {h-schema}decks deck
+                JOIN {h-schema}flashcards card
+                  ON card.deck_id = deck.id
+                 AND card.deleted_at IS NULL
+                WHERE deck.created_by = :createdBy
+                  AND deck.deleted_at IS NULL
+                GROUP BY deck.folder_id
+            ),
+            pending_counts (folder_id, direct_delta, aggregate_delta) AS (
+                SELECT delta.folder_id, SUM(delta.direct_delta), SUM(delta.aggregate_delta)
+                FROM {h-schema}folder_counter_deltas delta
+                JOIN {h-schema}folders owner_folder ON owner_folder.id = delta.folder_id
+                WHERE owner_folder.created_by = :createdBy
+                GROUP BY delta.folder_id
+            ),
+            folder_counts (folder_id, stored_direct, stored_aggregate, actual_direct, actual_aggregate) AS (
+                SELECT folder.id,
+                       folder.direct_flashcard_count + COALESCE(MAX(pending.direct_delta), 0),
+                       folder.aggregate_flashcard_count + COALESCE(MAX(pending.aggregate_delta), 0),
+                       COALESCE(MAX(own.card_count), 0),
+                       COALESCE(SUM(subtree.card_count), 0)
+                FROM {h-schema}folders folder
+                LEFT JOIN pending_counts pending ON pending.folder_id = folder.id
+                LEFT JOIN direct_counts own ON own.folder_id = folder.id
+                LEFT JOIN {h-schema}folders descendant
+                  ON descendant.created_by = folder.created_by
+                 AND descendant.deleted_at IS NULL
+                 AND (
+                    descendant.id = folder.id
+                    OR descendant.ancestor_path LIKE CONCAT(folder.ancestor_path, folder.id, '/%')
+                 )
+                LEFT JOIN direct_counts subtree ON subtree.folder_id = descendant.id
+                WHERE folder.created_by = :createdBy
+                  AND folder.deleted_at IS NULL
+                GROUP BY folder.id, folder.direct_flashcard_count, folder.aggregate_flashcard_count
+            )
+            SELECT folder_id AS folderId,
+                   stored_direct AS storedDirect,
+                   stored_aggregate AS storedAggregate,
+                   actual_direct AS actualDirect,
+                   actual_aggregate AS actualAggregate
+            FROM folder_counts
+            WHERE stored_direct <> actual_direct
+               OR stored_aggregate <> actual_aggregate
+            ORDER BY folder_id
+            """, nativeQuery = true)
+    List<FolderCountDriftProjection> findCountDrift(@Param("createdBy") String createdBy);
+
+    @Query(value = """
+            SELECT folder.id AS folderId,
+                   folder.direct_flashcard_count AS directFlashcardCount,
+                   folder.aggregate_flashcard_count AS aggregateFlashcardCount
+            FROM {h-schema}folders folder
+            WHERE folder.id IN (:folderIds)
+            ORDER BY folder.id
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<FolderCounterProjection> lockCountersByIds(@Param("folderIds") Collection<Long> folderIds);
+
+    interface FolderCounterProjection {
+        Long getFolderId();
+
+        int getDirectFlashcardCount();
+
+        int getAggregateFlashcardCount();
+    }
+
+    interface FolderCountDriftProjection {
+        Long getFolderId();
+
+        long getStoredDirect();
+
+        long getStoredAggregate();
+
+        long getActualDirect();
 
-        long getChildCount();
+        long getActualAggregate();
     }
 }
@@ -0,0 +1,54 @@
+package com.learn.wire.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.learn.wire.constant.JobConst;
+import com.learn.wire.entity.JobCheckpointEntity;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpointEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT checkpoint
+            FROM JobCheckpointEntity checkpoint
+            WHERE checkpoint.jobName = :jobName
+            """)
+    Optional<JobCheckpointEntity> findForUpdate(@Param("jobName") String jobName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = JobConst.LOCK_TIMEOUT_SKIP_LOCKED))
+    @Query("""
+            SELECT checkpoint
+            FROM JobCheckpointEntity checkpoint
+            WHERE checkpoint.jobName LIKE :jobNamePattern
+              AND checkpoint.updatedAt < :updatedBefore
+            ORDER BY checkpoint.updatedAt
+            """)
+    List<JobCheckpointEntity> findStaleForUpdateSkipLocked(
+            @Param("jobNamePattern") String jobNamePattern,
+            @Param("updatedBefore") Instant updatedBefore,
+            Limit limit);
+
+    @Modifying
+    @Query("""
+            UPDATE JobCheckpointEntity checkpoint
+            SET checkpoint.updatedAt = :updatedAt
+            WHERE checkpoint.jobName IN :jobNames
+            """)
+    int touchAll(@Param("jobNames") Collection<String> jobNames, @Param("updatedAt") Instant updatedAt);
+}
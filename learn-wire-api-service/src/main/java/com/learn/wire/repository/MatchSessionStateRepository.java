@@ -1,12 +1,35 @@
 package com.learn.wire.repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.learn.wire.entity.MatchSessionStateEntity;
 
 public interface MatchSessionStateRepository extends JpaRepository<MatchSessionStateEntity, Long> {
 
     Optional<MatchSessionStateEntity> findByModeStateId(Long modeStateId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE MatchSessionStateEntity s
+            SET s.selectedLeftTileId = :#{#state.selectedLeftTileId},
+                s.selectedRightTileId = :#{#state.selectedRightTileId},
+                s.interactionLocked = :#{#state.interactionLocked},
+                s.feedbackStatus = :#{#state.feedbackStatus},
+                s.feedbackLeftTileId = :#{#state.feedbackLeftTileId},
+                s.feedbackRightTileId = :#{#state.feedbackRightTileId},
+                s.feedbackUntil = :#{#state.feedbackUntil},
+                s.version = :#{#state.version},
+                s.updatedAt = :updatedAt
+            WHERE s.id = :#{#state.id}
+              AND s.version <= :#{#state.version}
+            """)
+    int writeBehind(
+            @Param("state") MatchSessionStateEntity state,
+            @Param("updatedAt") Instant updatedAt);
 }
@@ -1,9 +1,14 @@
 package com.learn.wire.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.learn.wire.entity.MatchSessionTileEntity;
 
@@ -11,7 +16,21 @@ public interface MatchSessionTileRepository extends JpaRepository<MatchSessionTi
 
     List<MatchSessionTileEntity> findByModeStateIdAndSideOrderByTileOrderAsc(Long modeStateId, String side);
 
+    List<MatchSessionTileEntity> findByModeStateId(Long modeStateId);
+
     Optional<MatchSessionTileEntity> findByModeStateIdAndId(Long modeStateId, Long id);
 
     long countByModeStateIdAndMatchedTrue(Long modeStateId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE MatchSessionTileEntity t
+            SET t.matched = true,
+                t.updatedAt = :updatedAt
+            WHERE t.id IN :tileIds
+              AND t.matched = false
+            """)
+    int markMatchedByIds(
+            @Param("tileIds") Collection<Long> tileIds,
+            @Param("updatedAt") Instant updatedAt);
 }
@@ -1,14 +1,34 @@
 package com.learn.wire.repository;
 
-import java.util.Optional;
+import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.learn.wire.entity.StudyAttemptEntity;
 
 public interface StudyAttemptRepository extends JpaRepository<StudyAttemptEntity, Long> {
 
-    Optional<StudyAttemptEntity> findByModeStateIdAndClientEventId(Long modeStateId, String clientEventId);
+    List<StudyAttemptEntity> findByModeStateIdOrderByClientSequenceDesc(Long modeStateId, Limit limit);
 
-    Optional<StudyAttemptEntity> findByModeStateIdAndClientSequence(Long modeStateId, int clientSequence);
+    @Query("""
+            SELECT COUNT(a) > 0
+            FROM StudyAttemptEntity a
+            WHERE a.modeStateId = :modeStateId
+              AND (a.clientSequence = :clientSequence OR a.clientEventId = :clientEventId)
+            """)
+    boolean existsRecorded(
+            @Param("modeStateId") Long modeStateId,
+            @Param("clientSequence") int clientSequence,
+            @Param("clientEventId") String clientEventId);
+
+    @Query("""
+            SELECT a
+            FROM StudyAttemptEntity a
+            WHERE a.modeStateId = :modeStateId
+              AND a.isCorrect = true
+            """)
+    List<StudyAttemptEntity> findCorrectByModeStateId(@Param("modeStateId") Long modeStateId);
 }
@@ -3,10 +3,27 @@ package com.learn.wire.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.learn.wire.dto.study.response.StudyReviewItemResponse;
 import com.learn.wire.entity.StudySessionItemEntity;
 
 public interface StudySessionItemRepository extends JpaRepository<StudySessionItemEntity, Long> {
 
     List<StudySessionItemEntity> findByModeStateIdOrderByItemOrderAsc(Long modeStateId);
+
+    @Query("""
+            SELECT new com.learn.wire.dto.study.response.StudyReviewItemResponse(
+                i.id,
+                i.flashcardId,
+                i.itemOrder,
+                COALESCE(s.frontText, i.frontText),
+                COALESCE(s.backText, i.backText))
+            FROM StudySessionItemEntity i
+            LEFT JOIN StudySessionSnapshotItemEntity s ON s.id = i.snapshotItemId
+            WHERE i.modeStateId = :modeStateId
+            ORDER BY i.itemOrder ASC
+            """)
+    List<StudyReviewItemResponse> findReviewItemsByModeStateId(@Param("modeStateId") Long modeStateId);
 }
@@ -0,0 +1,39 @@
+package com.learn.wire.repository.specification;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.learn.wire.entity.DeckEntity;
+
+public final class DeckSpecifications {
+
+    private static final String DELETED_AT = "deletedAt";
+    private static final String CREATED_BY = "createdBy";
+    private static final String FOLDER_ID = "folderId";
+    private static final String SEARCH_NAME = "searchName";
+    private static final String SEARCH_DESCRIPTION = "searchDescription";
+    private static final String LIKE_WILDCARD = "%";
+
+    private DeckSpecifications() {
+    }
+
+    public static Specification<DeckEntity> activeByFolderAndSearch(
+            Long folderId,
+            String createdBy,
+            String search) {
+        return (root, query, builder) -> {
+            final var activeInFolder = builder.and(
+                    builder.isNull(root.get(DELETED_AT)),
+                    builder.equal(root.get(CREATED_BY), createdBy),
+                    builder.equal(root.get(FOLDER_ID), folderId));
+            if (search.isEmpty()) {
+                return activeInFolder;
+            }
+            final var pattern = LIKE_WILDCARD + search + LIKE_WILDCARD;
+            return builder.and(
+                    activeInFolder,
+                    builder.or(
+                            builder.like(root.get(SEARCH_NAME), pattern),
+                            builder.like(root.get(SEARCH_DESCRIPTION), pattern)));
+        };
+    }
+}
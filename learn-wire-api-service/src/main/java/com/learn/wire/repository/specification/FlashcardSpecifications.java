@@ -0,0 +1,39 @@
+package com.learn.wire.repository.specification;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.learn.wire.entity.FlashcardEntity;
+
+public final class FlashcardSpecifications {
+
+    private static final String DELETED_AT = "deletedAt";
+    private static final String CREATED_BY = "createdBy";
+    private static final String DECK_ID = "deckId";
+    private static final String SEARCH_FRONT_TEXT = "searchFrontText";
+    private static final String SEARCH_BACK_TEXT = "searchBackText";
+    private static final String LIKE_WILDCARD = "%";
+
+    private FlashcardSpecifications() {
+    }
+
+    public static Specification<FlashcardEntity> activeByDeckAndSearch(
+            Long deckId,
+            String createdBy,
+            String search) {
+        return (root, query, builder) -> {
+            final var activeInDeck = builder.and(
+                    builder.isNull(root.get(DELETED_AT)),
+                    builder.equal(root.get(CREATED_BY), createdBy),
+                    builder.equal(root.get(DECK_ID), deckId));
+            if (search.isEmpty()) {
+                return activeInDeck;
+            }
+            final var pattern = LIKE_WILDCARD + search + LIKE_WILDCARD;
+            return builder.and(
+                    activeInDeck,
+                    builder.or(
+                            builder.like(root.get(SEARCH_FRONT_TEXT), pattern),
+                            builder.like(root.get(SEARCH_BACK_TEXT), pattern)));
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.learn.wire.repository.specification;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.learn.wire.entity.FolderEntity;
+
+public final class FolderSpecifications {
+
+    private static final String DELETED_AT = "deletedAt";
+    private static final String CREATED_BY = "createdBy";
+    private static final String PARENT_FOLDER_ID = "parentFolderId";
+    private static final String SEARCH_NAME = "searchName";
+    private static final String SEARCH_DESCRIPTION = "searchDescription";
+    private static final String LIKE_WILDCARD = "%";
+
+    private FolderSpecifications() {
+    }
+
+    public static Specification<FolderEntity> activeByParentAndSearch(
+            Long parentFolderId,
+            String createdBy,
+            String search) {
+        return (root, query, builder) -> {
+            final var parentPredicate = parentFolderId == null
+                    ? builder.isNull(root.get(PARENT_FOLDER_ID))
+                    : builder.equal(root.get(PARENT_FOLDER_ID), parentFolderId);
+            final var activeInParent = builder.and(
+                    builder.isNull(root.get(DELETED_AT)),
+                    builder.equal(root.get(CREATED_BY), createdBy),
+                    parentPredicate);
+            if (search.isEmpty()) {
+                return activeInParent;
+            }
+            final var pattern = LIKE_WILDCARD + search + LIKE_WILDCARD;
+            return builder.and(
+                    activeInParent,
+                    builder.or(
+                            builder.like(root.get(SEARCH_NAME), pattern),
+                            builder.like(root.get(SEARCH_DESCRIPTION), pattern)));
+        };
+    }
+}
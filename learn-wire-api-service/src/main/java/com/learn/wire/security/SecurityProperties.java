@@ -33,4 +33,8 @@ public class SecurityProperties {
 
     @NotBlank
     private String tokenIssuer = "learnwise-api";
+
+    private String metricsScrapeUsername;
+
+    private String metricsScrapePassword;
 }
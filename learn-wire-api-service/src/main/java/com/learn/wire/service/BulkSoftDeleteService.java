@@ -0,0 +1,21 @@
+package com.learn.wire.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.learn.wire.entity.DeckEntity;
+import com.learn.wire.entity.FolderEntity;
+import com.learn.wire.service.job.FlashcardPurgeRequest;
+
+public interface BulkSoftDeleteService {
+
+    void softDeleteDeck(DeckEntity deck, int activeFlashcardCount, String currentActor);
+
+    int softDeleteFolderSubtree(FolderEntity root, String currentActor);
+
+    int softDeleteFlashcardChunk(List<Long> deckIds, String currentActor, Instant deletedAt);
+
+    List<FlashcardPurgeRequest> claimStalledFlashcardPurges(int batchSize);
+
+    void completeFlashcardPurge(List<Long> deckIds);
+}
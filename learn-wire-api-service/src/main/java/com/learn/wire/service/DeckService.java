@@ -3,6 +3,7 @@ package com.learn.wire.service;
 import com.learn.wire.dto.common.response.PageResponse;
 import com.learn.wire.dto.deck.query.DeckListQuery;
 import com.learn.wire.dto.deck.request.DeckAudioSettingsUpdateRequest;
+import com.learn.wire.dto.deck.request.DeckCopyRequest;
 import com.learn.wire.dto.deck.request.DeckCreateRequest;
 import com.learn.wire.dto.deck.request.DeckUpdateRequest;
 import com.learn.wire.dto.deck.response.DeckAudioSettingsResponse;
@@ -23,4 +24,6 @@ public interface DeckService {
     DeckAudioSettingsResponse updateDeckAudioSettings(Long deckId, DeckAudioSettingsUpdateRequest request);
 
     void deleteDeck(Long folderId, Long deckId);
+
+    DeckResponse copyDeck(Long folderId, Long deckId, DeckCopyRequest request);
 }
@@ -0,0 +1,16 @@
+package com.learn.wire.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.learn.wire.dto.flashcard.query.FlashcardExportFormat;
+import com.learn.wire.dto.flashcard.query.FlashcardExportQuery;
+
+public interface FlashcardExportService {
+
+    FlashcardExportQuery prepareDeckExport(Long deckId, FlashcardExportFormat format);
+
+    FlashcardExportQuery prepareFolderExport(Long folderId, FlashcardExportFormat format);
+
+    long writeExport(FlashcardExportQuery query, OutputStream outputStream) throws IOException;
+}
@@ -1,9 +1,17 @@
 package com.learn.wire.service;
 
+import java.io.InputStream;
+
 import com.learn.wire.dto.common.response.PageResponse;
+import com.learn.wire.dto.flashcard.query.FlashcardBatchCommand;
+import com.learn.wire.dto.flashcard.query.FlashcardImportQuery;
 import com.learn.wire.dto.flashcard.query.FlashcardListQuery;
+import com.learn.wire.dto.flashcard.query.FlashcardMoveCommand;
 import com.learn.wire.dto.flashcard.request.FlashcardCreateRequest;
 import com.learn.wire.dto.flashcard.request.FlashcardUpdateRequest;
+import com.learn.wire.dto.flashcard.response.FlashcardBatchResponse;
+import com.learn.wire.dto.flashcard.response.FlashcardImportResponse;
+import com.learn.wire.dto.flashcard.response.FlashcardMoveResponse;
 import com.learn.wire.dto.flashcard.response.FlashcardResponse;
 
 public interface FlashcardService {
@@ -15,4 +23,10 @@ public interface FlashcardService {
     FlashcardResponse updateFlashcard(Long deckId, Long flashcardId, FlashcardUpdateRequest request);
 
     void deleteFlashcard(Long deckId, Long flashcardId);
+
+    FlashcardImportResponse importFlashcards(FlashcardImportQuery query, InputStream content);
+
+    FlashcardBatchResponse applyBatch(FlashcardBatchCommand command);
+
+    FlashcardMoveResponse moveFlashcards(FlashcardMoveCommand command);
 }
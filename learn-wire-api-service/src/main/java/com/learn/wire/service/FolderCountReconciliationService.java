@@ -0,0 +1,12 @@
+package com.learn.wire.service;
+
+import java.util.List;
+
+public interface FolderCountReconciliationService {
+
+    List<String> findNextActors(int actorBatchSize);
+
+    int reconcileActor(String actor);
+
+    void resetCheckpoint();
+}
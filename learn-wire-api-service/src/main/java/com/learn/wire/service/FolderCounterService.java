@@ -0,0 +1,22 @@
+package com.learn.wire.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.learn.wire.entity.FolderEntity;
+import com.learn.wire.repository.FolderCounterDeltaRepository.PendingDeltaProjection;
+
+public interface FolderCounterService {
+
+    void applyFlashcardDelta(Long folderId, int delta, String currentActor);
+
+    void applyAggregateDelta(Long startFolderId, int delta, String currentActor);
+
+    void transferFlashcards(Long sourceFolderId, Long targetFolderId, int count, String currentActor);
+
+    Map<Long, PendingDeltaProjection> findPendingDeltas(Collection<Long> folderIds);
+
+    int resolveAggregateCount(FolderEntity folder);
+
+    int compactPendingDeltas(int folderBatchSize);
+}
@@ -1,5 +1,6 @@
 package com.learn.wire.service;
 
+import com.learn.wire.dto.study.request.StudySessionEventBatchRequest;
 import com.learn.wire.dto.study.request.StudySessionEventRequest;
 import com.learn.wire.dto.study.request.StudySessionStartRequest;
 import com.learn.wire.dto.study.response.StudySessionResponse;
@@ -12,5 +13,7 @@ public interface StudySessionService {
 
     StudySessionResponse submitEvent(Long sessionId, StudySessionEventRequest request);
 
+    StudySessionResponse submitEvents(Long sessionId, StudySessionEventBatchRequest request);
+
     StudySessionResponse completeSession(Long sessionId);
 }
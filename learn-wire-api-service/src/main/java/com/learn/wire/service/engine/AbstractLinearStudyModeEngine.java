@@ -7,17 +7,19 @@ import com.learn.wire.dto.study.query.StudyEventType;
 import com.learn.wire.dto.study.query.StudyMode;
 import com.learn.wire.dto.study.query.StudySessionEventCommand;
 import com.learn.wire.dto.study.response.StudySessionResponse;
-import com.learn.wire.entity.FlashcardEntity;
 import com.learn.wire.entity.StudyAttemptEntity;
 import com.learn.wire.entity.StudySessionEntity;
 import com.learn.wire.entity.StudySessionModeStateEntity;
 import com.learn.wire.entity.StudySessionItemEntity;
+import com.learn.wire.entity.StudySessionSnapshotItemEntity;
 import com.learn.wire.exception.BadRequestException;
 import com.learn.wire.exception.StudyEventNotSupportedException;
+import com.learn.wire.observability.StudyEventMetrics;
 import com.learn.wire.repository.StudyAttemptRepository;
 import com.learn.wire.repository.StudySessionModeStateRepository;
 import com.learn.wire.repository.StudySessionItemRepository;
 import com.learn.wire.repository.StudySessionRepository;
+import com.learn.wire.service.loader.StudySessionBootstrap;
 
 public abstract class AbstractLinearStudyModeEngine extends AbstractStudyModeEngine {
 
@@ -28,17 +30,21 @@ public abstract class AbstractLinearStudyModeEngine extends AbstractStudyModeEng
             StudySessionRepository studySessionRepository,
             StudySessionModeStateRepository studySessionModeStateRepository,
             StudySessionItemRepository studySessionItemRepository,
-            StudyAttemptRepository studyAttemptRepository) {
+            StudyAttemptRepository studyAttemptRepository,
+            StudyEventDeduplicator studyEventDeduplicator,
+            StudyEventMetrics studyEventMetrics) {
         super(
                 studySessionRepository,
                 studySessionModeStateRepository,
                 studySessionItemRepository,
-                studyAttemptRepository);
+                studyAttemptRepository,
+                studyEventDeduplicator,
+                studyEventMetrics);
         this.mode = mode;
     }
 
     @Override
-    public final StudyMode mode() {
+    public StudyMode mode() {
         return this.mode;
     }
 
@@ -46,8 +52,8 @@ public abstract class AbstractLinearStudyModeEngine extends AbstractStudyModeEng
     public void initializeSession(
             StudySessionEntity session,
             StudySessionModeStateEntity modeState,
-            List<FlashcardEntity> flashcards) {
-        final List<FlashcardEntity> shuffled = shuffleFlashcards(flashcards, session.getSeed());
+            List<StudySessionSnapshotItemEntity> snapshotItems) {
+        final List<StudySessionSnapshotItemEntity> shuffled = shuffleSnapshotItems(snapshotItems, session.getSeed());
         final List<StudySessionItemEntity> sessionItems = createSessionItems(modeState.getId(), shuffled);
         this.studySessionItemRepository.saveAll(sessionItems);
         modeState.setCurrentIndex(StudyConst.DEFAULT_INDEX);
@@ -93,9 +99,9 @@ public abstract class AbstractLinearStudyModeEngine extends AbstractStudyModeEng
 
     @Override
     protected StudySessionResponse buildResponseInternal(
-            StudySessionEntity session,
+            StudySessionBootstrap bootstrap,
             StudySessionModeStateEntity modeState) {
-        return buildLinearResponse(session, modeState);
+        return buildLinearResponse(bootstrap, modeState);
     }
 
     private int resolveTargetIndex(Integer targetIndex, int totalUnits) {
@@ -12,16 +12,18 @@ import com.learn.wire.dto.study.response.StudyAttemptResultResponse;
 import com.learn.wire.dto.study.response.StudyMatchTileResponse;
 import com.learn.wire.dto.study.response.StudyReviewItemResponse;
 import com.learn.wire.dto.study.response.StudySessionResponse;
-import com.learn.wire.entity.FlashcardEntity;
 import com.learn.wire.entity.StudyAttemptEntity;
 import com.learn.wire.entity.StudySessionEntity;
 import com.learn.wire.entity.StudySessionModeStateEntity;
 import com.learn.wire.entity.StudySessionItemEntity;
+import com.learn.wire.entity.StudySessionSnapshotItemEntity;
 import com.learn.wire.exception.BusinessException;
+import com.learn.wire.observability.StudyEventMetrics;
 import com.learn.wire.repository.StudyAttemptRepository;
 import com.learn.wire.repository.StudySessionModeStateRepository;
 import com.learn.wire.repository.StudySessionItemRepository;
 import com.learn.wire.repository.StudySessionRepository;
+import com.learn.wire.service.loader.StudySessionBootstrap;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,32 +34,87 @@ public abstract class AbstractStudyModeEngine implements StudyModeEngine {
     protected final StudySessionModeStateRepository studySessionModeStateRepository;
     protected final StudySessionItemRepository studySessionItemRepository;
     protected final StudyAttemptRepository studyAttemptRepository;
+    protected final StudyEventDeduplicator studyEventDeduplicator;
+    protected final StudyEventMetrics studyEventMetrics;
 
     @Override
-    public final StudySessionResponse buildResponse(StudySessionEntity session, StudySessionModeStateEntity modeState) {
-        return buildResponseInternal(session, modeState);
+    public StudySessionResponse buildResponse(StudySessionBootstrap bootstrap, StudySessionModeStateEntity modeState) {
+        return buildResponseInternal(bootstrap, modeState);
     }
 
     @Override
-    public final StudySessionResponse handleEvent(
-            StudySessionEntity session,
+    public StudySessionResponse handleEvent(
+            StudySessionBootstrap bootstrap,
             StudySessionModeStateEntity modeState,
             StudySessionEventCommand command) {
+        final var session = bootstrap.session();
         requireActiveSession(session);
         requireActiveModeState(modeState);
         validateSupportedEvent(command);
-        if (isDuplicateEvent(modeState.getId(), command.clientEventId())) {
-            return buildResponse(session, modeState);
-        }
-        if (isDuplicateSequence(modeState.getId(), command.clientSequence())) {
-            return buildResponse(session, modeState);
+        if (this.studyEventDeduplicator.isDuplicate(modeState.getId(), command)) {
+            this.studyEventMetrics.recordDuplicate(mode(), command.eventType());
+            return buildResponse(bootstrap, modeState);
         }
         final StudyAttemptEntity attempt = createAttempt(modeState, command);
-        handleEventInternal(session, modeState, command, attempt);
+        applyEvent(session, modeState, command, attempt);
+        saveAttempts(List.of(attempt));
+        this.studySessionRepository.save(session);
+        this.studySessionModeStateRepository.save(modeState);
+        this.studyEventDeduplicator.recordAfterCommit(modeState.getId(), command);
+        return buildResponse(bootstrap, modeState);
+    }
+
+    @Override
+    public StudySessionResponse handleEvents(
+            StudySessionBootstrap bootstrap,
+            StudySessionModeStateEntity modeState,
+            List<StudySessionEventCommand> commands) {
+        final var session = bootstrap.session();
+        requireActiveSession(session);
+        requireActiveModeState(modeState);
+        for (final StudySessionEventCommand command : commands) {
+            validateSupportedEvent(command);
+        }
+        final List<StudySessionEventCommand> appliedCommands = new ArrayList<>();
+        final List<StudyAttemptEntity> attempts = new ArrayList<>();
+        for (final StudySessionEventCommand command : commands) {
+            if (isModeCompleted(modeState)) {
+                break;
+            }
+            if (this.studyEventDeduplicator.isDuplicate(modeState.getId(), command)) {
+                this.studyEventMetrics.recordDuplicate(mode(), command.eventType());
+                continue;
+            }
+            final StudyAttemptEntity attempt = createAttempt(modeState, command);
+            applyEvent(session, modeState, command, attempt);
+            appliedCommands.add(command);
+            attempts.add(attempt);
+        }
+        if (attempts.isEmpty()) {
+            return buildResponse(bootstrap, modeState);
+        }
+        saveAttempts(attempts);
         this.studySessionRepository.save(session);
         this.studySessionModeStateRepository.save(modeState);
-        this.studyAttemptRepository.save(attempt);
-        return buildResponse(session, modeState);
+        for (final StudySessionEventCommand command : appliedCommands) {
+            this.studyEventDeduplicator.recordAfterCommit(modeState.getId(), command);
+        }
+        return buildResponse(bootstrap, modeState);
+    }
+
+    @Override
+    public void releaseModeState(StudySessionModeStateEntity modeState) {
+        this.studyEventDeduplicator.release(modeState.getId());
+    }
+
+    private void applyEvent(
+            StudySessionEntity session,
+            StudySessionModeStateEntity modeState,
+            StudySessionEventCommand command,
+            StudyAttemptEntity attempt) {
+        final var startedAtNanos = System.nanoTime();
+        handleEventInternal(session, modeState, command, attempt);
+        this.studyEventMetrics.recordApplied(mode(), command.eventType(), System.nanoTime() - startedAtNanos);
     }
 
     protected abstract void validateSupportedEvent(StudySessionEventCommand command);
@@ -69,7 +126,7 @@ public abstract class AbstractStudyModeEngine implements StudyModeEngine {
             StudyAttemptEntity attempt);
 
     protected abstract StudySessionResponse buildResponseInternal(
-            StudySessionEntity session,
+            StudySessionBootstrap bootstrap,
             StudySessionModeStateEntity modeState);
 
     protected void requireActiveSession(StudySessionEntity session) {
@@ -86,22 +143,25 @@ public abstract class AbstractStudyModeEngine implements StudyModeEngine {
         throw new BusinessException(StudyConst.SESSION_NOT_ACTIVE_KEY, modeState.getSessionId());
     }
 
-    protected List<FlashcardEntity> shuffleFlashcards(List<FlashcardEntity> flashcards, int seed) {
-        final List<FlashcardEntity> shuffled = new ArrayList<>(flashcards);
+    protected List<StudySessionSnapshotItemEntity> shuffleSnapshotItems(
+            List<StudySessionSnapshotItemEntity> snapshotItems,
+            int seed) {
+        final List<StudySessionSnapshotItemEntity> shuffled = new ArrayList<>(snapshotItems);
         Collections.shuffle(shuffled, new Random(seed));
         return shuffled;
     }
 
-    protected List<StudySessionItemEntity> createSessionItems(Long modeStateId, List<FlashcardEntity> flashcards) {
+    protected List<StudySessionItemEntity> createSessionItems(
+            Long modeStateId,
+            List<StudySessionSnapshotItemEntity> snapshotItems) {
         final List<StudySessionItemEntity> items = new ArrayList<>();
         int order = StudyConst.DEFAULT_INDEX;
-        for (final FlashcardEntity flashcard : flashcards) {
+        for (final StudySessionSnapshotItemEntity snapshotItem : snapshotItems) {
             final StudySessionItemEntity item = new StudySessionItemEntity();
             item.setModeStateId(modeStateId);
-            item.setFlashcardId(flashcard.getId());
+            item.setSnapshotItemId(snapshotItem.getId());
+            item.setFlashcardId(snapshotItem.getFlashcardId());
             item.setItemOrder(order);
-            item.setFrontText(flashcard.getFrontText());
-            item.setBackText(flashcard.getBackText());
             items.add(item);
             order++;
         }
@@ -109,26 +169,15 @@ public abstract class AbstractStudyModeEngine implements StudyModeEngine {
     }
 
     protected List<StudyReviewItemResponse> loadReviewItems(Long modeStateId) {
-        final List<StudySessionItemEntity> sessionItems =
-                this.studySessionItemRepository.findByModeStateIdOrderByItemOrderAsc(modeStateId);
-        final List<StudyReviewItemResponse> responses = new ArrayList<>();
-        for (final StudySessionItemEntity sessionItem : sessionItems) {
-            responses.add(new StudyReviewItemResponse(
-                    sessionItem.getId(),
-                    sessionItem.getFlashcardId(),
-                    sessionItem.getItemOrder(),
-                    sessionItem.getFrontText(),
-                    sessionItem.getBackText()));
-        }
-        return responses;
+        return this.studySessionItemRepository.findReviewItemsByModeStateId(modeStateId);
     }
 
     protected StudySessionResponse buildLinearResponse(
-            StudySessionEntity session,
+            StudySessionBootstrap bootstrap,
             StudySessionModeStateEntity modeState) {
         final List<StudyReviewItemResponse> reviewItems = loadReviewItems(modeState.getId());
         return buildSessionResponse(
-                session,
+                bootstrap,
                 modeState,
                 reviewItems,
                 List.of(),
@@ -137,13 +186,14 @@ public abstract class AbstractStudyModeEngine implements StudyModeEngine {
     }
 
     protected StudySessionResponse buildSessionResponse(
-            StudySessionEntity session,
+            StudySessionBootstrap bootstrap,
             StudySessionModeStateEntity modeState,
             List<StudyReviewItemResponse> reviewItems,
             List<StudyMatchTileResponse> leftTiles,
             List<StudyMatchTileResponse> rightTiles,
             StudyAttemptResultResponse lastAttemptResult) {
-        final int completedModeCount = resolveCompletedModeCount(session.getId());
+        final var session = bootstrap.session();
+        final int completedModeCount = bootstrap.completedModeCount();
         final int requiredModeCount = resolveRequiredModeCount();
         final boolean sessionCompleted = StudyConst.SESSION_STATUS_COMPLETED.equalsIgnoreCase(session.getStatus());
         return new StudySessionResponse(
@@ -184,19 +234,8 @@ public abstract class AbstractStudyModeEngine implements StudyModeEngine {
         return StudyMode.values().length;
     }
 
-    protected int resolveCompletedModeCount(Long sessionId) {
-        final long completedModeCount = this.studySessionModeStateRepository.countBySessionIdAndStatus(
-                sessionId,
-                StudyConst.SESSION_STATUS_COMPLETED);
-        return (int) completedModeCount;
-    }
-
-    private boolean isDuplicateEvent(Long modeStateId, String clientEventId) {
-        return this.studyAttemptRepository.findByModeStateIdAndClientEventId(modeStateId, clientEventId).isPresent();
-    }
-
-    private boolean isDuplicateSequence(Long modeStateId, int clientSequence) {
-        return this.studyAttemptRepository.findByModeStateIdAndClientSequence(modeStateId, clientSequence).isPresent();
+    private void saveAttempts(List<StudyAttemptEntity> attempts) {
+        this.studyAttemptRepository.saveAllAndFlush(attempts);
     }
 
     private StudyAttemptEntity createAttempt(StudySessionModeStateEntity modeState, StudySessionEventCommand command) {
@@ -210,7 +249,7 @@ public abstract class AbstractStudyModeEngine implements StudyModeEngine {
         return attempt;
     }
 
-    private boolean isModeCompleted(StudySessionModeStateEntity modeState) {
+    protected boolean isModeCompleted(StudySessionModeStateEntity modeState) {
         return StudyConst.SESSION_STATUS_COMPLETED.equalsIgnoreCase(modeState.getStatus());
     }
 }
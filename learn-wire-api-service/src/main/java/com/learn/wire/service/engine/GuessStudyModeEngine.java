@@ -3,6 +3,7 @@ package com.learn.wire.service.engine;
 import org.springframework.stereotype.Component;
 
 import com.learn.wire.dto.study.query.StudyMode;
+import com.learn.wire.observability.StudyEventMetrics;
 import com.learn.wire.repository.StudyAttemptRepository;
 import com.learn.wire.repository.StudySessionModeStateRepository;
 import com.learn.wire.repository.StudySessionItemRepository;
@@ -15,12 +16,16 @@ public class GuessStudyModeEngine extends AbstractLinearStudyModeEngine {
             StudySessionRepository studySessionRepository,
             StudySessionModeStateRepository studySessionModeStateRepository,
             StudySessionItemRepository studySessionItemRepository,
-            StudyAttemptRepository studyAttemptRepository) {
+            StudyAttemptRepository studyAttemptRepository,
+            StudyEventDeduplicator studyEventDeduplicator,
+            StudyEventMetrics studyEventMetrics) {
         super(
                 StudyMode.GUESS,
                 studySessionRepository,
                 studySessionModeStateRepository,
                 studySessionItemRepository,
-                studyAttemptRepository);
+                studyAttemptRepository,
+                studyEventDeduplicator,
+                studyEventMetrics);
     }
 }
@@ -0,0 +1,186 @@
+package com.learn.wire.service.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.learn.wire.constant.StudyConst;
+import com.learn.wire.entity.MatchSessionStateEntity;
+import com.learn.wire.entity.MatchSessionTileEntity;
+import com.learn.wire.entity.StudySessionSnapshotItemEntity;
+
+public final class MatchBoard {
+
+    private final Long modeStateId;
+    private final MatchSessionStateEntity state;
+    private final List<MatchSessionTileEntity> leftTiles = new ArrayList<>();
+    private final List<MatchSessionTileEntity> rightTiles = new ArrayList<>();
+    private final Map<Long, MatchSessionTileEntity> tileById = new HashMap<>();
+    private final Set<Long> dirtyMatchedTileIds = new LinkedHashSet<>();
+    private boolean stateDirty;
+    private long lastAccessedAtMillis;
+
+    MatchBoard(
+            Long modeStateId,
+            MatchSessionStateEntity state,
+            List<MatchSessionTileEntity> tiles,
+            Collection<StudySessionSnapshotItemEntity> snapshotItems) {
+        this.modeStateId = modeStateId;
+        this.state = copyState(state);
+        final Map<Long, StudySessionSnapshotItemEntity> snapshotItemById = new HashMap<>();
+        for (final StudySessionSnapshotItemEntity snapshotItem : snapshotItems) {
+            snapshotItemById.put(snapshotItem.getId(), snapshotItem);
+        }
+        for (final MatchSessionTileEntity tile : tiles) {
+            final var copiedTile = copyTile(tile, snapshotItemById.get(tile.getSnapshotItemId()));
+            this.tileById.put(copiedTile.getId(), copiedTile);
+            if (StudyConst.TILE_SIDE_LEFT.equalsIgnoreCase(copiedTile.getSide())) {
+                this.leftTiles.add(copiedTile);
+                continue;
+            }
+            this.rightTiles.add(copiedTile);
+        }
+        this.leftTiles.sort((left, right) -> Integer.compare(left.getTileOrder(), right.getTileOrder()));
+        this.rightTiles.sort((left, right) -> Integer.compare(left.getTileOrder(), right.getTileOrder()));
+        touch();
+    }
+
+    public Long modeStateId() {
+        return this.modeStateId;
+    }
+
+    MatchSessionStateEntity state() {
+        return this.state;
+    }
+
+    List<MatchSessionTileEntity> leftTiles() {
+        return this.leftTiles;
+    }
+
+    List<MatchSessionTileEntity> rightTiles() {
+        return this.rightTiles;
+    }
+
+    Optional<MatchSessionTileEntity> findTile(Long tileId) {
+        return Optional.ofNullable(this.tileById.get(tileId));
+    }
+
+    int matchedPairCount() {
+        var matchedCount = StudyConst.DEFAULT_INDEX;
+        for (final MatchSessionTileEntity tile : this.leftTiles) {
+            if (tile.isMatched()) {
+                matchedCount++;
+            }
+        }
+        return matchedCount;
+    }
+
+    void markMatched(MatchSessionTileEntity tile) {
+        tile.setMatched(true);
+        this.dirtyMatchedTileIds.add(tile.getId());
+    }
+
+    void markStateDirty() {
+        this.stateDirty = true;
+    }
+
+    int restoreMatched(Collection<Long> tileIds) {
+        var restoredCount = StudyConst.DEFAULT_INDEX;
+        for (final Long tileId : tileIds) {
+            final var tile = this.tileById.get(tileId);
+            if ((tile == null) || tile.isMatched()) {
+                continue;
+            }
+            markMatched(tile);
+            restoredCount++;
+        }
+        return restoredCount;
+    }
+
+    void touch() {
+        this.lastAccessedAtMillis = System.currentTimeMillis();
+    }
+
+    synchronized boolean isIdleSince(long thresholdMillis) {
+        return this.lastAccessedAtMillis < thresholdMillis;
+    }
+
+    synchronized boolean hasPendingChanges() {
+        return this.stateDirty || !this.dirtyMatchedTileIds.isEmpty();
+    }
+
+    synchronized MatchBoardChanges pendingChanges() {
+        MatchSessionStateEntity stateSnapshot = null;
+        if (this.stateDirty) {
+            stateSnapshot = copyState(this.state);
+        }
+        return new MatchBoardChanges(this.modeStateId, List.copyOf(this.dirtyMatchedTileIds), stateSnapshot);
+    }
+
+    synchronized MatchBoardChanges drainChanges() {
+        final List<Long> matchedTileIds = List.copyOf(this.dirtyMatchedTileIds);
+        MatchSessionStateEntity stateSnapshot = null;
+        if (this.stateDirty) {
+            stateSnapshot = copyState(this.state);
+        }
+        this.dirtyMatchedTileIds.clear();
+        this.stateDirty = false;
+        return new MatchBoardChanges(this.modeStateId, matchedTileIds, stateSnapshot);
+    }
+
+    synchronized void requeueChanges(MatchBoardChanges changes) {
+        this.dirtyMatchedTileIds.addAll(changes.matchedTileIds());
+        if (changes.state() != null) {
+            this.stateDirty = true;
+        }
+    }
+
+    private static MatchSessionTileEntity copyTile(
+            MatchSessionTileEntity tile,
+            StudySessionSnapshotItemEntity snapshotItem) {
+        return new MatchSessionTileEntity(
+                tile.getId(),
+                tile.getModeStateId(),
+                tile.getSnapshotItemId(),
+                tile.getPairKey(),
+                tile.getSide(),
+                resolveLabel(tile, snapshotItem),
+                tile.getTileOrder(),
+                tile.isMatched(),
+                tile.getCreatedAt(),
+                tile.getUpdatedAt());
+    }
+
+    private static String resolveLabel(
+            MatchSessionTileEntity tile,
+            StudySessionSnapshotItemEntity snapshotItem) {
+        if ((tile.getLabelText() != null) || (snapshotItem == null)) {
+            return tile.getLabelText();
+        }
+        if (StudyConst.TILE_SIDE_LEFT.equalsIgnoreCase(tile.getSide())) {
+            return snapshotItem.getFrontText();
+        }
+        return snapshotItem.getBackText();
+    }
+
+    private static MatchSessionStateEntity copyState(MatchSessionStateEntity state) {
+        return new MatchSessionStateEntity(
+                state.getId(),
+                state.getModeStateId(),
+                state.getSelectedLeftTileId(),
+                state.getSelectedRightTileId(),
+                state.isInteractionLocked(),
+                state.getFeedbackStatus(),
+                state.getFeedbackLeftTileId(),
+                state.getFeedbackRightTileId(),
+                state.getFeedbackUntil(),
+                state.getVersion(),
+                state.getCreatedAt(),
+                state.getUpdatedAt());
+    }
+}
@@ -0,0 +1,227 @@
+package com.learn.wire.service.engine;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.constant.StudyConst;
+import com.learn.wire.entity.MatchSessionStateEntity;
+import com.learn.wire.entity.MatchSessionTileEntity;
+import com.learn.wire.entity.StudyAttemptEntity;
+import com.learn.wire.entity.StudySessionModeStateEntity;
+import com.learn.wire.entity.StudySessionSnapshotItemEntity;
+import com.learn.wire.exception.MatchSessionStateNotFoundException;
+import com.learn.wire.repository.MatchSessionStateRepository;
+import com.learn.wire.repository.MatchSessionTileRepository;
+import com.learn.wire.repository.StudyAttemptRepository;
+import com.learn.wire.repository.StudySessionSnapshotItemRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Node-local write-behind cache of match boards. A session must be routed to a single instance
+ * (sticky sessions keyed by session id); boards are only resynchronised from the database when the
+ * matched pair count drifts, so unflushed selection and feedback state is not visible to other nodes.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MatchBoardCache {
+
+    private final Map<Long, MatchBoard> boards = new ConcurrentHashMap<>();
+    private final MatchSessionTileRepository matchSessionTileRepository;
+    private final MatchSessionStateRepository matchSessionStateRepository;
+    private final StudyAttemptRepository studyAttemptRepository;
+    private final StudySessionSnapshotItemRepository studySessionSnapshotItemRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    public MatchBoard register(
+            MatchSessionStateEntity state,
+            List<MatchSessionTileEntity> tiles,
+            List<StudySessionSnapshotItemEntity> snapshotItems) {
+        final var board = new MatchBoard(state.getModeStateId(), state, tiles, snapshotItems);
+        this.boards.put(board.modeStateId(), board);
+        evictOnRollback(board);
+        return board;
+    }
+
+    public MatchBoard getBoard(StudySessionModeStateEntity modeState) {
+        final var modeStateId = modeState.getId();
+        var board = this.boards.computeIfAbsent(modeStateId, this::loadBoard);
+        if (!isInSync(board, modeState)) {
+            board = this.boards.compute(
+                    modeStateId,
+                    (id, cachedBoard) -> (cachedBoard != null) && isInSync(cachedBoard, modeState)
+                            ? cachedBoard
+                            : loadBoard(id));
+        }
+        board.touch();
+        evictOnRollback(board);
+        return board;
+    }
+
+    @Transactional
+    public void flush(Long modeStateId) {
+        final var board = this.boards.get(modeStateId);
+        if ((board == null) || !board.hasPendingChanges()) {
+            return;
+        }
+        writeChanges(List.of(board.drainChanges()));
+    }
+
+    @Transactional
+    public void flushAndEvict(Long modeStateId) {
+        final var board = this.boards.remove(modeStateId);
+        if (board == null) {
+            return;
+        }
+        writeChanges(List.of(board.drainChanges()));
+    }
+
+    public List<MatchBoardChanges> drainPendingChanges() {
+        final List<MatchBoardChanges> pendingChanges = new ArrayList<>();
+        for (final MatchBoard board : this.boards.values()) {
+            if (!board.hasPendingChanges()) {
+                continue;
+            }
+            pendingChanges.add(board.drainChanges());
+        }
+        return pendingChanges;
+    }
+
+    @Transactional
+    public int writeChanges(List<MatchBoardChanges> changes) {
+        final var updatedAt = Instant.now();
+        final Set<Long> matchedTileIds = new LinkedHashSet<>();
+        for (final MatchBoardChanges change : changes) {
+            matchedTileIds.addAll(change.matchedTileIds());
+            if (change.state() == null) {
+                continue;
+            }
+            this.matchSessionStateRepository.writeBehind(change.state(), updatedAt);
+        }
+        if (matchedTileIds.isEmpty()) {
+            return StudyConst.DEFAULT_INDEX;
+        }
+        return this.matchSessionTileRepository.markMatchedByIds(matchedTileIds, updatedAt);
+    }
+
+    public void requeueChanges(List<MatchBoardChanges> changes) {
+        for (final MatchBoardChanges change : changes) {
+            final var board = this.boards.get(change.modeStateId());
+            if (board == null) {
+                continue;
+            }
+            board.requeueChanges(change);
+        }
+    }
+
+    public int evictIdleBoards() {
+        final var thresholdMillis = System.currentTimeMillis() - StudyConst.MATCH_BOARD_IDLE_EVICT_MILLIS;
+        var evictedCount = StudyConst.DEFAULT_INDEX;
+        for (final MatchBoard board : List.copyOf(this.boards.values())) {
+            if (!board.isIdleSince(thresholdMillis) || board.hasPendingChanges()) {
+                continue;
+            }
+            if (this.boards.remove(board.modeStateId(), board)) {
+                evictedCount++;
+            }
+        }
+        return evictedCount;
+    }
+
+    private void evictOnRollback(MatchBoard board) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        final var resourceKey = new RollbackEvictionKey(board.modeStateId());
+        if (TransactionSynchronizationManager.hasResource(resourceKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(resourceKey, board);
+        final var committedChanges = board.pendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                if (!MatchBoardCache.this.boards.remove(board.modeStateId(), board)) {
+                    return;
+                }
+                log.debug(LogConst.MATCH_BOARD_ROLLED_BACK, board.modeStateId());
+                writeCommittedChanges(committedChanges);
+            }
+        });
+    }
+
+    private void writeCommittedChanges(MatchBoardChanges committedChanges) {
+        if (committedChanges.isEmpty()) {
+            return;
+        }
+        final var transactionTemplate = new TransactionTemplate(this.transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeChanges(List.of(committedChanges)));
+        } catch (RuntimeException exception) {
+            log.warn(LogConst.MATCH_BOARD_ROLLBACK_FLUSH_FAILED, committedChanges.modeStateId(), exception);
+        }
+    }
+
+    private boolean isInSync(MatchBoard board, StudySessionModeStateEntity modeState) {
+        synchronized (board) {
+            return board.matchedPairCount() == modeState.getCurrentIndex();
+        }
+    }
+
+    private MatchBoard loadBoard(Long modeStateId) {
+        final var state = this.matchSessionStateRepository
+                .findByModeStateId(modeStateId)
+                .orElseThrow(() -> new MatchSessionStateNotFoundException(modeStateId));
+        final var tiles = this.matchSessionTileRepository.findByModeStateId(modeStateId);
+        final var snapshotItems = this.studySessionSnapshotItemRepository
+                .findAllById(collectSnapshotItemIds(tiles));
+        final var board = new MatchBoard(modeStateId, state, tiles, snapshotItems);
+        final var recoveredCount = board.restoreMatched(collectCorrectTileIds(modeStateId));
+        log.debug(LogConst.MATCH_BOARD_LOADED, modeStateId, recoveredCount);
+        return board;
+    }
+
+    private Set<Long> collectSnapshotItemIds(List<MatchSessionTileEntity> tiles) {
+        final Set<Long> snapshotItemIds = new LinkedHashSet<>();
+        for (final MatchSessionTileEntity tile : tiles) {
+            if (tile.getSnapshotItemId() == null) {
+                continue;
+            }
+            snapshotItemIds.add(tile.getSnapshotItemId());
+        }
+        return snapshotItemIds;
+    }
+
+    private List<Long> collectCorrectTileIds(Long modeStateId) {
+        final List<Long> tileIds = new ArrayList<>();
+        for (final StudyAttemptEntity attempt : this.studyAttemptRepository.findCorrectByModeStateId(modeStateId)) {
+            tileIds.add(attempt.getLeftTileId());
+            tileIds.add(attempt.getRightTileId());
+        }
+        return tileIds;
+    }
+
+    private record RollbackEvictionKey(Long modeStateId) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.learn.wire.service.engine;
+
+import java.util.List;
+
+import com.learn.wire.entity.MatchSessionStateEntity;
+
+public record MatchBoardChanges(
+        Long modeStateId,
+        List<Long> matchedTileIds,
+        MatchSessionStateEntity state) {
+
+    public boolean isEmpty() {
+        return this.matchedTileIds.isEmpty() && (this.state == null);
+    }
+}
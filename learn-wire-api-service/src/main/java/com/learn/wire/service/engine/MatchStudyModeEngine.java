@@ -15,44 +15,52 @@ import com.learn.wire.dto.study.query.StudySessionEventCommand;
 import com.learn.wire.dto.study.response.StudyAttemptResultResponse;
 import com.learn.wire.dto.study.response.StudyMatchTileResponse;
 import com.learn.wire.dto.study.response.StudySessionResponse;
-import com.learn.wire.entity.FlashcardEntity;
 import com.learn.wire.entity.MatchSessionStateEntity;
 import com.learn.wire.entity.MatchSessionTileEntity;
 import com.learn.wire.entity.StudyAttemptEntity;
 import com.learn.wire.entity.StudySessionEntity;
 import com.learn.wire.entity.StudySessionModeStateEntity;
+import com.learn.wire.entity.StudySessionSnapshotItemEntity;
 import com.learn.wire.exception.BadRequestException;
 import com.learn.wire.exception.BusinessException;
-import com.learn.wire.exception.MatchSessionStateNotFoundException;
 import com.learn.wire.exception.MatchSessionTileNotFoundException;
 import com.learn.wire.exception.StudyEventNotSupportedException;
+import com.learn.wire.observability.StudyEventMetrics;
 import com.learn.wire.repository.MatchSessionStateRepository;
 import com.learn.wire.repository.MatchSessionTileRepository;
 import com.learn.wire.repository.StudyAttemptRepository;
 import com.learn.wire.repository.StudySessionItemRepository;
 import com.learn.wire.repository.StudySessionModeStateRepository;
 import com.learn.wire.repository.StudySessionRepository;
+import com.learn.wire.service.loader.StudySessionBootstrap;
 
 @Component
 public class MatchStudyModeEngine extends AbstractStudyModeEngine {
 
     private final MatchSessionTileRepository matchSessionTileRepository;
     private final MatchSessionStateRepository matchSessionStateRepository;
+    private final MatchBoardCache matchBoardCache;
 
     public MatchStudyModeEngine(
             StudySessionRepository studySessionRepository,
             StudySessionModeStateRepository studySessionModeStateRepository,
             StudySessionItemRepository studySessionItemRepository,
             StudyAttemptRepository studyAttemptRepository,
+            StudyEventDeduplicator studyEventDeduplicator,
+            StudyEventMetrics studyEventMetrics,
             MatchSessionTileRepository matchSessionTileRepository,
-            MatchSessionStateRepository matchSessionStateRepository) {
+            MatchSessionStateRepository matchSessionStateRepository,
+            MatchBoardCache matchBoardCache) {
         super(
                 studySessionRepository,
                 studySessionModeStateRepository,
                 studySessionItemRepository,
-                studyAttemptRepository);
+                studyAttemptRepository,
+                studyEventDeduplicator,
+                studyEventMetrics);
         this.matchSessionTileRepository = matchSessionTileRepository;
         this.matchSessionStateRepository = matchSessionStateRepository;
+        this.matchBoardCache = matchBoardCache;
     }
 
     @Override
@@ -64,16 +72,17 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
     public void initializeSession(
             StudySessionEntity session,
             StudySessionModeStateEntity modeState,
-            List<FlashcardEntity> flashcards) {
-        final var shuffled = shuffleFlashcards(flashcards, session.getSeed());
+            List<StudySessionSnapshotItemEntity> snapshotItems) {
+        final var shuffled = shuffleSnapshotItems(snapshotItems, session.getSeed());
         if (shuffled.size() >= StudyConst.MINIMUM_MATCH_PAIR_COUNT) {
             final var tiles = createTiles(modeState.getId(), shuffled, session.getSeed());
-            this.matchSessionTileRepository.saveAll(tiles);
+            final var savedTiles = this.matchSessionTileRepository.saveAll(tiles);
             final var state = new MatchSessionStateEntity();
             state.setModeStateId(modeState.getId());
             state.setInteractionLocked(false);
             state.setVersion(StudyConst.DEFAULT_INDEX);
-            this.matchSessionStateRepository.save(state);
+            final var savedState = this.matchSessionStateRepository.save(state);
+            this.matchBoardCache.register(savedState, savedTiles, shuffled);
             modeState.setCurrentIndex(StudyConst.DEFAULT_INDEX);
             modeState.setTotalUnits(shuffled.size());
             this.studySessionModeStateRepository.save(modeState);
@@ -96,41 +105,38 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
             StudySessionModeStateEntity modeState,
             StudySessionEventCommand command,
             StudyAttemptEntity attempt) {
-        final var state = getRequiredState(modeState.getId());
-        releaseExpiredFeedback(state);
-        if (state.isInteractionLocked()) {
-            return;
+        final var board = this.matchBoardCache.getBoard(modeState);
+        synchronized (board) {
+            applyEvent(board, modeState, command, attempt);
         }
-        final var eventType = command.eventType();
-        final var expectedSide = resolveExpectedSide(eventType);
-        final var tile = resolveTargetTile(modeState.getId(), command.targetTileId(), expectedSide);
-        if (tile.isMatched()) {
-            return;
+        if (isModeCompleted(modeState)) {
+            this.matchBoardCache.flush(modeState.getId());
         }
-        applySelection(state, tile, eventType);
-        if (!hasCompleteSelection(state)) {
-            this.matchSessionStateRepository.save(state);
-            return;
-        }
-        resolvePairAttempt(modeState, state, attempt);
-        this.matchSessionStateRepository.save(state);
+    }
+
+    @Override
+    public void releaseModeState(StudySessionModeStateEntity modeState) {
+        super.releaseModeState(modeState);
+        this.matchBoardCache.flushAndEvict(modeState.getId());
     }
 
     @Override
     protected StudySessionResponse buildResponseInternal(
-            StudySessionEntity session,
+            StudySessionBootstrap bootstrap,
             StudySessionModeStateEntity modeState) {
-        final var state = getRequiredState(modeState.getId());
-        releaseExpiredFeedback(state);
-        final var leftTiles = this.matchSessionTileRepository
-                .findByModeStateIdAndSideOrderByTileOrderAsc(modeState.getId(), StudyConst.TILE_SIDE_LEFT);
-        final var rightTiles = this.matchSessionTileRepository
-                .findByModeStateIdAndSideOrderByTileOrderAsc(modeState.getId(), StudyConst.TILE_SIDE_RIGHT);
-        final var leftResponses = toMatchTileResponses(leftTiles, state);
-        final var rightResponses = toMatchTileResponses(rightTiles, state);
-        final var lastAttemptResult = toAttemptResult(state);
+        final var board = this.matchBoardCache.getBoard(modeState);
+        final List<StudyMatchTileResponse> leftResponses;
+        final List<StudyMatchTileResponse> rightResponses;
+        final StudyAttemptResultResponse lastAttemptResult;
+        synchronized (board) {
+            final var state = board.state();
+            final var feedbackActive = isFeedbackActive(state, Instant.now());
+            leftResponses = toMatchTileResponses(board.leftTiles(), state, feedbackActive);
+            rightResponses = toMatchTileResponses(board.rightTiles(), state, feedbackActive);
+            lastAttemptResult = toAttemptResult(state, feedbackActive);
+        }
         return buildSessionResponse(
-                session,
+                bootstrap,
                 modeState,
                 List.of(),
                 leftResponses,
@@ -138,13 +144,40 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
                 lastAttemptResult);
     }
 
-    private List<MatchSessionTileEntity> createTiles(Long modeStateId, List<FlashcardEntity> flashcards, int seed) {
+    private void applyEvent(
+            MatchBoard board,
+            StudySessionModeStateEntity modeState,
+            StudySessionEventCommand command,
+            StudyAttemptEntity attempt) {
+        final var state = board.state();
+        releaseExpiredFeedback(board);
+        if (state.isInteractionLocked()) {
+            return;
+        }
+        final var eventType = command.eventType();
+        final var expectedSide = resolveExpectedSide(eventType);
+        final var tile = resolveTargetTile(board, command.targetTileId(), expectedSide);
+        if (tile.isMatched()) {
+            return;
+        }
+        applySelection(state, tile, eventType);
+        board.markStateDirty();
+        if (!hasCompleteSelection(state)) {
+            return;
+        }
+        resolvePairAttempt(board, modeState, attempt);
+    }
+
+    private List<MatchSessionTileEntity> createTiles(
+            Long modeStateId,
+            List<StudySessionSnapshotItemEntity> snapshotItems,
+            int seed) {
         final List<MatchSessionTileEntity> leftTiles = new ArrayList<>();
         final List<MatchSessionTileEntity> rightTiles = new ArrayList<>();
         var pairKey = StudyConst.DEFAULT_INDEX;
-        for (final FlashcardEntity flashcard : flashcards) {
-            leftTiles.add(buildTile(modeStateId, pairKey, StudyConst.TILE_SIDE_LEFT, flashcard.getFrontText()));
-            rightTiles.add(buildTile(modeStateId, pairKey, StudyConst.TILE_SIDE_RIGHT, flashcard.getBackText()));
+        for (final StudySessionSnapshotItemEntity snapshotItem : snapshotItems) {
+            leftTiles.add(buildTile(modeStateId, snapshotItem.getId(), pairKey, StudyConst.TILE_SIDE_LEFT));
+            rightTiles.add(buildTile(modeStateId, snapshotItem.getId(), pairKey, StudyConst.TILE_SIDE_RIGHT));
             pairKey++;
         }
         Collections.shuffle(leftTiles, new Random(seed + 1L));
@@ -157,12 +190,12 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
         return allTiles;
     }
 
-    private MatchSessionTileEntity buildTile(Long modeStateId, int pairKey, String side, String label) {
+    private MatchSessionTileEntity buildTile(Long modeStateId, Long snapshotItemId, int pairKey, String side) {
         final var tile = new MatchSessionTileEntity();
         tile.setModeStateId(modeStateId);
+        tile.setSnapshotItemId(snapshotItemId);
         tile.setPairKey(pairKey);
         tile.setSide(side);
-        tile.setLabelText(label);
         tile.setMatched(false);
         return tile;
     }
@@ -191,39 +224,38 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
     }
 
     private void resolvePairAttempt(
+            MatchBoard board,
             StudySessionModeStateEntity modeState,
-            MatchSessionStateEntity state,
             StudyAttemptEntity attempt) {
-        final var leftTile = resolveTileById(modeState.getId(), state.getSelectedLeftTileId());
-        final var rightTile = resolveTileById(modeState.getId(), state.getSelectedRightTileId());
+        final var state = board.state();
+        final var leftTile = resolveTileById(board, state.getSelectedLeftTileId());
+        final var rightTile = resolveTileById(board, state.getSelectedRightTileId());
         validateTileSide(leftTile, StudyConst.TILE_SIDE_LEFT);
         validateTileSide(rightTile, StudyConst.TILE_SIDE_RIGHT);
         attempt.setLeftTileId(leftTile.getId());
         attempt.setRightTileId(rightTile.getId());
         if (leftTile.getPairKey() == rightTile.getPairKey()) {
-            applySuccessFeedback(modeState, state, leftTile, rightTile, attempt);
+            applySuccessFeedback(board, modeState, leftTile, rightTile, attempt);
             return;
         }
         applyErrorFeedback(state, leftTile, rightTile, attempt);
     }
 
     private void applySuccessFeedback(
+            MatchBoard board,
             StudySessionModeStateEntity modeState,
-            MatchSessionStateEntity state,
             MatchSessionTileEntity leftTile,
             MatchSessionTileEntity rightTile,
             StudyAttemptEntity attempt) {
 
-        leftTile.setMatched(true);
-        rightTile.setMatched(true);
-
-        this.matchSessionTileRepository.saveAll(List.of(leftTile, rightTile));
+        board.markMatched(leftTile);
+        board.markMatched(rightTile);
 
         final var nextMatchedCount = modeState.getCurrentIndex() + 1;
         modeState.setCurrentIndex(nextMatchedCount);
         attempt.setIsCorrect(true);
 
-        applyFeedbackState(state, StudyConst.FEEDBACK_SUCCESS, leftTile.getId(), rightTile.getId());
+        applyFeedbackState(board.state(), StudyConst.FEEDBACK_SUCCESS, leftTile.getId(), rightTile.getId());
 
         if (nextMatchedCount < modeState.getTotalUnits()) {
             return;
@@ -257,27 +289,21 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
         state.setVersion(state.getVersion() + 1);
     }
 
-    private MatchSessionTileEntity resolveTargetTile(Long modeStateId, Long targetTileId, String expectedSide) {
+    private MatchSessionTileEntity resolveTargetTile(MatchBoard board, Long targetTileId, String expectedSide) {
         if (targetTileId != null) {
-            final var tile = resolveTileById(modeStateId, targetTileId);
+            final var tile = resolveTileById(board, targetTileId);
             validateTileSide(tile, expectedSide);
             return tile;
         }
         throw new BadRequestException(StudyConst.EVENT_TARGET_TILE_REQUIRED_KEY);
     }
 
-    private MatchSessionTileEntity resolveTileById(Long modeStateId, Long tileId) {
-        return this.matchSessionTileRepository
-                .findByModeStateIdAndId(modeStateId, tileId)
+    private MatchSessionTileEntity resolveTileById(MatchBoard board, Long tileId) {
+        return board
+                .findTile(tileId)
                 .orElseThrow(() -> new MatchSessionTileNotFoundException(tileId));
     }
 
-    private MatchSessionStateEntity getRequiredState(Long modeStateId) {
-        return this.matchSessionStateRepository
-                .findByModeStateId(modeStateId)
-                .orElseThrow(() -> new MatchSessionStateNotFoundException(modeStateId));
-    }
-
     private String resolveExpectedSide(StudyEventType eventType) {
         if (eventType == StudyEventType.MATCH_SELECT_LEFT) {
             return StudyConst.TILE_SIDE_LEFT;
@@ -292,23 +318,16 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
         throw new BusinessException(StudyConst.MATCH_TILE_SIDE_INVALID_KEY, tile.getId(), expectedSide);
     }
 
-    private void releaseExpiredFeedback(MatchSessionStateEntity state) {
-        if (!state.isInteractionLocked()) {
-            return;
-        }
-        final var feedbackUntil = state.getFeedbackUntil();
-        if (feedbackUntil == null) {
-            clearFeedbackState(state);
-            this.matchSessionStateRepository.save(state);
-            return;
-        }
-        if (feedbackUntil.isAfter(Instant.now())) {
+    private void releaseExpiredFeedback(MatchBoard board) {
+        final var state = board.state();
+        if (!state.isInteractionLocked() || isFeedbackActive(state, Instant.now())) {
             return;
         }
         clearFeedbackState(state);
-        this.matchSessionStateRepository.save(state);
+        board.markStateDirty();
     }
 
+
     private void clearFeedbackState(MatchSessionStateEntity state) {
         state.setInteractionLocked(false);
         state.setFeedbackStatus(null);
@@ -318,13 +337,22 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
         state.setVersion(state.getVersion() + 1);
     }
 
+    private boolean isFeedbackActive(MatchSessionStateEntity state, Instant now) {
+        if (!state.isInteractionLocked()) {
+            return false;
+        }
+        final var feedbackUntil = state.getFeedbackUntil();
+        return (feedbackUntil != null) && feedbackUntil.isAfter(now);
+    }
+
     private List<StudyMatchTileResponse> toMatchTileResponses(
             List<MatchSessionTileEntity> tiles,
-            MatchSessionStateEntity state) {
+            MatchSessionStateEntity state,
+            boolean feedbackActive) {
         final List<StudyMatchTileResponse> responses = new ArrayList<>();
         for (final MatchSessionTileEntity tile : tiles) {
-            final var successFlash = isSuccessFeedbackTile(state, tile.getId());
-            final var errorFlash = isErrorFeedbackTile(state, tile.getId());
+            final var successFlash = feedbackActive && isSuccessFeedbackTile(state, tile.getId());
+            final var errorFlash = feedbackActive && isErrorFeedbackTile(state, tile.getId());
             final var hidden = tile.isMatched() && !successFlash;
             final var selected = isSelectedTile(state, tile.getId(), tile.getSide());
             responses.add(new StudyMatchTileResponse(
@@ -356,14 +384,14 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
     }
 
     private boolean isSuccessFeedbackTile(MatchSessionStateEntity state, Long tileId) {
-        if (!StudyConst.FEEDBACK_SUCCESS.equalsIgnoreCase(state.getFeedbackStatus()) || !state.isInteractionLocked()) {
+        if (!StudyConst.FEEDBACK_SUCCESS.equalsIgnoreCase(state.getFeedbackStatus())) {
             return false;
         }
         return isFeedbackPairTile(state, tileId);
     }
 
     private boolean isErrorFeedbackTile(MatchSessionStateEntity state, Long tileId) {
-        if (!StudyConst.FEEDBACK_ERROR.equalsIgnoreCase(state.getFeedbackStatus()) || !state.isInteractionLocked()) {
+        if (!StudyConst.FEEDBACK_ERROR.equalsIgnoreCase(state.getFeedbackStatus())) {
             return false;
         }
         return isFeedbackPairTile(state, tileId);
@@ -374,7 +402,10 @@ public class MatchStudyModeEngine extends AbstractStudyModeEngine {
                 || ((state.getFeedbackRightTileId() != null) && state.getFeedbackRightTileId().equals(tileId));
     }
 
-    private StudyAttemptResultResponse toAttemptResult(MatchSessionStateEntity state) {
+    private StudyAttemptResultResponse toAttemptResult(MatchSessionStateEntity state, boolean feedbackActive) {
+        if (!feedbackActive) {
+            return new StudyAttemptResultResponse(null, null, null, false, null);
+        }
         return new StudyAttemptResultResponse(
                 state.getFeedbackStatus(),
                 state.getFeedbackLeftTileId(),
@@ -0,0 +1,86 @@
+package com.learn.wire.service.engine;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.learn.wire.constant.StudyConst;
+import com.learn.wire.dto.study.query.StudySessionEventCommand;
+import com.learn.wire.repository.StudyAttemptRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class StudyEventDeduplicator {
+
+    private final Map<Long, StudyEventWindow> windows = Collections.synchronizedMap(
+            new LinkedHashMap<>(StudyConst.EVENT_WINDOW_MAX_MODE_STATES, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, StudyEventWindow> eldest) {
+                    return size() > StudyConst.EVENT_WINDOW_MAX_MODE_STATES;
+                }
+            });
+    private final StudyAttemptRepository studyAttemptRepository;
+
+    public boolean isDuplicate(Long modeStateId, StudySessionEventCommand command) {
+        final var window = getWindow(modeStateId);
+        if (window.contains(command.clientSequence(), command.clientEventId())) {
+            return true;
+        }
+        if (window.covers(command.clientSequence())) {
+            return false;
+        }
+        return this.studyAttemptRepository.existsRecorded(
+                modeStateId,
+                command.clientSequence(),
+                command.clientEventId());
+    }
+
+    public void recordAfterCommit(Long modeStateId, StudySessionEventCommand command) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(modeStateId, command);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                record(modeStateId, command);
+            }
+        });
+    }
+
+    public void release(Long modeStateId) {
+        this.windows.remove(modeStateId);
+    }
+
+    private void record(Long modeStateId, StudySessionEventCommand command) {
+        final var window = this.windows.get(modeStateId);
+        if (window == null) {
+            return;
+        }
+        window.record(command.clientSequence(), command.clientEventId());
+    }
+
+    private StudyEventWindow getWindow(Long modeStateId) {
+        final var cachedWindow = this.windows.get(modeStateId);
+        if (cachedWindow != null) {
+            return cachedWindow;
+        }
+        final var recentAttempts = this.studyAttemptRepository.findByModeStateIdOrderByClientSequenceDesc(
+                modeStateId,
+                Limit.of(StudyConst.EVENT_WINDOW_SIZE));
+        final var loadedWindow = new StudyEventWindow(StudyConst.EVENT_WINDOW_SIZE, recentAttempts);
+        this.windows.put(modeStateId, loadedWindow);
+        return loadedWindow;
+    }
+}
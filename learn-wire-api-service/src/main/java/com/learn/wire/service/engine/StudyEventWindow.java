@@ -0,0 +1,50 @@
+package com.learn.wire.service.engine;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.learn.wire.constant.StudyConst;
+import com.learn.wire.entity.StudyAttemptEntity;
+
+final class StudyEventWindow {
+
+    private final int capacity;
+    private final TreeMap<Integer, String> eventIdBySequence = new TreeMap<>();
+    private final Map<String, Integer> sequenceByEventId = new HashMap<>();
+    private int floorSequence;
+
+    StudyEventWindow(int capacity, List<StudyAttemptEntity> recentAttempts) {
+        this.capacity = capacity;
+        this.floorSequence = StudyConst.DEFAULT_CLIENT_SEQUENCE - 1;
+        for (final StudyAttemptEntity attempt : recentAttempts) {
+            put(attempt.getClientSequence(), attempt.getClientEventId());
+        }
+        if ((recentAttempts.size() >= capacity) && !this.eventIdBySequence.isEmpty()) {
+            this.floorSequence = Math.max(this.floorSequence, this.eventIdBySequence.firstKey() - 1);
+        }
+    }
+
+    synchronized boolean contains(int clientSequence, String clientEventId) {
+        return this.eventIdBySequence.containsKey(clientSequence) || this.sequenceByEventId.containsKey(clientEventId);
+    }
+
+    synchronized boolean covers(int clientSequence) {
+        return clientSequence > this.floorSequence;
+    }
+
+    synchronized void record(int clientSequence, String clientEventId) {
+        put(clientSequence, clientEventId);
+    }
+
+    private void put(int clientSequence, String clientEventId) {
+        this.eventIdBySequence.put(clientSequence, clientEventId);
+        this.sequenceByEventId.put(clientEventId, clientSequence);
+        while (this.eventIdBySequence.size() > this.capacity) {
+            final var evicted = this.eventIdBySequence.pollFirstEntry();
+            this.sequenceByEventId.remove(evicted.getValue());
+            this.floorSequence = Math.max(this.floorSequence, evicted.getKey());
+        }
+    }
+}
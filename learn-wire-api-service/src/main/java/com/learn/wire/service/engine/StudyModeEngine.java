@@ -5,9 +5,10 @@ import java.util.List;
 import com.learn.wire.dto.study.query.StudyMode;
 import com.learn.wire.dto.study.query.StudySessionEventCommand;
 import com.learn.wire.dto.study.response.StudySessionResponse;
-import com.learn.wire.entity.FlashcardEntity;
 import com.learn.wire.entity.StudySessionEntity;
 import com.learn.wire.entity.StudySessionModeStateEntity;
+import com.learn.wire.entity.StudySessionSnapshotItemEntity;
+import com.learn.wire.service.loader.StudySessionBootstrap;
 
 public interface StudyModeEngine {
 
@@ -16,12 +17,19 @@ public interface StudyModeEngine {
     void initializeSession(
             StudySessionEntity session,
             StudySessionModeStateEntity modeState,
-            List<FlashcardEntity> flashcards);
+            List<StudySessionSnapshotItemEntity> snapshotItems);
 
-    StudySessionResponse buildResponse(StudySessionEntity session, StudySessionModeStateEntity modeState);
+    StudySessionResponse buildResponse(StudySessionBootstrap bootstrap, StudySessionModeStateEntity modeState);
 
     StudySessionResponse handleEvent(
-            StudySessionEntity session,
+            StudySessionBootstrap bootstrap,
             StudySessionModeStateEntity modeState,
             StudySessionEventCommand command);
+
+    StudySessionResponse handleEvents(
+            StudySessionBootstrap bootstrap,
+            StudySessionModeStateEntity modeState,
+            List<StudySessionEventCommand> commands);
+
+    void releaseModeState(StudySessionModeStateEntity modeState);
 }
@@ -0,0 +1,148 @@
+package com.learn.wire.service.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.constant.JobConst;
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.entity.DeckEntity;
+import com.learn.wire.entity.FolderEntity;
+import com.learn.wire.entity.JobCheckpointEntity;
+import com.learn.wire.repository.DeckRepository;
+import com.learn.wire.repository.FlashcardRepository;
+import com.learn.wire.repository.FolderRepository;
+import com.learn.wire.repository.JobCheckpointRepository;
+import com.learn.wire.service.BulkSoftDeleteService;
+import com.learn.wire.service.FolderCounterService;
+import com.learn.wire.service.job.FlashcardPurgeRequest;
+import com.learn.wire.util.FolderPaths;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class BulkSoftDeleteServiceImpl implements BulkSoftDeleteService {
+
+    private final FolderRepository folderRepository;
+    private final DeckRepository deckRepository;
+    private final FlashcardRepository flashcardRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final FolderCounterService folderCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void softDeleteDeck(DeckEntity deck, int activeFlashcardCount, String currentActor) {
+        final var deletedAt = Instant.now();
+        final var deckIds = List.of(deck.getId());
+        softDeleteFlashcards(deckIds, activeFlashcardCount, currentActor, deletedAt);
+        this.deckRepository.softDeleteActiveByIds(deckIds, currentActor, currentActor, deletedAt);
+        this.folderRepository.applyDirectDeckCountDelta(deck.getFolderId(), -1);
+        this.folderCounterService.applyFlashcardDelta(deck.getFolderId(), -activeFlashcardCount, currentActor);
+    }
+
+    @Override
+    public int softDeleteFolderSubtree(FolderEntity root, String currentActor) {
+        final var deletedAt = Instant.now();
+        final var aggregateCount = this.folderCounterService.resolveAggregateCount(root);
+        final var descendantPattern = FolderPaths.descendantPattern(root);
+        final var deckIds = this.deckRepository.findActiveIdsInFolderSubtree(
+                root.getId(),
+                descendantPattern,
+                currentActor);
+        if (!deckIds.isEmpty()) {
+            softDeleteFlashcards(deckIds, aggregateCount, currentActor, deletedAt);
+            this.deckRepository.softDeleteActiveByIds(deckIds, currentActor, currentActor, deletedAt);
+        }
+        this.folderCounterService.applyAggregateDelta(
+                root.getParentFolderId(),
+                -aggregateCount,
+                currentActor);
+        if (root.getParentFolderId() != null) {
+            this.folderRepository.applyChildFolderCountDelta(root.getParentFolderId(), -1);
+        }
+        return this.folderRepository.softDeleteSubtree(
+                root.getId(),
+                descendantPattern,
+                currentActor,
+                currentActor,
+                deletedAt);
+    }
+
+    @Override
+    public int softDeleteFlashcardChunk(List<Long> deckIds, String currentActor, Instant deletedAt) {
+        final var purgedCount = this.flashcardRepository.softDeleteActiveChunkByDeckIds(
+                deckIds,
+                currentActor,
+                currentActor,
+                deletedAt,
+                FlashcardConst.BULK_DELETE_CHUNK_SIZE);
+        this.jobCheckpointRepository.touchAll(toPurgeJobNames(deckIds), Instant.now());
+        return purgedCount;
+    }
+
+    @Override
+    public List<FlashcardPurgeRequest> claimStalledFlashcardPurges(int batchSize) {
+        final var checkpoints = this.jobCheckpointRepository.findStaleForUpdateSkipLocked(
+                JobConst.FLASHCARD_PURGE_JOB_NAME_PREFIX + "%",
+                Instant.now().minusMillis(JobConst.FLASHCARD_PURGE_STALE_MILLIS),
+                Limit.of(batchSize));
+        final List<FlashcardPurgeRequest> requests = new ArrayList<>();
+        final List<String> claimedJobNames = new ArrayList<>();
+        for (final JobCheckpointEntity checkpoint : checkpoints) {
+            claimedJobNames.add(checkpoint.getJobName());
+            final var deckId = Long.valueOf(
+                    checkpoint.getJobName().substring(JobConst.FLASHCARD_PURGE_JOB_NAME_PREFIX.length()));
+            this.deckRepository.findById(deckId).ifPresent(deck -> requests.add(new FlashcardPurgeRequest(
+                    List.of(deckId),
+                    deck.getDeletedBy(),
+                    Instant.parse(checkpoint.getCheckpointValue()),
+                    deck.getFlashcardCount())));
+        }
+        if (!claimedJobNames.isEmpty()) {
+            this.jobCheckpointRepository.touchAll(claimedJobNames, Instant.now());
+        }
+        return requests;
+    }
+
+    @Override
+    public void completeFlashcardPurge(List<Long> deckIds) {
+        this.jobCheckpointRepository.deleteAllByIdInBatch(toPurgeJobNames(deckIds));
+    }
+
+    private void softDeleteFlashcards(
+            List<Long> deckIds,
+            long expectedCount,
+            String currentActor,
+            Instant deletedAt) {
+        if (expectedCount <= FlashcardConst.BULK_DELETE_BACKGROUND_THRESHOLD) {
+            this.flashcardRepository.softDeleteActiveByDeckIds(deckIds, currentActor, currentActor, deletedAt);
+            return;
+        }
+        final var checkpointValue = deletedAt.toString();
+        final List<JobCheckpointEntity> checkpoints = new ArrayList<>();
+        for (final String jobName : toPurgeJobNames(deckIds)) {
+            checkpoints.add(new JobCheckpointEntity(jobName, checkpointValue, null));
+        }
+        this.jobCheckpointRepository.saveAll(checkpoints);
+        log.info(LogConst.FLASHCARD_PURGE_JOB_SCHEDULED, deckIds, expectedCount);
+        this.eventPublisher.publishEvent(new FlashcardPurgeRequest(deckIds, currentActor, deletedAt, expectedCount));
+    }
+
+    private List<String> toPurgeJobNames(List<Long> deckIds) {
+        final List<String> jobNames = new ArrayList<>();
+        for (final Long deckId : deckIds) {
+            jobNames.add(JobConst.FLASHCARD_PURGE_JOB_NAME_PREFIX + deckId);
+        }
+        return jobNames;
+    }
+}
@@ -9,21 +9,23 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.learn.wire.constant.DeckConst;
-import com.learn.wire.constant.FolderConst;
+import com.learn.wire.constant.FlashcardConst;
 import com.learn.wire.constant.LogConst;
+import com.learn.wire.dto.common.query.KeysetCursor;
 import com.learn.wire.dto.common.response.PageResponse;
 import com.learn.wire.dto.deck.query.DeckListQuery;
 import com.learn.wire.dto.deck.request.DeckAudioSettingsUpdateRequest;
+import com.learn.wire.dto.deck.request.DeckCopyRequest;
 import com.learn.wire.dto.deck.request.DeckCreateRequest;
 import com.learn.wire.dto.deck.request.DeckUpdateRequest;
 import com.learn.wire.dto.deck.response.DeckAudioSettingsResponse;
@@ -31,7 +33,6 @@ import com.learn.wire.dto.deck.response.DeckResponse;
 import com.learn.wire.entity.AppUserEntity;
 import com.learn.wire.entity.AppUserSettingEntity;
 import com.learn.wire.entity.DeckEntity;
-import com.learn.wire.entity.FlashcardEntity;
 import com.learn.wire.entity.FolderEntity;
 import com.learn.wire.exception.BadRequestException;
 import com.learn.wire.exception.BusinessException;
@@ -42,10 +43,13 @@ import com.learn.wire.repository.AppUserRepository;
 import com.learn.wire.repository.AppUserSettingRepository;
 import com.learn.wire.repository.DeckRepository;
 import com.learn.wire.repository.FlashcardRepository;
-import com.learn.wire.repository.FlashcardRepository.DeckFlashcardCountProjection;
 import com.learn.wire.repository.FolderRepository;
+import com.learn.wire.repository.specification.DeckSpecifications;
 import com.learn.wire.security.CurrentUserAccessor;
+import com.learn.wire.service.BulkSoftDeleteService;
 import com.learn.wire.service.DeckService;
+import com.learn.wire.service.FolderCounterService;
+import com.learn.wire.util.SearchTextNormalizer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -61,6 +65,8 @@ public class DeckServiceImpl implements DeckService {
     private final AppUserSettingRepository appUserSettingRepository;
     private final FolderRepository folderRepository;
     private final FlashcardRepository flashcardRepository;
+    private final FolderCounterService folderCounterService;
+    private final BulkSoftDeleteService bulkSoftDeleteService;
     private final DeckMapper deckMapper;
     private final CurrentUserAccessor currentUserAccessor;
 
@@ -76,16 +82,17 @@ public class DeckServiceImpl implements DeckService {
                 query.sortField().value(),
                 query.sortDirection().value());
         getActiveFolderEntity(query.folderId(), currentActor);
-        final var sort = Sort.by(query.sortDirection().toSpringDirection(), query.sortField().sortProperty());
+        final var sort = buildSort(query);
+        if (query.isKeyset()) {
+            return getDeckWindow(query, sort, currentActor);
+        }
         final Pageable pageable = PageRequest.of(query.page(), query.size(), sort);
         final var page = this.deckRepository.findPageByFolderAndSearch(
                 query.folderId(),
                 currentActor,
-                query.search(),
+                SearchTextNormalizer.normalize(query.search()),
                 pageable);
-        final var flashcardCountByDeck = resolveFlashcardCountByDeck(page.getContent(), currentActor);
-        final var actorDisplayNameByActor = resolveActorDisplayNameByActor(page.getContent());
-        final var items = toResponses(page.getContent(), flashcardCountByDeck, actorDisplayNameByActor);
+        final var items = toResponses(page.getContent());
         return new PageResponse<>(
                 items,
                 page.getNumber(),
@@ -96,7 +103,44 @@ public class DeckServiceImpl implements DeckService {
                 page.hasPrevious(),
                 query.search(),
                 query.sortField().value(),
-                query.sortDirection().value());
+                query.sortDirection().value(),
+                null);
+    }
+
+    private PageResponse<DeckResponse> getDeckWindow(DeckListQuery query, Sort sort, String currentActor) {
+        final var specification = DeckSpecifications.activeByFolderAndSearch(
+                query.folderId(),
+                currentActor,
+                SearchTextNormalizer.normalize(query.search()));
+        final Window<DeckEntity> window = this.deckRepository.findBy(
+                specification,
+                fluentQuery -> fluentQuery.sortBy(sort).limit(query.size()).scroll(query.keysetPosition()));
+        final var items = toResponses(window.getContent());
+        final var totalElements = KeysetCursor.totalElements(
+                query.includeTotal(),
+                () -> this.deckRepository.count(specification));
+        return new PageResponse<>(
+                items,
+                query.page(),
+                query.size(),
+                totalElements,
+                KeysetCursor.totalPages(totalElements, query.size()),
+                window.hasNext(),
+                !query.keysetPosition().isInitial(),
+                query.search(),
+                query.sortField().value(),
+                query.sortDirection().value(),
+                KeysetCursor.nextCursor(
+                        window,
+                        query.sortField().value(),
+                        query.sortDirection().value(),
+                        query.filterFingerprint()));
+    }
+
+    private Sort buildSort(DeckListQuery query) {
+        return Sort
+                .by(query.sortDirection().toSpringDirection(), query.sortField().sortProperty())
+                .and(Sort.by(query.sortDirection().toSpringDirection(), DeckConst.SORT_BY_TIE_BREAKER));
     }
 
     @Override
@@ -104,11 +148,8 @@ public class DeckServiceImpl implements DeckService {
     public DeckResponse getDeck(Long folderId, Long deckId) {
         final var currentActor = this.currentUserAccessor.getCurrentActor();
         final var deck = getActiveDeckEntity(folderId, deckId, currentActor);
-        final var flashcardCount = this.flashcardRepository.countByDeckIdAndCreatedByAndDeletedAtIsNull(
-                deckId,
-                currentActor);
         final var actorDisplayNameByActor = resolveActorDisplayNameByActor(List.of(deck));
-        return toResponse(deck, flashcardCount, actorDisplayNameByActor);
+        return toResponse(deck, actorDisplayNameByActor);
     }
 
     @Override
@@ -127,12 +168,15 @@ public class DeckServiceImpl implements DeckService {
         entity.setName(normalizedName);
         entity.setNormalizedName(normalizedNameForIndex);
         entity.setDescription(normalizeDescription(request.description()));
+        entity.setSearchName(SearchTextNormalizer.normalize(entity.getName()));
+        entity.setSearchDescription(SearchTextNormalizer.normalize(entity.getDescription()));
         entity.setCreatedBy(currentActor);
         entity.setUpdatedBy(currentActor);
 
         final var created = persistDeckWithDuplicateNameGuard(entity);
+        this.folderRepository.applyDirectDeckCountDelta(folderId, 1);
         final var actorDisplayNameByActor = resolveActorDisplayNameByActor(List.of(created));
-        return toResponse(created, 0L, actorDisplayNameByActor);
+        return toResponse(created, actorDisplayNameByActor);
     }
 
     @Override
@@ -148,13 +192,12 @@ public class DeckServiceImpl implements DeckService {
         deck.setName(normalizedName);
         deck.setNormalizedName(normalizedNameForIndex);
         deck.setDescription(normalizeDescription(request.description()));
+        deck.setSearchName(SearchTextNormalizer.normalize(deck.getName()));
+        deck.setSearchDescription(SearchTextNormalizer.normalize(deck.getDescription()));
         deck.setUpdatedBy(currentActor);
         final var updated = persistDeckWithDuplicateNameGuard(deck);
-        final var flashcardCount = this.flashcardRepository.countByDeckIdAndCreatedByAndDeletedAtIsNull(
-                deckId,
-                currentActor);
         final var actorDisplayNameByActor = resolveActorDisplayNameByActor(List.of(updated));
-        return toResponse(updated, flashcardCount, actorDisplayNameByActor);
+        return toResponse(updated, actorDisplayNameByActor);
     }
 
     @Override
@@ -187,48 +230,98 @@ public class DeckServiceImpl implements DeckService {
         final var currentActor = this.currentUserAccessor.getCurrentActor();
         log.info(LogConst.DECK_SERVICE_DELETE, deckId, folderId);
         final var deck = getActiveDeckEntity(folderId, deckId, currentActor);
-        final var activeFlashcards = this.flashcardRepository
-                .findByDeckIdAndCreatedByAndDeletedAtIsNull(
-                        deckId,
-                        currentActor);
-        if (!activeFlashcards.isEmpty()) {
-            final var activeFolders = this.folderRepository.findByCreatedByAndDeletedAtIsNull(
-                    currentActor);
-            final var folderById = toFolderById(activeFolders);
-            applyFlashcardDelta(deck.getFolderId(), -activeFlashcards.size(), folderById, currentActor);
-            this.folderRepository.saveAll(activeFolders);
-
-            final var deletedAt = Instant.now();
-            for (final FlashcardEntity flashcard : activeFlashcards) {
-                flashcard.setDeletedAt(deletedAt);
-                flashcard.setDeletedBy(currentActor);
-                flashcard.setUpdatedBy(currentActor);
-            }
-            this.flashcardRepository.saveAll(activeFlashcards);
+        this.bulkSoftDeleteService.softDeleteDeck(deck, deck.getFlashcardCount(), currentActor);
+    }
+
+    @Override
+    public DeckResponse copyDeck(Long folderId, Long deckId, DeckCopyRequest request) {
+        final var currentActor = this.currentUserAccessor.getCurrentActor();
+        final var targetFolderId = request.targetFolderId() == null ? folderId : request.targetFolderId();
+        log.info(LogConst.DECK_SERVICE_COPY, deckId, folderId, targetFolderId, request.swapSides());
+        final var source = getActiveDeckEntity(folderId, deckId, currentActor);
+        getActiveFolderEntity(targetFolderId, currentActor);
+        final var copyName = resolveCopyName(source, request.name());
+        validateRequest(copyName, source.getDescription());
+        validateFolderAllowsDeckCreation(targetFolderId, currentActor);
+        final var normalizedName = normalizeName(copyName);
+        final var normalizedNameForIndex = normalizeNameForIndex(normalizedName);
+        validateNameUniquenessForCreate(targetFolderId, normalizedNameForIndex, currentActor);
+        if (request.swapSides() && this.flashcardRepository.existsActiveByDeckIdWithBackTextLongerThan(
+                source.getId(),
+                currentActor,
+                FlashcardConst.FRONT_TEXT_MAX_LENGTH)) {
+            throw new BadRequestException(DeckConst.COPY_SWAP_TOO_LONG_KEY);
         }
 
-        deck.setDeletedAt(Instant.now());
-        deck.setNormalizedName(null);
-        deck.setDeletedBy(currentActor);
-        deck.setUpdatedBy(currentActor);
-        this.deckRepository.save(deck);
+        final var entity = new DeckEntity();
+        entity.setFolderId(targetFolderId);
+        entity.setName(normalizedName);
+        entity.setNormalizedName(normalizedNameForIndex);
+        entity.setDescription(source.getDescription());
+        entity.setSearchName(SearchTextNormalizer.normalize(normalizedName));
+        entity.setSearchDescription(source.getSearchDescription());
+        entity.setTermLangCode(resolveCopyTermLangCode(source, request.swapSides(), currentActor));
+        entity.setSettingAutoPlayAudioOverride(source.getSettingAutoPlayAudioOverride());
+        entity.setSettingCardsPerSessionOverride(source.getSettingCardsPerSessionOverride());
+        entity.setSettingTtsVoiceIdOverride(source.getSettingTtsVoiceIdOverride());
+        entity.setSettingTtsSpeechRateOverride(source.getSettingTtsSpeechRateOverride());
+        entity.setSettingTtsPitchOverride(source.getSettingTtsPitchOverride());
+        entity.setSettingTtsVolumeOverride(source.getSettingTtsVolumeOverride());
+        entity.setCreatedBy(currentActor);
+        entity.setUpdatedBy(currentActor);
+
+        final var created = persistDeckWithDuplicateNameGuard(entity);
+        this.folderRepository.applyDirectDeckCountDelta(targetFolderId, 1);
+        final var copiedCount = this.flashcardRepository.copyActiveToDeck(
+                source.getId(),
+                created.getId(),
+                request.swapSides(),
+                currentActor,
+                Instant.now());
+        if (copiedCount > 0) {
+            this.deckRepository.applyFlashcardCountDelta(created.getId(), copiedCount);
+            this.folderCounterService.applyFlashcardDelta(targetFolderId, copiedCount, currentActor);
+        }
+        log.info(LogConst.DECK_SERVICE_COPIED, source.getId(), created.getId(), copiedCount);
+        final var actorDisplayNameByActor = resolveActorDisplayNameByActor(List.of(created));
+        return toResponse(created, copiedCount, actorDisplayNameByActor);
     }
 
-    private List<DeckResponse> toResponses(
-            List<DeckEntity> entities,
-            Map<Long, Long> flashcardCountByDeck,
-            Map<String, String> actorDisplayNameByActor) {
+    private String resolveCopyName(DeckEntity source, String requestedName) {
+        if (StringUtils.isNotBlank(requestedName)) {
+            return requestedName;
+        }
+        final var maxBaseLength = DeckConst.NAME_MAX_LENGTH - DeckConst.COPY_NAME_SUFFIX.length();
+        return StringUtils.left(source.getName(), maxBaseLength) + DeckConst.COPY_NAME_SUFFIX;
+    }
+
+    private String resolveCopyTermLangCode(DeckEntity source, boolean swapSides, String currentActor) {
+        if (!swapSides) {
+            return source.getTermLangCode();
+        }
+        final var backLangCodes = this.flashcardRepository.findActiveBackLangCodesByDeckId(source.getId(), currentActor);
+        if (backLangCodes.size() != 1) {
+            return null;
+        }
+        return backLangCodes.get(0);
+    }
+
+    private List<DeckResponse> toResponses(List<DeckEntity> entities) {
+        final var actorDisplayNameByActor = resolveActorDisplayNameByActor(entities);
         final List<DeckResponse> responses = new ArrayList<>();
         for (final DeckEntity entity : entities) {
-            final long flashcardCount = flashcardCountByDeck.getOrDefault(entity.getId(), 0L);
-            responses.add(toResponse(entity, flashcardCount, actorDisplayNameByActor));
+            responses.add(toResponse(entity, actorDisplayNameByActor));
         }
         return responses;
     }
 
+    private DeckResponse toResponse(DeckEntity entity, Map<String, String> actorDisplayNameByActor) {
+        return toResponse(entity, entity.getFlashcardCount(), actorDisplayNameByActor);
+    }
+
     private DeckResponse toResponse(
             DeckEntity entity,
-            long flashcardCount,
+            int flashcardCount,
             Map<String, String> actorDisplayNameByActor) {
         return new DeckResponse(
                 entity.getId(),
@@ -289,68 +382,6 @@ public class DeckServiceImpl implements DeckService {
         }
     }
 
-    private Map<Long, Long> resolveFlashcardCountByDeck(List<DeckEntity> decks, String currentActor) {
-        if (CollectionUtils.isEmpty(decks)) {
-            return Map.of();
-        }
-
-        final List<Long> deckIds = new ArrayList<>();
-        for (final DeckEntity deck : decks) {
-            deckIds.add(deck.getId());
-        }
-
-        final var rows = this.flashcardRepository.countActiveFlashcardsByDeckIds(
-                deckIds,
-                currentActor);
-        final Map<Long, Long> countByDeckId = new HashMap<>();
-        for (final DeckFlashcardCountProjection row : rows) {
-            countByDeckId.put(row.getDeckId(), row.getFlashcardCount());
-        }
-        return countByDeckId;
-    }
-
-    private void applyFlashcardDelta(Long folderId, int delta, Map<Long, FolderEntity> folderById,
-            String currentActor) {
-        final var currentFolder = folderById.get(folderId);
-        if (currentFolder == null) {
-            throw new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY);
-        }
-
-        var cursor = folderId;
-        var isCurrentFolder = true;
-        while (cursor != null) {
-            final var folder = folderById.get(cursor);
-            if (folder == null) {
-                throw new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY);
-            }
-
-            if (isCurrentFolder) {
-                final var updatedDirectCount = folder.getDirectFlashcardCount() + delta;
-                if (updatedDirectCount < FolderConst.MIN_PAGE) {
-                    throw new BusinessException(FolderConst.NEGATIVE_AGGREGATE_KEY);
-                }
-                folder.setDirectFlashcardCount(updatedDirectCount);
-                isCurrentFolder = false;
-            }
-
-            final var updatedAggregateCount = folder.getAggregateFlashcardCount() + delta;
-            if (updatedAggregateCount < FolderConst.MIN_PAGE) {
-                throw new BusinessException(FolderConst.NEGATIVE_AGGREGATE_KEY);
-            }
-            folder.setAggregateFlashcardCount(updatedAggregateCount);
-            folder.setUpdatedBy(currentActor);
-            cursor = folder.getParentFolderId();
-        }
-    }
-
-    private Map<Long, FolderEntity> toFolderById(List<FolderEntity> folders) {
-        final Map<Long, FolderEntity> folderById = new HashMap<>();
-        for (final FolderEntity folder : folders) {
-            folderById.put(folder.getId(), folder);
-        }
-        return folderById;
-    }
-
     private void validateFolderAllowsDeckCreation(Long folderId, String currentActor) {
         final var hasSubfolders = this.folderRepository.existsByParentFolderIdAndCreatedByAndDeletedAtIsNull(
                 folderId,
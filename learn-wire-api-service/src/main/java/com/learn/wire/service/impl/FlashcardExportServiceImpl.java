@@ -0,0 +1,146 @@
+package com.learn.wire.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.dto.flashcard.query.FlashcardExportFormat;
+import com.learn.wire.dto.flashcard.query.FlashcardExportQuery;
+import com.learn.wire.dto.flashcard.response.FlashcardExportRowResponse;
+import com.learn.wire.exception.DeckNotFoundException;
+import com.learn.wire.exception.FolderNotFoundException;
+import com.learn.wire.repository.DeckRepository;
+import com.learn.wire.repository.FlashcardRepository;
+import com.learn.wire.repository.FlashcardRepository.FlashcardExportProjection;
+import com.learn.wire.repository.FolderRepository;
+import com.learn.wire.security.CurrentUserAccessor;
+import com.learn.wire.service.FlashcardExportService;
+import com.learn.wire.util.FolderPaths;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+@RequiredArgsConstructor
+public class FlashcardExportServiceImpl implements FlashcardExportService {
+
+    private final FlashcardRepository flashcardRepository;
+    private final DeckRepository deckRepository;
+    private final FolderRepository folderRepository;
+    private final CurrentUserAccessor currentUserAccessor;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public FlashcardExportQuery prepareDeckExport(Long deckId, FlashcardExportFormat format) {
+        final String currentActor = this.currentUserAccessor.getCurrentActor();
+        final var deck = this.deckRepository
+                .findByIdAndCreatedByAndDeletedAtIsNull(deckId, currentActor)
+                .orElseThrow(() -> new DeckNotFoundException(deckId));
+        log.info(LogConst.FLASHCARD_SERVICE_EXPORT, deck.getId(), null, format.value());
+        return new FlashcardExportQuery(
+                deck.getId(),
+                null,
+                null,
+                currentActor,
+                format,
+                FlashcardConst.EXPORT_DECK_FILE_NAME_FORMAT.formatted(deck.getId(), format.value()));
+    }
+
+    @Override
+    public FlashcardExportQuery prepareFolderExport(Long folderId, FlashcardExportFormat format) {
+        final String currentActor = this.currentUserAccessor.getCurrentActor();
+        final var folder = this.folderRepository
+                .findByIdAndCreatedByAndDeletedAtIsNull(folderId, currentActor)
+                .orElseThrow(() -> new FolderNotFoundException(folderId));
+        log.info(LogConst.FLASHCARD_SERVICE_EXPORT, null, folder.getId(), format.value());
+        return new FlashcardExportQuery(
+                null,
+                folder.getId(),
+                FolderPaths.descendantPattern(folder),
+                currentActor,
+                format,
+                FlashcardConst.EXPORT_FOLDER_FILE_NAME_FORMAT.formatted(folder.getId(), format.value()));
+    }
+
+    @Override
+    public long writeExport(FlashcardExportQuery query, OutputStream outputStream) throws IOException {
+        final long rowCount;
+        try (Stream<FlashcardExportProjection> rows = openRows(query)) {
+            if (query.format() == FlashcardExportFormat.NDJSON) {
+                rowCount = writeNdjson(rows.iterator(), outputStream);
+            } else {
+                rowCount = writeCsv(rows.iterator(), outputStream);
+            }
+        }
+        log.info(LogConst.FLASHCARD_SERVICE_EXPORTED, query.deckId(), query.folderId(), rowCount);
+        return rowCount;
+    }
+
+    private Stream<FlashcardExportProjection> openRows(FlashcardExportQuery query) {
+        if (query.isFolderExport()) {
+            return this.flashcardRepository.streamActiveForExportByFolderSubtree(
+                    query.folderId(),
+                    query.descendantPattern(),
+                    query.createdBy());
+        }
+        return this.flashcardRepository.streamActiveForExportByDeckId(query.deckId(), query.createdBy());
+    }
+
+    private long writeCsv(Iterator<FlashcardExportProjection> rows, OutputStream outputStream) throws IOException {
+        final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        final var printer = new CSVPrinter(
+                writer,
+                CSVFormat.RFC4180.builder().setHeader(FlashcardConst.EXPORT_CSV_HEADERS).get());
+        long rowCount = 0;
+        while (rows.hasNext()) {
+            final var row = rows.next();
+            printer.printRecord(
+                    row.getFrontText(),
+                    row.getBackText(),
+                    row.getFrontLangCode(),
+                    row.getBackLangCode(),
+                    row.getDeckName(),
+                    row.getDeckId(),
+                    row.getId());
+            rowCount++;
+        }
+        printer.flush();
+        return rowCount;
+    }
+
+    private long writeNdjson(Iterator<FlashcardExportProjection> rows, OutputStream outputStream) throws IOException {
+        long rowCount = 0;
+        while (rows.hasNext()) {
+            outputStream.write(this.jsonMapper.writeValueAsBytes(toRowResponse(rows.next())));
+            outputStream.write(FlashcardConst.EXPORT_LINE_SEPARATOR);
+            rowCount++;
+        }
+        outputStream.flush();
+        return rowCount;
+    }
+
+    private FlashcardExportRowResponse toRowResponse(FlashcardExportProjection row) {
+        return new FlashcardExportRowResponse(
+                row.getId(),
+                row.getDeckId(),
+                row.getDeckName(),
+                row.getFrontText(),
+                row.getBackText(),
+                row.getFrontLangCode(),
+                row.getBackLangCode());
+    }
+}
@@ -1,45 +1,70 @@
 package com.learn.wire.service.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.io.input.BOMInputStream;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.learn.wire.constant.FlashcardConst;
-import com.learn.wire.constant.FolderConst;
 import com.learn.wire.constant.LogConst;
+import com.learn.wire.dto.common.query.KeysetCursor;
 import com.learn.wire.dto.common.response.PageResponse;
+import com.learn.wire.dto.flashcard.query.FlashcardBatchCommand;
+import com.learn.wire.dto.flashcard.query.FlashcardImportFormat;
+import com.learn.wire.dto.flashcard.query.FlashcardImportQuery;
 import com.learn.wire.dto.flashcard.query.FlashcardListQuery;
+import com.learn.wire.dto.flashcard.query.FlashcardMoveCommand;
 import com.learn.wire.dto.flashcard.query.FlashcardSortField;
+import com.learn.wire.dto.flashcard.request.FlashcardBatchUpdateRequest;
 import com.learn.wire.dto.flashcard.request.FlashcardCreateRequest;
 import com.learn.wire.dto.flashcard.request.FlashcardUpdateRequest;
+import com.learn.wire.dto.flashcard.response.FlashcardBatchResponse;
+import com.learn.wire.dto.flashcard.response.FlashcardImportErrorResponse;
+import com.learn.wire.dto.flashcard.response.FlashcardImportResponse;
+import com.learn.wire.dto.flashcard.response.FlashcardMoveResponse;
 import com.learn.wire.dto.flashcard.response.FlashcardResponse;
 import com.learn.wire.entity.AppUserEntity;
 import com.learn.wire.entity.DeckEntity;
 import com.learn.wire.entity.FlashcardEntity;
-import com.learn.wire.entity.FolderEntity;
 import com.learn.wire.exception.BadRequestException;
-import com.learn.wire.exception.BusinessException;
 import com.learn.wire.exception.DeckNotFoundException;
 import com.learn.wire.exception.FlashcardNotFoundException;
 import com.learn.wire.mapper.FlashcardMapper;
 import com.learn.wire.repository.AppUserRepository;
 import com.learn.wire.repository.DeckRepository;
 import com.learn.wire.repository.FlashcardRepository;
-import com.learn.wire.repository.FolderRepository;
+import com.learn.wire.repository.specification.FlashcardSpecifications;
 import com.learn.wire.security.CurrentUserAccessor;
+import com.learn.wire.service.BulkSoftDeleteService;
 import com.learn.wire.service.FlashcardService;
+import com.learn.wire.service.FolderCounterService;
+import com.learn.wire.util.SearchTextNormalizer;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -52,9 +77,12 @@ public class FlashcardServiceImpl implements FlashcardService {
     private final FlashcardRepository flashcardRepository;
     private final AppUserRepository appUserRepository;
     private final DeckRepository deckRepository;
-    private final FolderRepository folderRepository;
+    private final FolderCounterService folderCounterService;
+    private final BulkSoftDeleteService bulkSoftDeleteService;
+    private final EntityManager entityManager;
     private final FlashcardMapper flashcardMapper;
     private final CurrentUserAccessor currentUserAccessor;
+    private final MessageSource messageSource;
 
     @Override
     @Transactional(readOnly = true)
@@ -69,11 +97,14 @@ public class FlashcardServiceImpl implements FlashcardService {
                 query.sortDirection().value());
         getActiveDeckEntity(query.deckId(), currentActor);
         final var sort = buildSort(query);
+        if (query.isKeyset()) {
+            return getFlashcardWindow(query, sort, currentActor);
+        }
         final Pageable pageable = PageRequest.of(query.page(), query.size(), sort);
         final var page = this.flashcardRepository.findPageByDeckAndSearch(
                 query.deckId(),
                 currentActor,
-                query.search(),
+                SearchTextNormalizer.normalize(query.search()),
                 pageable);
         final var actorDisplayNameByActor = resolveActorDisplayNameByActor(page.getContent());
         final var items = toResponses(page.getContent(), actorDisplayNameByActor);
@@ -87,7 +118,42 @@ public class FlashcardServiceImpl implements FlashcardService {
                 page.hasPrevious(),
                 query.search(),
                 query.sortField().value(),
-                query.sortDirection().value());
+                query.sortDirection().value(),
+                null);
+    }
+
+    private PageResponse<FlashcardResponse> getFlashcardWindow(
+            FlashcardListQuery query,
+            Sort sort,
+            String currentActor) {
+        final var specification = FlashcardSpecifications.activeByDeckAndSearch(
+                query.deckId(),
+                currentActor,
+                SearchTextNormalizer.normalize(query.search()));
+        final Window<FlashcardEntity> window = this.flashcardRepository.findBy(
+                specification,
+                fluentQuery -> fluentQuery.sortBy(sort).limit(query.size()).scroll(query.keysetPosition()));
+        final var actorDisplayNameByActor = resolveActorDisplayNameByActor(window.getContent());
+        final var items = toResponses(window.getContent(), actorDisplayNameByActor);
+        final var totalElements = KeysetCursor.totalElements(
+                query.includeTotal(),
+                () -> this.flashcardRepository.count(specification));
+        return new PageResponse<>(
+                items,
+                query.page(),
+                query.size(),
+                totalElements,
+                KeysetCursor.totalPages(totalElements, query.size()),
+                window.hasNext(),
+                !query.keysetPosition().isInitial(),
+                query.search(),
+                query.sortField().value(),
+                query.sortDirection().value(),
+                KeysetCursor.nextCursor(
+                        window,
+                        query.sortField().value(),
+                        query.sortDirection().value(),
+                        query.filterFingerprint()));
     }
 
     private Sort buildSort(FlashcardListQuery query) {
@@ -111,24 +177,15 @@ public class FlashcardServiceImpl implements FlashcardService {
 
         final var deck = getActiveDeckEntity(deckId, currentActor);
         validateTermLangCode(deck, request.frontLangCode());
-        final var entity = this.flashcardMapper.toEntity(request);
-        entity.setDeckId(deckId);
-        entity.setFrontText(normalizedFrontText);
-        entity.setBackText(normalizedBackText);
-        entity.setFrontLangCode(request.frontLangCode());
-        entity.setBackLangCode(request.backLangCode());
-        entity.setCreatedBy(currentActor);
-        entity.setUpdatedBy(currentActor);
+        final var entity = toNewEntity(deckId, request, normalizedFrontText, normalizedBackText, currentActor);
 
         final var created = this.flashcardRepository.save(entity);
         if (deck.getTermLangCode() == null && request.frontLangCode() != null) {
             deck.setTermLangCode(request.frontLangCode());
             this.deckRepository.save(deck);
         }
-        final var activeFolders = this.folderRepository.findByCreatedByAndDeletedAtIsNull(currentActor);
-        final var folderById = toFolderById(activeFolders);
-        applyFlashcardDelta(deck.getFolderId(), 1, folderById, currentActor);
-        this.folderRepository.saveAll(activeFolders);
+        this.deckRepository.applyFlashcardCountDelta(deckId, 1);
+        this.folderCounterService.applyFlashcardDelta(deck.getFolderId(), 1, currentActor);
         log.info(LogConst.FLASHCARD_SERVICE_CREATED, created.getId(), deckId);
         final var actorDisplayNameByActor = resolveActorDisplayNameByActor(List.of(created));
         return toResponse(created, actorDisplayNameByActor);
@@ -145,12 +202,7 @@ public class FlashcardServiceImpl implements FlashcardService {
         final var deck = getActiveDeckEntity(deckId, currentActor);
         validateTermLangCode(deck, request.frontLangCode());
         final var entity = getActiveFlashcardEntity(deckId, flashcardId, currentActor);
-        this.flashcardMapper.updateEntity(request, entity);
-        entity.setFrontText(normalizedFrontText);
-        entity.setBackText(normalizedBackText);
-        entity.setFrontLangCode(request.frontLangCode());
-        entity.setBackLangCode(request.backLangCode());
-        entity.setUpdatedBy(currentActor);
+        applyUpdate(entity, request, normalizedFrontText, normalizedBackText, currentActor);
         final var updated = this.flashcardRepository.save(entity);
         final var actorDisplayNameByActor = resolveActorDisplayNameByActor(List.of(updated));
         return toResponse(updated, actorDisplayNameByActor);
@@ -162,16 +214,322 @@ public class FlashcardServiceImpl implements FlashcardService {
         log.info(LogConst.FLASHCARD_SERVICE_DELETE, flashcardId, deckId);
         final var entity = getActiveFlashcardEntity(deckId, flashcardId, currentActor);
         final var deck = getActiveDeckEntity(deckId, currentActor);
+        markDeleted(entity, Instant.now(), currentActor);
+        this.flashcardRepository.save(entity);
+        this.deckRepository.applyFlashcardCountDelta(deckId, -1);
+        this.folderCounterService.applyFlashcardDelta(deck.getFolderId(), -1, currentActor);
+    }
+
+    @Override
+    public FlashcardImportResponse importFlashcards(FlashcardImportQuery query, InputStream content) {
+        final String currentActor = this.currentUserAccessor.getCurrentActor();
+        log.info(LogConst.FLASHCARD_SERVICE_IMPORT, query.deckId(), query.format().value(), query.hasHeader());
+        final var deck = getActiveDeckEntity(query.deckId(), currentActor);
+        final var initialTermLangCode = deck.getTermLangCode();
+        final List<FlashcardEntity> pendingEntities = new ArrayList<>();
+        final List<FlashcardImportErrorResponse> errors = new ArrayList<>();
+        var importedCount = 0;
+        var failedCount = 0;
+        var rowNumber = 0L;
+        try (CSVParser parser = CSVParser.parse(openImportReader(query, content), resolveCsvFormat(query))) {
+            final var records = parser.iterator();
+            while (records.hasNext()) {
+                final var csvRecord = records.next();
+                rowNumber = csvRecord.getRecordNumber();
+                if (query.hasHeader() && (rowNumber == 1L)) {
+                    continue;
+                }
+                if (rowNumber > FlashcardConst.IMPORT_MAX_ROWS) {
+                    throw new BadRequestException(FlashcardConst.IMPORT_TOO_MANY_ROWS_KEY, FlashcardConst.IMPORT_MAX_ROWS);
+                }
+                try {
+                    pendingEntities.add(toImportedEntity(deck, csvRecord, currentActor));
+                } catch (BadRequestException exception) {
+                    failedCount++;
+                    addImportError(errors, rowNumber, exception);
+                    continue;
+                }
+                if (pendingEntities.size() >= FlashcardConst.IMPORT_BATCH_SIZE) {
+                    importedCount += saveImportedEntities(pendingEntities);
+                }
+            }
+        } catch (IOException | UncheckedIOException exception) {
+            throw new BadRequestException(FlashcardConst.IMPORT_MALFORMED_KEY, rowNumber + 1);
+        }
+        importedCount += saveImportedEntities(pendingEntities);
+        if (!Objects.equals(initialTermLangCode, deck.getTermLangCode())) {
+            getActiveDeckEntity(deck.getId(), currentActor).setTermLangCode(deck.getTermLangCode());
+        }
+        if (importedCount > 0) {
+            this.deckRepository.applyFlashcardCountDelta(deck.getId(), importedCount);
+            this.folderCounterService.applyFlashcardDelta(deck.getFolderId(), importedCount, currentActor);
+        }
+        return new FlashcardImportResponse(deck.getId(), importedCount, failedCount, errors);
+    }
+
+    @Override
+    public FlashcardBatchResponse applyBatch(FlashcardBatchCommand command) {
+        final String currentActor = this.currentUserAccessor.getCurrentActor();
+        log.info(
+                LogConst.FLASHCARD_SERVICE_BATCH,
+                command.deckId(),
+                command.creates().size(),
+                command.updates().size(),
+                command.deleteIds().size());
+        final var deck = getActiveDeckEntity(command.deckId(), currentActor);
+        final var initialTermLangCode = deck.getTermLangCode();
+        final var targetById = getBatchTargets(command, currentActor);
+
+        final List<FlashcardEntity> createdEntities = new ArrayList<>(command.creates().size());
+        for (final FlashcardCreateRequest create : command.creates()) {
+            createdEntities.add(toValidatedNewEntity(deck, create, currentActor));
+        }
+        final List<FlashcardEntity> updatedEntities = new ArrayList<>(command.updates().size());
+        for (final FlashcardBatchUpdateRequest update : command.updates()) {
+            final var normalizedFrontText = normalizeText(update.frontText());
+            final var normalizedBackText = normalizeText(update.backText());
+            validateRequest(normalizedFrontText, normalizedBackText);
+            validateTermLangCode(deck, update.frontLangCode());
+            final var entity = targetById.get(update.id());
+            applyUpdate(entity, update.toUpdateRequest(), normalizedFrontText, normalizedBackText, currentActor);
+            updatedEntities.add(entity);
+        }
         final var deletedAt = Instant.now();
+        for (final Long deleteId : command.deleteIds()) {
+            markDeleted(targetById.get(deleteId), deletedAt, currentActor);
+        }
+
+        this.flashcardRepository.saveAll(createdEntities);
+        if (!Objects.equals(initialTermLangCode, deck.getTermLangCode())) {
+            this.deckRepository.save(deck);
+        }
+        this.flashcardRepository.flush();
+        final var netDelta = createdEntities.size() - command.deleteIds().size();
+        if (netDelta != 0) {
+            this.deckRepository.applyFlashcardCountDelta(deck.getId(), netDelta);
+            this.folderCounterService.applyFlashcardDelta(deck.getFolderId(), netDelta, currentActor);
+        }
+        final var actorDisplayNameByActor = resolveActorDisplayNameByActor(
+                ListUtils.union(createdEntities, updatedEntities));
+        return new FlashcardBatchResponse(
+                deck.getId(),
+                toResponses(createdEntities, actorDisplayNameByActor),
+                toResponses(updatedEntities, actorDisplayNameByActor),
+                command.deleteIds());
+    }
+
+    @Override
+    public FlashcardMoveResponse moveFlashcards(FlashcardMoveCommand command) {
+        final String currentActor = this.currentUserAccessor.getCurrentActor();
+        log.info(
+                LogConst.FLASHCARD_SERVICE_MOVE,
+                command.sourceDeckId(),
+                command.targetDeckId(),
+                command.flashcardIds().size(),
+                command.deleteSourceDeck());
+        final var sourceDeck = getActiveDeckEntity(command.sourceDeckId(), currentActor);
+        final var targetDeck = getActiveDeckEntity(command.targetDeckId(), currentActor);
+        if (!command.isMoveAll()) {
+            validateMoveSelection(command, currentActor);
+        }
+        validateMoveTermLangCodes(command, targetDeck, currentActor);
+
+        final var updatedAt = Instant.now();
+        final var movedCount = command.isMoveAll()
+                ? this.flashcardRepository.moveActiveByDeckId(
+                        sourceDeck.getId(),
+                        targetDeck.getId(),
+                        currentActor,
+                        currentActor,
+                        updatedAt)
+                : this.flashcardRepository.moveActiveByIdsAndDeckId(
+                        command.flashcardIds(),
+                        sourceDeck.getId(),
+                        targetDeck.getId(),
+                        currentActor,
+                        currentActor,
+                        updatedAt);
+        if (movedCount > 0) {
+            this.deckRepository.applyFlashcardCountDelta(sourceDeck.getId(), -movedCount);
+            this.deckRepository.applyFlashcardCountDelta(targetDeck.getId(), movedCount);
+            this.folderCounterService.transferFlashcards(
+                    sourceDeck.getFolderId(),
+                    targetDeck.getFolderId(),
+                    movedCount,
+                    currentActor);
+        }
+        if (command.deleteSourceDeck()) {
+            this.bulkSoftDeleteService.softDeleteDeck(
+                    sourceDeck,
+                    Math.max(sourceDeck.getFlashcardCount() - movedCount, 0),
+                    currentActor);
+        }
+        return new FlashcardMoveResponse(
+                sourceDeck.getId(),
+                targetDeck.getId(),
+                movedCount,
+                command.deleteSourceDeck());
+    }
+
+    private void validateMoveSelection(FlashcardMoveCommand command, String currentActor) {
+        final Set<Long> activeIds = new HashSet<>(this.flashcardRepository.findActiveIdsByIdsAndDeckId(
+                command.flashcardIds(),
+                command.sourceDeckId(),
+                currentActor));
+        for (final Long flashcardId : command.flashcardIds()) {
+            if (!activeIds.contains(flashcardId)) {
+                throw new FlashcardNotFoundException(flashcardId);
+            }
+        }
+    }
+
+    private void validateMoveTermLangCodes(FlashcardMoveCommand command, DeckEntity targetDeck, String currentActor) {
+        final var frontLangCodes = command.isMoveAll()
+                ? this.flashcardRepository.findActiveFrontLangCodesByDeckId(command.sourceDeckId(), currentActor)
+                : this.flashcardRepository.findActiveFrontLangCodesByIdsAndDeckId(
+                        command.flashcardIds(),
+                        command.sourceDeckId(),
+                        currentActor);
+        final var initialTermLangCode = targetDeck.getTermLangCode();
+        for (final String frontLangCode : frontLangCodes) {
+            validateTermLangCode(targetDeck, frontLangCode);
+            if (targetDeck.getTermLangCode() == null) {
+                targetDeck.setTermLangCode(frontLangCode);
+            }
+        }
+        if (!Objects.equals(initialTermLangCode, targetDeck.getTermLangCode())) {
+            this.deckRepository.save(targetDeck);
+        }
+    }
+
+    private Map<Long, FlashcardEntity> getBatchTargets(FlashcardBatchCommand command, String currentActor) {
+        final var targetIds = command.targetIds();
+        if (targetIds.isEmpty()) {
+            return Map.of();
+        }
+        final Map<Long, FlashcardEntity> targetById = new HashMap<>();
+        for (final FlashcardEntity entity : this.flashcardRepository.findByIdInAndDeckIdAndCreatedByAndDeletedAtIsNull(
+                targetIds,
+                command.deckId(),
+                currentActor)) {
+            targetById.put(entity.getId(), entity);
+        }
+        for (final Long targetId : targetIds) {
+            if (!targetById.containsKey(targetId)) {
+                throw new FlashcardNotFoundException(targetId);
+            }
+        }
+        return targetById;
+    }
+
+    private void applyUpdate(
+            FlashcardEntity entity,
+            FlashcardUpdateRequest request,
+            String normalizedFrontText,
+            String normalizedBackText,
+            String currentActor) {
+        this.flashcardMapper.updateEntity(request, entity);
+        entity.setFrontText(normalizedFrontText);
+        entity.setBackText(normalizedBackText);
+        entity.setSearchFrontText(SearchTextNormalizer.normalize(normalizedFrontText));
+        entity.setSearchBackText(SearchTextNormalizer.normalize(normalizedBackText));
+        entity.setFrontLangCode(request.frontLangCode());
+        entity.setBackLangCode(request.backLangCode());
+        entity.setUpdatedBy(currentActor);
+    }
+
+    private void markDeleted(FlashcardEntity entity, Instant deletedAt, String currentActor) {
         entity.setDeletedAt(deletedAt);
         entity.setDeletedBy(currentActor);
         entity.setUpdatedBy(currentActor);
-        this.flashcardRepository.save(entity);
+    }
+
+    private Reader openImportReader(FlashcardImportQuery query, InputStream content) throws IOException {
+        final var bomFreeContent = BOMInputStream.builder().setInputStream(content).get();
+        return new InputStreamReader(bomFreeContent, query.charset());
+    }
+
+    private CSVFormat resolveCsvFormat(FlashcardImportQuery query) {
+        final var baseFormat = query.format() == FlashcardImportFormat.TSV
+                ? CSVFormat.TDF
+                : CSVFormat.RFC4180;
+        return baseFormat.builder()
+                .setIgnoreEmptyLines(true)
+                .setTrim(true)
+                .get();
+    }
+
+    private FlashcardEntity toImportedEntity(DeckEntity deck, CSVRecord csvRecord, String currentActor) {
+        final var request = new FlashcardCreateRequest(
+                readColumn(csvRecord, FlashcardConst.IMPORT_FRONT_TEXT_COLUMN),
+                readColumn(csvRecord, FlashcardConst.IMPORT_BACK_TEXT_COLUMN),
+                StringUtils.trimToNull(readColumn(csvRecord, FlashcardConst.IMPORT_FRONT_LANG_COLUMN)),
+                StringUtils.trimToNull(readColumn(csvRecord, FlashcardConst.IMPORT_BACK_LANG_COLUMN)));
+        return toValidatedNewEntity(deck, request, currentActor);
+    }
+
+    private FlashcardEntity toValidatedNewEntity(DeckEntity deck, FlashcardCreateRequest request, String currentActor) {
+        final var normalizedFrontText = normalizeText(request.frontText());
+        final var normalizedBackText = normalizeText(request.backText());
+        validateRequest(normalizedFrontText, normalizedBackText);
+        validateTermLangCode(deck, request.frontLangCode());
+        if (deck.getTermLangCode() == null && request.frontLangCode() != null) {
+            deck.setTermLangCode(request.frontLangCode());
+        }
+        return toNewEntity(deck.getId(), request, normalizedFrontText, normalizedBackText, currentActor);
+    }
 
-        final var activeFolders = this.folderRepository.findByCreatedByAndDeletedAtIsNull(currentActor);
-        final var folderById = toFolderById(activeFolders);
-        applyFlashcardDelta(deck.getFolderId(), -1, folderById, currentActor);
-        this.folderRepository.saveAll(activeFolders);
+    private String readColumn(CSVRecord csvRecord, int column) {
+        if (column >= csvRecord.size()) {
+            return "";
+        }
+        return csvRecord.get(column);
+    }
+
+    private int saveImportedEntities(List<FlashcardEntity> pendingEntities) {
+        if (pendingEntities.isEmpty()) {
+            return 0;
+        }
+        this.flashcardRepository.saveAll(pendingEntities);
+        this.flashcardRepository.flush();
+        this.entityManager.clear();
+        final var savedCount = pendingEntities.size();
+        pendingEntities.clear();
+        return savedCount;
+    }
+
+    private void addImportError(
+            List<FlashcardImportErrorResponse> errors,
+            long rowNumber,
+            BadRequestException exception) {
+        if (errors.size() >= FlashcardConst.IMPORT_MAX_REPORTED_ERRORS) {
+            return;
+        }
+        final var message = this.messageSource.getMessage(
+                exception.getMessageKey(),
+                exception.getMessageArgs(),
+                exception.getMessageKey(),
+                LocaleContextHolder.getLocale());
+        errors.add(new FlashcardImportErrorResponse(rowNumber, exception.getMessageKey(), message));
+    }
+
+    private FlashcardEntity toNewEntity(
+            Long deckId,
+            FlashcardCreateRequest request,
+            String normalizedFrontText,
+            String normalizedBackText,
+            String currentActor) {
+        final var entity = this.flashcardMapper.toEntity(request);
+        entity.setDeckId(deckId);
+        entity.setFrontText(normalizedFrontText);
+        entity.setBackText(normalizedBackText);
+        entity.setSearchFrontText(SearchTextNormalizer.normalize(normalizedFrontText));
+        entity.setSearchBackText(SearchTextNormalizer.normalize(normalizedBackText));
+        entity.setFrontLangCode(request.frontLangCode());
+        entity.setBackLangCode(request.backLangCode());
+        entity.setCreatedBy(currentActor);
+        entity.setUpdatedBy(currentActor);
+        return entity;
     }
 
     private List<FlashcardResponse> toResponses(
@@ -246,48 +604,6 @@ public class FlashcardServiceImpl implements FlashcardService {
         }
     }
 
-    private void applyFlashcardDelta(Long folderId, int delta, Map<Long, FolderEntity> folderById,
-            String currentActor) {
-        final var currentFolder = folderById.get(folderId);
-        if (currentFolder == null) {
-            throw new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY);
-        }
-
-        var cursor = folderId;
-        var isCurrentFolder = true;
-        while (cursor != null) {
-            final var folder = folderById.get(cursor);
-            if (folder == null) {
-                throw new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY);
-            }
-
-            if (isCurrentFolder) {
-                final var updatedDirectCount = folder.getDirectFlashcardCount() + delta;
-                if (updatedDirectCount < FolderConst.MIN_PAGE) {
-                    throw new BusinessException(FolderConst.NEGATIVE_AGGREGATE_KEY);
-                }
-                folder.setDirectFlashcardCount(updatedDirectCount);
-                isCurrentFolder = false;
-            }
-
-            final var updatedAggregateCount = folder.getAggregateFlashcardCount() + delta;
-            if (updatedAggregateCount < FolderConst.MIN_PAGE) {
-                throw new BusinessException(FolderConst.NEGATIVE_AGGREGATE_KEY);
-            }
-            folder.setAggregateFlashcardCount(updatedAggregateCount);
-            folder.setUpdatedBy(currentActor);
-            cursor = folder.getParentFolderId();
-        }
-    }
-
-    private Map<Long, FolderEntity> toFolderById(List<FolderEntity> folders) {
-        final Map<Long, FolderEntity> folderById = new HashMap<>();
-        for (final FolderEntity folder : folders) {
-            folderById.put(folder.getId(), folder);
-        }
-        return folderById;
-    }
-
     private DeckEntity getActiveDeckEntity(Long deckId, String currentActor) {
         return this.deckRepository
                 .findByIdAndCreatedByAndDeletedAtIsNull(deckId, currentActor)
@@ -0,0 +1,101 @@
+package com.learn.wire.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learn.wire.constant.JobConst;
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.entity.FolderCounterDeltaEntity;
+import com.learn.wire.entity.JobCheckpointEntity;
+import com.learn.wire.observability.FolderCountDriftMetrics;
+import com.learn.wire.repository.FolderCounterDeltaRepository;
+import com.learn.wire.repository.FolderRepository;
+import com.learn.wire.repository.FolderRepository.FolderCountDriftProjection;
+import com.learn.wire.repository.JobCheckpointRepository;
+import com.learn.wire.service.FolderCountReconciliationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class FolderCountReconciliationServiceImpl implements FolderCountReconciliationService {
+
+    private final FolderRepository folderRepository;
+    private final FolderCounterDeltaRepository folderCounterDeltaRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final FolderCountDriftMetrics folderCountDriftMetrics;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findNextActors(int actorBatchSize) {
+        final var checkpoint = this.jobCheckpointRepository
+                .findById(JobConst.FOLDER_COUNT_RECONCILIATION_JOB_NAME)
+                .map(JobCheckpointEntity::getCheckpointValue)
+                .orElse(JobConst.CHECKPOINT_INITIAL_VALUE);
+        return this.folderRepository.findActiveOwnersAfter(checkpoint, Limit.of(actorBatchSize));
+    }
+
+    @Override
+    public int reconcileActor(String actor) {
+        final var checkpoint = lockCheckpoint();
+        if (checkpoint.getCheckpointValue().compareTo(actor) >= 0) {
+            return 0;
+        }
+        final var drifts = this.folderRepository.findCountDrift(actor);
+        final List<FolderCounterDeltaEntity> corrections = new ArrayList<>();
+        var directDrift = 0L;
+        var aggregateDrift = 0L;
+        for (final FolderCountDriftProjection drift : drifts) {
+            final var directCorrection = drift.getActualDirect() - drift.getStoredDirect();
+            final var aggregateCorrection = drift.getActualAggregate() - drift.getStoredAggregate();
+            directDrift += Math.abs(directCorrection);
+            aggregateDrift += Math.abs(aggregateCorrection);
+            corrections.add(new FolderCounterDeltaEntity(
+                    null,
+                    drift.getFolderId(),
+                    Math.toIntExact(directCorrection),
+                    Math.toIntExact(aggregateCorrection),
+                    null));
+        }
+        final var chunkTransaction = new TransactionTemplate(this.transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (final List<FolderCounterDeltaEntity> chunk : ListUtils.partition(
+                corrections,
+                JobConst.FOLDER_COUNT_REPAIR_CHUNK_SIZE)) {
+            chunkTransaction.executeWithoutResult(status -> this.folderCounterDeltaRepository.saveAll(chunk));
+        }
+        checkpoint.setCheckpointValue(actor);
+        this.folderCountDriftMetrics.recordReconciled(directDrift, aggregateDrift);
+        if (!drifts.isEmpty()) {
+            log.info(LogConst.FOLDER_COUNT_DRIFT_REPAIRED, actor, drifts.size(), directDrift, aggregateDrift);
+        }
+        return drifts.size();
+    }
+
+    @Override
+    public void resetCheckpoint() {
+        lockCheckpoint().setCheckpointValue(JobConst.CHECKPOINT_INITIAL_VALUE);
+        log.info(LogConst.FOLDER_COUNT_RECONCILIATION_COMPLETED);
+    }
+
+    private JobCheckpointEntity lockCheckpoint() {
+        return this.jobCheckpointRepository
+                .findForUpdate(JobConst.FOLDER_COUNT_RECONCILIATION_JOB_NAME)
+                .orElseGet(() -> this.jobCheckpointRepository.save(new JobCheckpointEntity(
+                        JobConst.FOLDER_COUNT_RECONCILIATION_JOB_NAME,
+                        JobConst.CHECKPOINT_INITIAL_VALUE,
+                        null)));
+    }
+}
@@ -0,0 +1,244 @@
+package com.learn.wire.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.learn.wire.constant.FolderConst;
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.entity.FolderCounterDeltaEntity;
+import com.learn.wire.entity.FolderEntity;
+import com.learn.wire.exception.BadRequestException;
+import com.learn.wire.exception.BusinessException;
+import com.learn.wire.observability.FolderCounterFlightEvent;
+import com.learn.wire.repository.FolderCounterDeltaRepository;
+import com.learn.wire.repository.FolderCounterDeltaRepository.PendingDeltaProjection;
+import com.learn.wire.repository.FolderRepository;
+import com.learn.wire.repository.FolderRepository.FolderCounterProjection;
+import com.learn.wire.service.FolderCounterService;
+import com.learn.wire.util.FolderPaths;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class FolderCounterServiceImpl implements FolderCounterService {
+
+    private final FolderRepository folderRepository;
+    private final FolderCounterDeltaRepository folderCounterDeltaRepository;
+
+    @Override
+    public void applyFlashcardDelta(Long folderId, int delta, String currentActor) {
+        if (delta == 0) {
+            return;
+        }
+        final var affectedCount = applyDelta(folderId, delta, delta, currentActor);
+        log.debug(LogConst.FOLDER_COUNTER_SERVICE_APPLIED, delta, folderId, affectedCount);
+        if (affectedCount > 0) {
+            return;
+        }
+        throw new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY);
+    }
+
+    @Override
+    public void applyAggregateDelta(Long startFolderId, int delta, String currentActor) {
+        if (startFolderId == null) {
+            return;
+        }
+        if (delta == 0) {
+            return;
+        }
+        final var affectedCount = applyDelta(startFolderId, 0, delta, currentActor);
+        log.debug(LogConst.FOLDER_COUNTER_SERVICE_APPLIED, delta, startFolderId, affectedCount);
+    }
+
+    @Override
+    public void transferFlashcards(Long sourceFolderId, Long targetFolderId, int count, String currentActor) {
+        if ((count == 0) || Objects.equals(sourceFolderId, targetFolderId)) {
+            return;
+        }
+        final var flightEvent = new FolderCounterFlightEvent();
+        flightEvent.begin();
+        final Map<Long, FolderCounterDeltaEntity> totalByFolder = new LinkedHashMap<>();
+        final var sourceDepth = collectPathDeltas(totalByFolder, sourceFolderId, -count, currentActor);
+        final var targetDepth = collectPathDeltas(totalByFolder, targetFolderId, count, currentActor);
+        final List<FolderCounterDeltaEntity> deltas = new ArrayList<>();
+        for (final FolderCounterDeltaEntity total : totalByFolder.values()) {
+            if ((total.getDirectDelta() == 0) && (total.getAggregateDelta() == 0)) {
+                continue;
+            }
+            deltas.add(total);
+        }
+        requireNonNegativeTotals(deltas);
+        this.folderCounterDeltaRepository.saveAll(deltas);
+        flightEvent.complete(sourceFolderId, Math.max(sourceDepth, targetDepth), deltas.size());
+        log.debug(LogConst.FOLDER_COUNTER_SERVICE_TRANSFERRED, count, sourceFolderId, targetFolderId, deltas.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, PendingDeltaProjection> findPendingDeltas(Collection<Long> folderIds) {
+        if (CollectionUtils.isEmpty(folderIds)) {
+            return Map.of();
+        }
+        final Map<Long, PendingDeltaProjection> pendingDeltaByFolder = new HashMap<>();
+        for (final PendingDeltaProjection row : this.folderCounterDeltaRepository.sumPendingByFolderIds(folderIds)) {
+            pendingDeltaByFolder.put(row.getFolderId(), row);
+        }
+        return pendingDeltaByFolder;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int resolveAggregateCount(FolderEntity folder) {
+        final var pendingDelta = findPendingDeltas(List.of(folder.getId())).get(folder.getId());
+        if (pendingDelta == null) {
+            return folder.getAggregateFlashcardCount();
+        }
+        return folder.getAggregateFlashcardCount() + (int) pendingDelta.getAggregateDelta();
+    }
+
+    @Override
+    public int compactPendingDeltas(int folderBatchSize) {
+        final var folderIds = this.folderCounterDeltaRepository.findPendingFolderIds(Limit.of(folderBatchSize));
+        if (folderIds.isEmpty()) {
+            return 0;
+        }
+        final var counterByFolder = lockCounters(folderIds);
+        final var deltas = this.folderCounterDeltaRepository.findByFolderIdIn(folderIds);
+        final Map<Long, FolderCounterDeltaEntity> totalByFolder = new TreeMap<>();
+        final Map<Long, List<Long>> deltaIdsByFolder = new HashMap<>();
+        for (final FolderCounterDeltaEntity delta : deltas) {
+            deltaIdsByFolder.computeIfAbsent(delta.getFolderId(), folderId -> new ArrayList<>()).add(delta.getId());
+            final var total = totalByFolder.computeIfAbsent(
+                    delta.getFolderId(),
+                    folderId -> new FolderCounterDeltaEntity(null, folderId, 0, 0, null));
+            total.setDirectDelta(total.getDirectDelta() + delta.getDirectDelta());
+            total.setAggregateDelta(total.getAggregateDelta() + delta.getAggregateDelta());
+        }
+        final List<Long> deltaIds = new ArrayList<>();
+        for (final FolderCounterDeltaEntity total : totalByFolder.values()) {
+            final var counter = counterByFolder.get(total.getFolderId());
+            if ((counter != null) && isNegativeTotal(counter, total.getDirectDelta(), total.getAggregateDelta())) {
+                log.warn(
+                        LogConst.FOLDER_COUNTER_COMPACTION_NEGATIVE,
+                        total.getFolderId(),
+                        counter.getDirectFlashcardCount(),
+                        total.getDirectDelta(),
+                        counter.getAggregateFlashcardCount(),
+                        total.getAggregateDelta());
+                continue;
+            }
+            this.folderRepository.applyCompactedDelta(
+                    total.getFolderId(),
+                    total.getDirectDelta(),
+                    total.getAggregateDelta());
+            deltaIds.addAll(deltaIdsByFolder.get(total.getFolderId()));
+        }
+        for (final List<Long> chunk : ListUtils.partition(deltaIds, FolderConst.COUNTER_COMPACTION_DELETE_CHUNK_SIZE)) {
+            this.folderCounterDeltaRepository.deleteAllByIdInBatch(chunk);
+        }
+        log.debug(LogConst.FOLDER_COUNTER_COMPACTED, folderIds.size(), deltaIds.size());
+        return folderIds.size();
+    }
+
+    private int collectPathDeltas(
+            Map<Long, FolderCounterDeltaEntity> totalByFolder,
+            Long folderId,
+            int delta,
+            String currentActor) {
+        final var ancestorPath = this.folderRepository
+                .findActiveAncestorPath(folderId, currentActor)
+                .orElseThrow(() -> new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY));
+        final var pathIds = FolderPaths.pathIds(ancestorPath, folderId);
+        for (final Long pathFolderId : pathIds) {
+            final var total = totalByFolder.computeIfAbsent(
+                    pathFolderId,
+                    id -> new FolderCounterDeltaEntity(null, id, 0, 0, null));
+            if (pathFolderId.equals(folderId)) {
+                total.setDirectDelta(total.getDirectDelta() + delta);
+            }
+            total.setAggregateDelta(total.getAggregateDelta() + delta);
+        }
+        return pathIds.size() - 1;
+    }
+
+    private int applyDelta(Long folderId, int directDelta, int aggregateDelta, String currentActor) {
+        final var ancestorPath = this.folderRepository.findActiveAncestorPath(folderId, currentActor);
+        if (ancestorPath.isEmpty()) {
+            return 0;
+        }
+        final var flightEvent = new FolderCounterFlightEvent();
+        flightEvent.begin();
+        final List<FolderCounterDeltaEntity> deltas = new ArrayList<>();
+        for (final Long pathFolderId : FolderPaths.pathIds(ancestorPath.get(), folderId)) {
+            final var delta = new FolderCounterDeltaEntity();
+            delta.setFolderId(pathFolderId);
+            delta.setDirectDelta(pathFolderId.equals(folderId) ? directDelta : 0);
+            delta.setAggregateDelta(aggregateDelta);
+            deltas.add(delta);
+        }
+        requireNonNegativeTotals(deltas);
+        this.folderCounterDeltaRepository.saveAll(deltas);
+        flightEvent.complete(folderId, deltas.size() - 1, deltas.size());
+        return deltas.size();
+    }
+
+    private void requireNonNegativeTotals(List<FolderCounterDeltaEntity> deltas) {
+        final List<Long> decrementedFolderIds = new ArrayList<>();
+        for (final FolderCounterDeltaEntity delta : deltas) {
+            if ((delta.getDirectDelta() >= 0) && (delta.getAggregateDelta() >= 0)) {
+                continue;
+            }
+            decrementedFolderIds.add(delta.getFolderId());
+        }
+        if (decrementedFolderIds.isEmpty()) {
+            return;
+        }
+        final var counterByFolder = lockCounters(decrementedFolderIds);
+        final var pendingDeltaByFolder = findPendingDeltas(decrementedFolderIds);
+        for (final FolderCounterDeltaEntity delta : deltas) {
+            final var counter = counterByFolder.get(delta.getFolderId());
+            if (counter == null) {
+                continue;
+            }
+            final var pendingDelta = pendingDeltaByFolder.get(delta.getFolderId());
+            var directDelta = (long) delta.getDirectDelta();
+            var aggregateDelta = (long) delta.getAggregateDelta();
+            if (pendingDelta != null) {
+                directDelta += pendingDelta.getDirectDelta();
+                aggregateDelta += pendingDelta.getAggregateDelta();
+            }
+            if (isNegativeTotal(counter, directDelta, aggregateDelta)) {
+                throw new BusinessException(FolderConst.NEGATIVE_AGGREGATE_KEY);
+            }
+        }
+    }
+
+    private Map<Long, FolderCounterProjection> lockCounters(Collection<Long> folderIds) {
+        final Map<Long, FolderCounterProjection> counterByFolder = new HashMap<>();
+        for (final FolderCounterProjection counter : this.folderRepository.lockCountersByIds(folderIds)) {
+            counterByFolder.put(counter.getFolderId(), counter);
+        }
+        return counterByFolder;
+    }
+
+    private boolean isNegativeTotal(FolderCounterProjection counter, long directDelta, long aggregateDelta) {
+        return ((counter.getDirectFlashcardCount() + directDelta) < 0)
+                || ((counter.getAggregateFlashcardCount() + aggregateDelta) < 0);
+    }
+}
@@ -1,7 +1,5 @@
 package com.learn.wire.service.impl;
 
-import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -10,17 +8,18 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.learn.wire.constant.FolderConst;
 import com.learn.wire.constant.LogConst;
+import com.learn.wire.dto.common.query.KeysetCursor;
 import com.learn.wire.dto.common.response.PageResponse;
 import com.learn.wire.dto.folder.query.FolderListQuery;
 import com.learn.wire.dto.folder.request.FolderCreateRequest;
@@ -34,11 +33,15 @@ import com.learn.wire.exception.FolderNotFoundException;
 import com.learn.wire.mapper.FolderMapper;
 import com.learn.wire.repository.AppUserRepository;
 import com.learn.wire.repository.DeckRepository;
-import com.learn.wire.repository.DeckRepository.FolderDeckCountProjection;
+import com.learn.wire.repository.FolderCounterDeltaRepository.PendingDeltaProjection;
 import com.learn.wire.repository.FolderRepository;
-import com.learn.wire.repository.FolderRepository.ParentChildCountProjection;
+import com.learn.wire.repository.specification.FolderSpecifications;
 import com.learn.wire.security.CurrentUserAccessor;
+import com.learn.wire.service.BulkSoftDeleteService;
+import com.learn.wire.service.FolderCounterService;
 import com.learn.wire.service.FolderService;
+import com.learn.wire.util.FolderPaths;
+import com.learn.wire.util.SearchTextNormalizer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -52,6 +55,8 @@ public class FolderServiceImpl implements FolderService {
     private final FolderRepository repository;
     private final DeckRepository deckRepository;
     private final AppUserRepository appUserRepository;
+    private final FolderCounterService folderCounterService;
+    private final BulkSoftDeleteService bulkSoftDeleteService;
     private final FolderMapper mapper;
     private final CurrentUserAccessor currentUserAccessor;
 
@@ -67,17 +72,12 @@ public class FolderServiceImpl implements FolderService {
                 query.sortField().value(),
                 query.sortDirection().value());
         validateParentFilter(query.parentFolderId(), currentActor);
+        if (query.isKeyset()) {
+            return getFolderWindow(query, currentActor);
+        }
 
         final var page = findPageSortedByDatabase(query, currentActor);
-        final var childCountByParent = resolveChildCountByParent(page.getContent(), currentActor);
-        final var directDeckCountByFolder = resolveDirectDeckCountByFolder(page.getContent(),
-                currentActor);
-        final var actorDisplayNameByActor = resolveActorDisplayNameByActor(page.getContent());
-        final var items = toResponses(
-                page.getContent(),
-                childCountByParent,
-                directDeckCountByFolder,
-                actorDisplayNameByActor);
+        final var items = toResponses(page.getContent());
 
         return new PageResponse<>(
                 items,
@@ -89,7 +89,8 @@ public class FolderServiceImpl implements FolderService {
                 page.hasPrevious(),
                 query.search(),
                 query.sortField().value(),
-                query.sortDirection().value());
+                query.sortDirection().value(),
+                null);
     }
 
     @Override
@@ -98,10 +99,9 @@ public class FolderServiceImpl implements FolderService {
         final String currentActor = this.currentUserAccessor.getCurrentActor();
         log.debug(LogConst.FOLDER_SERVICE_GET_BY_ID, folderId);
         final var entity = getActiveFolderEntity(folderId, currentActor);
-        final var childFolderCount = resolveChildFolderCount(folderId, currentActor);
-        final var directDeckCount = resolveDirectDeckCount(folderId, currentActor);
+        final var pendingDeltaByFolder = this.folderCounterService.findPendingDeltas(List.of(folderId));
         final var actorDisplayNameByActor = resolveActorDisplayNameByActor(List.of(entity));
-        return toResponse(entity, childFolderCount, directDeckCount, actorDisplayNameByActor);
+        return toResponse(entity, pendingDeltaByFolder, actorDisplayNameByActor);
     }
 
     @Override
@@ -109,28 +109,28 @@ public class FolderServiceImpl implements FolderService {
         final String currentActor = this.currentUserAccessor.getCurrentActor();
         log.info(LogConst.FOLDER_SERVICE_CREATE, request.parentFolderId());
         validateRequest(request.name(), request.description(), request.colorHex());
-        validateParentAllowsSubfolderCreation(request.parentFolderId(), currentActor);
+        final var parent = validateParentAllowsSubfolderCreation(request.parentFolderId(), currentActor);
         final var normalizedName = normalizeName(request.name());
         validateNameUniquenessForCreate(normalizedName, request.parentFolderId(), currentActor);
 
         final var entity = this.mapper.toEntity(request);
         entity.setName(normalizedName);
         entity.setDescription(normalizeDescription(request.description()));
+        entity.setSearchName(SearchTextNormalizer.normalize(entity.getName()));
+        entity.setSearchDescription(SearchTextNormalizer.normalize(entity.getDescription()));
         entity.setColorHex(normalizeColorHex(request.colorHex()));
         entity.setParentFolderId(request.parentFolderId());
+        FolderPaths.placeUnder(entity, parent);
         entity.setDirectFlashcardCount(FolderConst.DEFAULT_DIRECT_FLASHCARD_COUNT);
         entity.setAggregateFlashcardCount(FolderConst.DEFAULT_DIRECT_FLASHCARD_COUNT);
         entity.setCreatedBy(currentActor);
         entity.setUpdatedBy(currentActor);
 
         final var created = this.repository.save(entity);
+        applyChildFolderCountDelta(request.parentFolderId(), 1);
         log.info(LogConst.FOLDER_SERVICE_CREATED, created.getId());
         final var actorDisplayNameByActor = resolveActorDisplayNameByActor(List.of(created));
-        return toResponse(
-                created,
-                FolderConst.MIN_PAGE,
-                FolderConst.MIN_PAGE,
-                actorDisplayNameByActor);
+        return toResponse(created, Map.of(), actorDisplayNameByActor);
     }
 
     @Override
@@ -143,33 +143,35 @@ public class FolderServiceImpl implements FolderService {
         final var entity = getActiveFolderEntity(folderId, currentActor);
         final var oldParentFolderId = entity.getParentFolderId();
         final var newParentFolderId = request.parentFolderId();
-        final var subtreeAggregate = entity.getAggregateFlashcardCount();
+        final var subtreeAggregate = this.folderCounterService.resolveAggregateCount(entity);
 
-        final var activeFolders = this.repository.findByCreatedByAndDeletedAtIsNull(currentActor);
-        final var folderById = toFolderById(activeFolders);
-        validateParentForUpdate(folderId, newParentFolderId, folderById);
+        final var newParent = validateParentForUpdate(entity, newParentFolderId, currentActor);
         validateNameUniquenessForUpdate(folderId, normalizedName, newParentFolderId, currentActor);
         final var isParentChanged = !isSameParent(oldParentFolderId, newParentFolderId);
 
         if (isParentChanged) {
-            validateParentAllowsSubfolderCreationForUpdate(newParentFolderId, folderById, currentActor);
-            applyAggregateDeltaToAncestors(oldParentFolderId, -subtreeAggregate, folderById, currentActor);
-            applyAggregateDeltaToAncestors(newParentFolderId, subtreeAggregate, folderById, currentActor);
+            validateParentAllowsSubfolderCreationForUpdate(newParent, currentActor);
+            this.folderCounterService.applyAggregateDelta(oldParentFolderId, -subtreeAggregate, currentActor);
+            this.folderCounterService.applyAggregateDelta(newParentFolderId, subtreeAggregate, currentActor);
+            applyChildFolderCountDelta(oldParentFolderId, -1);
+            applyChildFolderCountDelta(newParentFolderId, 1);
+            moveSubtree(entity, newParent, currentActor);
         }
 
         this.mapper.updateEntity(request, entity);
         entity.setName(normalizedName);
         entity.setDescription(normalizeDescription(request.description()));
+        entity.setSearchName(SearchTextNormalizer.normalize(entity.getName()));
+        entity.setSearchDescription(SearchTextNormalizer.normalize(entity.getDescription()));
         entity.setColorHex(normalizeColorHex(request.colorHex()));
         entity.setParentFolderId(newParentFolderId);
         entity.setUpdatedBy(currentActor);
 
         final var updated = this.repository.save(entity);
         log.info(LogConst.FOLDER_SERVICE_UPDATED, updated.getId());
-        final var childFolderCount = resolveChildFolderCount(updated.getId(), currentActor);
-        final var directDeckCount = resolveDirectDeckCount(updated.getId(), currentActor);
+        final var pendingDeltaByFolder = this.folderCounterService.findPendingDeltas(List.of(updated.getId()));
         final var actorDisplayNameByActor = resolveActorDisplayNameByActor(List.of(updated));
-        return toResponse(updated, childFolderCount, directDeckCount, actorDisplayNameByActor);
+        return toResponse(updated, pendingDeltaByFolder, actorDisplayNameByActor);
     }
 
     @Override
@@ -177,62 +179,86 @@ public class FolderServiceImpl implements FolderService {
         final String currentActor = this.currentUserAccessor.getCurrentActor();
         log.info(LogConst.FOLDER_SERVICE_DELETE, folderId);
         final var target = getActiveFolderEntity(folderId, currentActor);
-        final var subtreeAggregate = target.getAggregateFlashcardCount();
-
-        final var activeFolders = this.repository.findByCreatedByAndDeletedAtIsNull(currentActor);
-        final var folderById = toFolderById(activeFolders);
-        final var childrenByParentId = toChildrenByParent(activeFolders);
-        applyAggregateDeltaToAncestors(target.getParentFolderId(), -subtreeAggregate, folderById, currentActor);
-
-        final var toDelete = collectSubtree(target, childrenByParentId);
-        final var deletedAt = Instant.now();
-        for (final FolderEntity entity : toDelete) {
-            entity.setDeletedAt(deletedAt);
-            entity.setDeletedBy(currentActor);
-            entity.setUpdatedBy(currentActor);
-        }
-        this.repository.saveAll(toDelete);
-        log.info(LogConst.FOLDER_SERVICE_SOFT_DELETED, folderId, toDelete.size());
+        final var affectedCount = this.bulkSoftDeleteService.softDeleteFolderSubtree(target, currentActor);
+        log.info(LogConst.FOLDER_SERVICE_SOFT_DELETED, folderId, affectedCount);
     }
 
-    private Page<FolderEntity> findPageSortedByDatabase(FolderListQuery query, String currentActor) {
-        final var sort = Sort
+    private PageResponse<FolderResponse> getFolderWindow(FolderListQuery query, String currentActor) {
+        final var specification = FolderSpecifications.activeByParentAndSearch(
+                query.parentFolderId(),
+                currentActor,
+                SearchTextNormalizer.normalize(query.search()));
+        final Window<FolderEntity> window = this.repository.findBy(
+                specification,
+                fluentQuery -> fluentQuery.sortBy(buildSort(query)).limit(query.size()).scroll(query.keysetPosition()));
+        final var items = toResponses(window.getContent());
+        final var totalElements = KeysetCursor.totalElements(
+                query.includeTotal(),
+                () -> this.repository.count(specification));
+        return new PageResponse<>(
+                items,
+                query.page(),
+                query.size(),
+                totalElements,
+                KeysetCursor.totalPages(totalElements, query.size()),
+                window.hasNext(),
+                !query.keysetPosition().isInitial(),
+                query.search(),
+                query.sortField().value(),
+                query.sortDirection().value(),
+                KeysetCursor.nextCursor(
+                        window,
+                        query.sortField().value(),
+                        query.sortDirection().value(),
+                        query.filterFingerprint()));
+    }
+
+    private Sort buildSort(FolderListQuery query) {
+        return Sort
                 .by(query.sortDirection().toSpringDirection(), query.sortField().sortProperty())
                 .and(Sort.by(query.sortDirection().toSpringDirection(), FolderConst.SORT_BY_TIE_BREAKER));
-        final Pageable pageable = PageRequest.of(query.page(), query.size(), sort);
-        return this.repository.findPageByParentAndSearch(query.parentFolderId(), currentActor, query.search(),
+    }
+
+    private Page<FolderEntity> findPageSortedByDatabase(FolderListQuery query, String currentActor) {
+        final Pageable pageable = PageRequest.of(query.page(), query.size(), buildSort(query));
+        return this.repository.findPageByParentAndSearch(
+                query.parentFolderId(),
+                currentActor,
+                SearchTextNormalizer.normalize(query.search()),
                 pageable);
     }
 
-    private List<FolderResponse> toResponses(
-            List<FolderEntity> entities,
-            Map<Long, Integer> childCountByParent,
-            Map<Long, Integer> directDeckCountByFolder,
-            Map<String, String> actorDisplayNameByActor) {
+    private List<FolderResponse> toResponses(List<FolderEntity> entities) {
+        final var pendingDeltaByFolder = this.folderCounterService.findPendingDeltas(collectFolderIds(entities));
+        final var actorDisplayNameByActor = resolveActorDisplayNameByActor(entities);
         final List<FolderResponse> responses = new ArrayList<>();
         for (final FolderEntity entity : entities) {
-            final int childFolderCount = childCountByParent.getOrDefault(entity.getId(), FolderConst.MIN_PAGE);
-            final int directDeckCount = directDeckCountByFolder.getOrDefault(entity.getId(), FolderConst.MIN_PAGE);
-            responses.add(toResponse(entity, childFolderCount, directDeckCount, actorDisplayNameByActor));
+            responses.add(toResponse(entity, pendingDeltaByFolder, actorDisplayNameByActor));
         }
         return responses;
     }
 
     private FolderResponse toResponse(
             FolderEntity entity,
-            int childFolderCount,
-            int directDeckCount,
+            Map<Long, PendingDeltaProjection> pendingDeltaByFolder,
             Map<String, String> actorDisplayNameByActor) {
+        final var pendingDelta = pendingDeltaByFolder.get(entity.getId());
+        var directFlashcardCount = entity.getDirectFlashcardCount();
+        var aggregateFlashcardCount = entity.getAggregateFlashcardCount();
+        if (pendingDelta != null) {
+            directFlashcardCount += (int) pendingDelta.getDirectDelta();
+            aggregateFlashcardCount += (int) pendingDelta.getAggregateDelta();
+        }
         return new FolderResponse(
                 entity.getId(),
                 entity.getName(),
                 entity.getDescription(),
                 entity.getColorHex(),
                 entity.getParentFolderId(),
-                entity.getDirectFlashcardCount(),
-                entity.getAggregateFlashcardCount(),
-                childFolderCount,
-                directDeckCount,
+                directFlashcardCount,
+                aggregateFlashcardCount,
+                entity.getChildFolderCount(),
+                entity.getDirectDeckCount(),
                 entity.getCreatedBy(),
                 entity.getUpdatedBy(),
                 resolveActorDisplayName(entity.getCreatedBy(), actorDisplayNameByActor),
@@ -285,126 +311,19 @@ public class FolderServiceImpl implements FolderService {
         }
     }
 
-    private Map<Long, Integer> resolveDirectDeckCountByFolder(List<FolderEntity> folders, String currentActor) {
-        if (CollectionUtils.isEmpty(folders)) {
-            return Map.of();
-        }
-
+    private List<Long> collectFolderIds(List<FolderEntity> folders) {
         final List<Long> folderIds = new ArrayList<>();
         for (final FolderEntity folder : folders) {
             folderIds.add(folder.getId());
         }
-
-        final var rows = this.deckRepository.countActiveDecksByFolderIds(folderIds,
-                currentActor);
-        final Map<Long, Integer> countByFolder = new HashMap<>();
-        for (final FolderDeckCountProjection row : rows) {
-            countByFolder.put(row.getFolderId(), (int) row.getDeckCount());
-        }
-        return countByFolder;
-    }
-
-    private int resolveDirectDeckCount(Long folderId, String currentActor) {
-        final var rows = this.deckRepository.countActiveDecksByFolderIds(
-                List.of(folderId),
-                currentActor);
-        if (rows.isEmpty()) {
-            return FolderConst.MIN_PAGE;
-        }
-        return (int) rows.get(FolderConst.MIN_PAGE).getDeckCount();
-    }
-
-    private Map<Long, Integer> resolveChildCountByParent(List<FolderEntity> parents, String currentActor) {
-        if (CollectionUtils.isEmpty(parents)) {
-            return Map.of();
-        }
-
-        final List<Long> parentIds = new ArrayList<>();
-        for (final FolderEntity parent : parents) {
-            parentIds.add(parent.getId());
-        }
-
-        final var rows = this.repository.countActiveChildrenByParentIds(parentIds,
-                currentActor);
-        final Map<Long, Integer> childCountByParent = new HashMap<>();
-        for (final ParentChildCountProjection row : rows) {
-            childCountByParent.put(row.getParentFolderId(), (int) row.getChildCount());
-        }
-        return childCountByParent;
-    }
-
-    private int resolveChildFolderCount(Long parentFolderId, String currentActor) {
-        final var rows = this.repository.countActiveChildrenByParentIds(
-                List.of(parentFolderId),
-                currentActor);
-        if (rows.isEmpty()) {
-            return FolderConst.MIN_PAGE;
-        }
-        return (int) rows.get(FolderConst.MIN_PAGE).getChildCount();
-    }
-
-    private void applyAggregateDeltaToAncestors(
-            Long startParentFolderId,
-            int delta,
-            Map<Long, FolderEntity> folderById,
-            String currentActor) {
-        var cursor = startParentFolderId;
-        while (cursor != null) {
-            final var ancestor = folderById.get(cursor);
-            if (ancestor == null) {
-                return;
-            }
-
-            final var updatedAggregate = ancestor.getAggregateFlashcardCount() + delta;
-            if (updatedAggregate < FolderConst.MIN_PAGE) {
-                throw new BusinessException(FolderConst.NEGATIVE_AGGREGATE_KEY);
-            }
-            ancestor.setAggregateFlashcardCount(updatedAggregate);
-            ancestor.setUpdatedBy(currentActor);
-            cursor = ancestor.getParentFolderId();
-        }
-    }
-
-    private List<FolderEntity> collectSubtree(
-            FolderEntity root,
-            Map<Long, List<FolderEntity>> childrenByParentId) {
-        final List<FolderEntity> nodes = new ArrayList<>();
-        final var stack = new ArrayDeque<FolderEntity>();
-        stack.push(root);
-
-        while (!stack.isEmpty()) {
-            final var current = stack.pop();
-            nodes.add(current);
-
-            final var children = childrenByParentId.get(current.getId());
-            if (children == null) {
-                continue;
-            }
-            for (final FolderEntity child : children) {
-                stack.push(child);
-            }
-        }
-        return nodes;
+        return folderIds;
     }
 
-    private Map<Long, FolderEntity> toFolderById(List<FolderEntity> folders) {
-        final Map<Long, FolderEntity> folderById = new HashMap<>();
-        for (final FolderEntity folder : folders) {
-            folderById.put(folder.getId(), folder);
-        }
-        return folderById;
-    }
-
-    private Map<Long, List<FolderEntity>> toChildrenByParent(List<FolderEntity> folders) {
-        final Map<Long, List<FolderEntity>> childrenByParentId = new HashMap<>();
-        for (final FolderEntity folder : folders) {
-            final var parentFolderId = folder.getParentFolderId();
-            final var children = childrenByParentId.computeIfAbsent(
-                    parentFolderId,
-                    ignored -> new ArrayList<>());
-            children.add(folder);
+    private void applyChildFolderCountDelta(Long parentFolderId, int delta) {
+        if (parentFolderId == null) {
+            return;
         }
-        return childrenByParentId;
+        this.repository.applyChildFolderCountDelta(parentFolderId, delta);
     }
 
     private void validateParentFilter(Long parentFolderId, String currentActor) {
@@ -421,61 +340,44 @@ public class FolderServiceImpl implements FolderService {
         throw new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY);
     }
 
-    private void validateParentForUpdate(
-            Long folderId,
-            Long parentFolderId,
-            Map<Long, FolderEntity> folderById) {
+    private FolderEntity validateParentForUpdate(FolderEntity folder, Long parentFolderId, String currentActor) {
         if (parentFolderId == null) {
-            return;
+            return null;
         }
-        if (folderId.equals(parentFolderId)) {
+        if (folder.getId().equals(parentFolderId)) {
             throw new BadRequestException(FolderConst.PARENT_SELF_KEY);
         }
-        if (!folderById.containsKey(parentFolderId)) {
-            throw new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY);
-        }
-
-        var cursor = parentFolderId;
-        while (cursor != null) {
-            if (cursor.equals(folderId)) {
-                throw new BadRequestException(FolderConst.PARENT_CYCLE_KEY);
-            }
-            final var current = folderById.get(cursor);
-            if (current == null) {
-                break;
-            }
-            cursor = current.getParentFolderId();
+        final var parent = this.repository
+                .findByIdAndCreatedByAndDeletedAtIsNull(parentFolderId, currentActor)
+                .orElseThrow(() -> new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY));
+        if (FolderPaths.isWithinSubtree(parent, folder)) {
+            throw new BadRequestException(FolderConst.PARENT_CYCLE_KEY);
         }
+        return parent;
     }
 
-    private void validateParentAllowsSubfolderCreation(Long parentFolderId, String currentActor) {
+    private FolderEntity validateParentAllowsSubfolderCreation(Long parentFolderId, String currentActor) {
         if (parentFolderId == null) {
-            return;
+            return null;
         }
-        this.repository
+        final var parent = this.repository
                 .findByIdAndCreatedByAndDeletedAtIsNull(parentFolderId, currentActor)
                 .orElseThrow(() -> new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY));
         final var hasDirectDecks = this.deckRepository.existsByFolderIdAndCreatedByAndDeletedAtIsNull(
                 parentFolderId,
                 currentActor);
         if (!hasDirectDecks) {
-            return;
+            return parent;
         }
         throw new BusinessException(FolderConst.PARENT_HAS_DECKS_KEY);
     }
 
-    private void validateParentAllowsSubfolderCreationForUpdate(
-            Long parentFolderId,
-            Map<Long, FolderEntity> folderById,
-            String currentActor) {
-        if (parentFolderId == null) {
+    private void validateParentAllowsSubfolderCreationForUpdate(FolderEntity parent, String currentActor) {
+        if (parent == null) {
             return;
         }
-        if (!folderById.containsKey(parentFolderId)) {
-            throw new BadRequestException(FolderConst.PARENT_NOT_FOUND_KEY);
-        }
         final var hasDirectDecks = this.deckRepository.existsByFolderIdAndCreatedByAndDeletedAtIsNull(
-                parentFolderId,
+                parent.getId(),
                 currentActor);
         if (!hasDirectDecks) {
             return;
@@ -483,6 +385,20 @@ public class FolderServiceImpl implements FolderService {
         throw new BusinessException(FolderConst.PARENT_HAS_DECKS_KEY);
     }
 
+    private void moveSubtree(FolderEntity folder, FolderEntity newParent, String currentActor) {
+        final var oldSubtreePath = FolderPaths.subtreePath(folder);
+        final var oldDescendantPattern = FolderPaths.descendantPattern(folder);
+        final var oldDepth = folder.getDepth();
+        FolderPaths.placeUnder(folder, newParent);
+        final var movedCount = this.repository.moveDescendants(
+                currentActor,
+                oldDescendantPattern,
+                FolderPaths.subtreePath(folder),
+                oldSubtreePath.length() + 1,
+                folder.getDepth() - oldDepth);
+        log.debug(LogConst.FOLDER_SERVICE_SUBTREE_MOVED, folder.getId(), movedCount);
+    }
+
     private boolean isSameParent(Long value, Long expected) {
         if ((value == null) && (expected == null)) {
             return true;
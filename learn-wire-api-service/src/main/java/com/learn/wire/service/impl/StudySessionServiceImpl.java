@@ -3,20 +3,28 @@ package com.learn.wire.service.impl;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.learn.wire.constant.AuthConst;
 import com.learn.wire.constant.LogConst;
 import com.learn.wire.constant.StudyConst;
 import com.learn.wire.dto.study.query.StudyMode;
+import com.learn.wire.dto.study.query.StudySessionEventBatchCommand;
 import com.learn.wire.dto.study.query.StudySessionEventCommand;
 import com.learn.wire.dto.study.query.StudySessionStartCommand;
+import com.learn.wire.dto.study.request.StudySessionEventBatchRequest;
 import com.learn.wire.dto.study.request.StudySessionEventRequest;
 import com.learn.wire.dto.study.request.StudySessionStartRequest;
 import com.learn.wire.dto.study.response.StudySessionResponse;
@@ -32,13 +40,17 @@ import com.learn.wire.exception.StudySessionNotFoundException;
 import com.learn.wire.repository.AppUserSettingRepository;
 import com.learn.wire.repository.DeckRepository;
 import com.learn.wire.repository.FlashcardRepository;
+import com.learn.wire.repository.StudyAttemptRepository;
 import com.learn.wire.repository.StudySessionItemRepository;
 import com.learn.wire.repository.StudySessionModeStateRepository;
 import com.learn.wire.repository.StudySessionRepository;
 import com.learn.wire.repository.StudySessionSnapshotItemRepository;
 import com.learn.wire.security.CurrentUserAccessor;
 import com.learn.wire.service.StudySessionService;
+import com.learn.wire.service.engine.StudyModeEngine;
 import com.learn.wire.service.factory.StudyEngineFactory;
+import com.learn.wire.service.loader.StudySessionBootstrap;
+import com.learn.wire.service.loader.StudySessionBootstrapLoader;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -60,8 +72,11 @@ public class StudySessionServiceImpl implements StudySessionService {
     private final StudySessionModeStateRepository studySessionModeStateRepository;
     private final StudySessionItemRepository studySessionItemRepository;
     private final StudySessionSnapshotItemRepository studySessionSnapshotItemRepository;
+    private final StudyAttemptRepository studyAttemptRepository;
     private final StudyEngineFactory studyEngineFactory;
+    private final StudySessionBootstrapLoader studySessionBootstrapLoader;
     private final CurrentUserAccessor currentUserAccessor;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public StudySessionResponse startSession(Long deckId, StudySessionStartRequest request) {
@@ -73,55 +88,82 @@ public class StudySessionServiceImpl implements StudySessionService {
                 command.deckId(),
                 command.mode().value(),
                 command.seed());
-        getActiveDeckEntity(command.deckId(), currentActor);
-        final var session = upsertActiveSession(command, currentActor);
-        final var mode = resolveStartMode(session, command.mode(), command.forceReset());
+        final var deck = getActiveDeckEntity(command.deckId(), currentActor);
+        final var bootstrap = upsertActiveSession(command, currentActor);
+        final var session = bootstrap.session();
+        final var mode = resolveStartMode(bootstrap, command.mode(), command.forceReset());
         updateActiveMode(session, mode, currentActor);
-        final var modeState = upsertModeState(session, mode);
+        final var modeState = upsertModeState(bootstrap, mode);
         final var engine = this.studyEngineFactory.getEngine(mode);
         if (isModeStateInitialized(modeState)) {
-            return engine.buildResponse(session, modeState);
+            return engine.buildResponse(bootstrap, modeState);
         }
-        final var sessionSnapshotFlashcards = resolveSessionSnapshotFlashcards(session, currentActor, currentUserId);
-        engine.initializeSession(session, modeState, sessionSnapshotFlashcards);
-        final var initializedModeState = getModeStateEntity(session.getId(), mode);
-        return engine.buildResponse(session, initializedModeState);
+        final var snapshotItems = resolveSessionSnapshotItems(bootstrap, deck, currentActor, currentUserId);
+        engine.initializeSession(session, modeState, snapshotItems);
+        return engine.buildResponse(bootstrap, modeState);
     }
 
     @Override
     @Transactional(readOnly = true)
     public StudySessionResponse getSession(Long sessionId) {
         final var currentActor = this.currentUserAccessor.getCurrentActor();
-        final var session = getSessionEntity(sessionId, currentActor);
-        final var mode = resolveActiveMode(session);
-        final var modeState = getModeStateEntity(session.getId(), mode);
+        final var bootstrap = getSessionBootstrap(sessionId, currentActor);
+        final var mode = resolveActiveMode(bootstrap.session());
+        final var modeState = getModeStateEntity(bootstrap, mode);
         final var engine = this.studyEngineFactory.getEngine(mode);
-        return engine.buildResponse(session, modeState);
+        return engine.buildResponse(bootstrap, modeState);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudySessionResponse submitEvent(Long sessionId, StudySessionEventRequest request) {
         final var currentActor = this.currentUserAccessor.getCurrentActor();
         final var command = StudySessionEventCommand.fromRequest(request);
-        final var session = getSessionEntity(sessionId, currentActor);
-        final var mode = resolveActiveMode(session);
-        final var modeState = getModeStateEntity(session.getId(), mode);
-        final var engine = this.studyEngineFactory.getEngine(mode);
-        return engine.handleEvent(session, modeState, command);
+        try {
+            return this.transactionTemplate.execute(status -> applyToActiveMode(
+                    sessionId,
+                    currentActor,
+                    (engine, bootstrap, modeState) -> engine.handleEvent(bootstrap, modeState, command)));
+        } catch (final DataIntegrityViolationException exception) {
+            if (!isAttemptConflict(exception)) {
+                throw exception;
+            }
+            return resolveConflictingEvents(sessionId, currentActor, List.of(command));
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StudySessionResponse submitEvents(Long sessionId, StudySessionEventBatchRequest request) {
+        final var currentActor = this.currentUserAccessor.getCurrentActor();
+        final var command = StudySessionEventBatchCommand.fromRequest(request);
+        try {
+            return this.transactionTemplate.execute(status -> applyToActiveMode(
+                    sessionId,
+                    currentActor,
+                    (engine, bootstrap, modeState) -> engine.handleEvents(bootstrap, modeState, command.events())));
+        } catch (final DataIntegrityViolationException exception) {
+            if (!isAttemptConflict(exception)) {
+                throw exception;
+            }
+            return resolveConflictingEvents(sessionId, currentActor, command.events());
+        }
     }
 
     @Override
     public StudySessionResponse completeSession(Long sessionId) {
         final var currentActor = this.currentUserAccessor.getCurrentActor();
-        final var session = getSessionEntity(sessionId, currentActor);
+        final var bootstrap = getSessionBootstrap(sessionId, currentActor);
+        final var session = bootstrap.session();
         final var mode = resolveActiveMode(session);
-        final var modeState = getModeStateEntity(session.getId(), mode);
+        final var modeState = getModeStateEntity(bootstrap, mode);
         if (StudyConst.SESSION_STATUS_ACTIVE.equalsIgnoreCase(modeState.getStatus())) {
             markModeStateCompleted(modeState);
             this.studySessionModeStateRepository.save(modeState);
+            this.studyEngineFactory.getEngine(mode).releaseModeState(modeState);
         }
-        if (!shouldCompleteSession(session)) {
-            return this.studyEngineFactory.getEngine(mode).buildResponse(session, modeState);
+        if (!shouldCompleteSession(bootstrap)) {
+            return this.studyEngineFactory.getEngine(mode).buildResponse(bootstrap, modeState);
         }
         if (StudyConst.SESSION_STATUS_ACTIVE.equalsIgnoreCase(session.getStatus())) {
             session.setStatus(StudyConst.SESSION_STATUS_COMPLETED);
@@ -129,15 +171,70 @@ public class StudySessionServiceImpl implements StudySessionService {
             session.setUpdatedBy(currentActor);
             this.studySessionRepository.save(session);
         }
-        final var completedSession = getSessionEntity(sessionId, currentActor);
-        return this.studyEngineFactory.getEngine(mode).buildResponse(completedSession, modeState);
+        return this.studyEngineFactory.getEngine(mode).buildResponse(bootstrap, modeState);
     }
 
-    private boolean shouldCompleteSession(StudySessionEntity session) {
-        final var completedModeCount = this.studySessionModeStateRepository.countBySessionIdAndStatus(
-                session.getId(),
-                StudyConst.SESSION_STATUS_COMPLETED);
-        return completedModeCount >= StudyMode.values().length;
+    private StudySessionResponse resolveConflictingEvents(
+            Long sessionId,
+            String currentActor,
+            List<StudySessionEventCommand> commands) {
+        try {
+            return this.transactionTemplate.execute(status -> applyToActiveMode(
+                    sessionId,
+                    currentActor,
+                    (engine, bootstrap, modeState) -> replayUnrecordedEvents(engine, bootstrap, modeState, commands)));
+        } catch (final DataIntegrityViolationException exception) {
+            if (!isAttemptConflict(exception)) {
+                throw exception;
+            }
+            throw new BusinessException(StudyConst.EVENT_ALREADY_RECORDED_KEY);
+        }
+    }
+
+    private boolean isAttemptConflict(DataIntegrityViolationException exception) {
+        final var constraintViolation = ExceptionUtils.throwableOfType(exception, ConstraintViolationException.class);
+        if (constraintViolation == null) {
+            return false;
+        }
+        return StringUtils.containsIgnoreCase(
+                constraintViolation.getConstraintName(),
+                StudyConst.ATTEMPT_UNIQUE_CONSTRAINT_PREFIX);
+    }
+
+    private StudySessionResponse replayUnrecordedEvents(
+            StudyModeEngine engine,
+            StudySessionBootstrap bootstrap,
+            StudySessionModeStateEntity modeState,
+            List<StudySessionEventCommand> commands) {
+        final List<StudySessionEventCommand> unrecordedCommands = new ArrayList<>();
+        for (final StudySessionEventCommand command : commands) {
+            if (this.studyAttemptRepository.existsRecorded(
+                    modeState.getId(),
+                    command.clientSequence(),
+                    command.clientEventId())) {
+                continue;
+            }
+            unrecordedCommands.add(command);
+        }
+        if (unrecordedCommands.size() == commands.size()) {
+            throw new BusinessException(StudyConst.EVENT_ALREADY_RECORDED_KEY);
+        }
+        log.debug(LogConst.STUDY_SERVICE_REPLAYED_EVENTS, modeState.getId(), commands.size() - unrecordedCommands.size());
+        if (unrecordedCommands.isEmpty()) {
+            return engine.buildResponse(bootstrap, modeState);
+        }
+        return engine.handleEvents(bootstrap, modeState, unrecordedCommands);
+    }
+
+    private StudySessionResponse applyToActiveMode(Long sessionId, String currentActor, ActiveModeAction action) {
+        final var bootstrap = getSessionBootstrap(sessionId, currentActor);
+        final var mode = resolveActiveMode(bootstrap.session());
+        final var modeState = getModeStateEntity(bootstrap, mode);
+        return action.apply(this.studyEngineFactory.getEngine(mode), bootstrap, modeState);
+    }
+
+    private boolean shouldCompleteSession(StudySessionBootstrap bootstrap) {
+        return bootstrap.completedModeCount() >= StudyMode.values().length;
     }
 
     private void markModeStateCompleted(StudySessionModeStateEntity modeState) {
@@ -149,33 +246,25 @@ public class StudySessionServiceImpl implements StudySessionService {
         return modeState.getTotalUnits() > StudyConst.DEFAULT_INDEX;
     }
 
-    private StudySessionEntity upsertActiveSession(StudySessionStartCommand command, String currentActor) {
+    private StudySessionBootstrap upsertActiveSession(StudySessionStartCommand command, String currentActor) {
         if (command.forceReset()) {
             completeActiveSession(command.deckId(), currentActor);
-            final var resetSession = createSession(command, currentActor);
-            return this.studySessionRepository.save(resetSession);
+            final var resetSession = this.studySessionRepository.save(createSession(command, currentActor));
+            return this.studySessionBootstrapLoader.forNewSession(resetSession);
         }
-        return this.studySessionRepository
-                .findFirstByDeckIdAndStatusAndDeletedAtIsNullAndCreatedByOrderByStartedAtDesc(
-                        command.deckId(),
-                        StudyConst.SESSION_STATUS_ACTIVE,
-                        currentActor)
-                .orElseGet(() -> this.studySessionRepository.save(createSession(command, currentActor)));
+        return this.studySessionBootstrapLoader
+                .loadActive(command.deckId(), currentActor)
+                .orElseGet(() -> this.studySessionBootstrapLoader.forNewSession(
+                        this.studySessionRepository.save(createSession(command, currentActor))));
     }
 
-    private StudyMode resolveStartMode(StudySessionEntity session, StudyMode requestedMode, boolean forceReset) {
-        if (forceReset) {
-            return requestedMode;
-        }
-        final var modeStates = this.studySessionModeStateRepository.findBySessionId(
-                session.getId());
-        if (modeStates.isEmpty()) {
+    private StudyMode resolveStartMode(StudySessionBootstrap bootstrap, StudyMode requestedMode, boolean forceReset) {
+        if (forceReset || !bootstrap.hasModeStates()) {
             return requestedMode;
         }
-        final var modeStateByMode = buildModeStateByMode(modeStates);
         final var modeCycle = buildModeCycle(requestedMode);
         for (final StudyMode candidate : modeCycle) {
-            final var candidateModeState = modeStateByMode.get(candidate);
+            final var candidateModeState = bootstrap.findModeState(candidate).orElse(null);
             if ((candidateModeState == null) || !isModeStateCompleted(candidateModeState)) {
                 return candidate;
             }
@@ -183,15 +272,6 @@ public class StudySessionServiceImpl implements StudySessionService {
         return requestedMode;
     }
 
-    private Map<StudyMode, StudySessionModeStateEntity> buildModeStateByMode(
-            List<StudySessionModeStateEntity> modeStates) {
-        final Map<StudyMode, StudySessionModeStateEntity> modeStateByMode = new EnumMap<>(StudyMode.class);
-        for (final StudySessionModeStateEntity modeState : modeStates) {
-            modeStateByMode.put(StudyMode.fromValue(modeState.getMode()), modeState);
-        }
-        return modeStateByMode;
-    }
-
     private List<StudyMode> buildModeCycle(StudyMode startMode) {
         final var allModes = StudyMode.values();
         final var modeCount = allModes.length;
@@ -210,60 +290,60 @@ public class StudySessionServiceImpl implements StudySessionService {
     }
 
     private void updateActiveMode(StudySessionEntity session, StudyMode mode, String currentActor) {
+        if (mode.value().equals(session.getActiveMode()) && currentActor.equals(session.getUpdatedBy())) {
+            return;
+        }
         session.setActiveMode(mode.value());
         session.setUpdatedBy(currentActor);
         this.studySessionRepository.save(session);
     }
 
-    private List<FlashcardEntity> resolveSessionSnapshotFlashcards(
-            StudySessionEntity session,
+    private List<StudySessionSnapshotItemEntity> resolveSessionSnapshotItems(
+            StudySessionBootstrap bootstrap,
+            DeckEntity deck,
             String currentActor,
             Long currentUserId) {
+        if (bootstrap.isNewSession()) {
+            return initializeSessionSnapshotItems(bootstrap, deck, currentActor, currentUserId);
+        }
         final var snapshotItems = this.studySessionSnapshotItemRepository
-                .findBySessionIdOrderByItemOrderAsc(session.getId());
+                .findBySessionIdOrderByItemOrderAsc(bootstrap.session().getId());
         if (!snapshotItems.isEmpty()) {
-            return mapSnapshotItemsToFlashcards(snapshotItems, session.getDeckId());
+            return snapshotItems;
         }
-        final var initializedSnapshotItems = initializeSessionSnapshotItems(
-                session,
-                currentActor,
-                currentUserId);
-        return mapSnapshotItemsToFlashcards(initializedSnapshotItems, session.getDeckId());
+        return initializeSessionSnapshotItems(bootstrap, deck, currentActor, currentUserId);
     }
 
     private List<StudySessionSnapshotItemEntity> initializeSessionSnapshotItems(
-            StudySessionEntity session,
+            StudySessionBootstrap bootstrap,
+            DeckEntity deck,
             String currentActor,
             Long currentUserId) {
-        final var existingLinearItems = findExistingLinearSessionItems(session.getId());
+        final var session = bootstrap.session();
+        final var existingLinearItems = findExistingLinearSessionItems(bootstrap);
         if (!existingLinearItems.isEmpty()) {
             final var snapshotItems = mapLinearItemsToSnapshotItems(
                     session.getId(),
                     existingLinearItems);
             return this.studySessionSnapshotItemRepository.saveAll(snapshotItems);
         }
-        final var deckFlashcards = this.flashcardRepository
-                .findByDeckIdAndCreatedByAndDeletedAtIsNull(session.getDeckId(), currentActor);
-        if (deckFlashcards.isEmpty()) {
+        final var deckFlashcardIds = this.flashcardRepository
+                .findActiveIdsByDeckId(session.getDeckId(), currentActor);
+        if (deckFlashcardIds.isEmpty()) {
             throw new BusinessException(StudyConst.DECK_HAS_NO_FLASHCARDS_KEY, session.getDeckId());
         }
-        final var shuffledFlashcards = shuffleFlashcards(deckFlashcards, session.getSeed());
-        final var cardsPerSession = resolveCardsPerSession(currentUserId, session.getDeckId(), currentActor);
-        final var snapshotFlashcards = limitFlashcardsByCardsPerSession(shuffledFlashcards, cardsPerSession);
+        final var cardsPerSession = resolveCardsPerSession(currentUserId, deck);
+        final var sampledIds = sampleFlashcardIds(deckFlashcardIds, cardsPerSession, session.getSeed());
+        final var snapshotFlashcards = loadFlashcardsInOrder(sampledIds);
         final var snapshotItems = mapFlashcardsToSnapshotItems(
                 session.getId(),
                 snapshotFlashcards);
         return this.studySessionSnapshotItemRepository.saveAll(snapshotItems);
     }
 
-    private int resolveCardsPerSession(Long userId, Long deckId, String currentActor) {
-        final Integer deckOverride = this.deckRepository
-                .findByIdAndCreatedByAndDeletedAtIsNull(deckId, currentActor)
-                .map(DeckEntity::getSettingCardsPerSessionOverride)
-                .map(this::normalizeCardsPerSession)
-                .orElse(null);
-        if (deckOverride != null) {
-            return deckOverride;
+    private int resolveCardsPerSession(Long userId, DeckEntity deck) {
+        if (deck.getSettingCardsPerSessionOverride() != null) {
+            return normalizeCardsPerSession(deck.getSettingCardsPerSessionOverride());
         }
         return this.appUserSettingRepository
                 .findByUserId(userId)
@@ -284,21 +364,38 @@ public class StudySessionServiceImpl implements StudySessionService {
         return rawValue;
     }
 
-    private List<FlashcardEntity> limitFlashcardsByCardsPerSession(
-            List<FlashcardEntity> flashcards,
-            int cardsPerSession) {
-        if (flashcards.size() <= cardsPerSession) {
-            return flashcards;
+    private List<Long> sampleFlashcardIds(List<Long> flashcardIds, int cardsPerSession, int seed) {
+        final List<Long> candidates = new ArrayList<>(flashcardIds);
+        final var sampleSize = Math.min(cardsPerSession, candidates.size());
+        final var random = new Random(seed);
+        var index = StudyConst.DEFAULT_INDEX;
+        while (index < sampleSize) {
+            final var pickedIndex = index + random.nextInt(candidates.size() - index);
+            Collections.swap(candidates, index, pickedIndex);
+            index++;
+        }
+        return new ArrayList<>(candidates.subList(StudyConst.DEFAULT_INDEX, sampleSize));
+    }
+
+    private List<FlashcardEntity> loadFlashcardsInOrder(List<Long> flashcardIds) {
+        final Map<Long, FlashcardEntity> flashcardById = new HashMap<>();
+        for (final FlashcardEntity flashcard : this.flashcardRepository.findByIdInAndDeletedAtIsNull(flashcardIds)) {
+            flashcardById.put(flashcard.getId(), flashcard);
+        }
+        final List<FlashcardEntity> flashcards = new ArrayList<>(flashcardIds.size());
+        for (final Long flashcardId : flashcardIds) {
+            final var flashcard = flashcardById.get(flashcardId);
+            if (flashcard != null) {
+                flashcards.add(flashcard);
+            }
         }
-        return new ArrayList<>(flashcards.subList(StudyConst.DEFAULT_INDEX, cardsPerSession));
+        return flashcards;
     }
 
-    private List<StudySessionItemEntity> findExistingLinearSessionItems(Long sessionId) {
+    private List<StudySessionItemEntity> findExistingLinearSessionItems(StudySessionBootstrap bootstrap) {
         final var linearModes = buildLinearModes();
         for (final StudyMode mode : linearModes) {
-            final var modeState = this.studySessionModeStateRepository
-                    .findBySessionIdAndMode(sessionId, mode.value())
-                    .orElse(null);
+            final var modeState = bootstrap.findModeState(mode).orElse(null);
             if ((modeState == null) || !isModeStateInitialized(modeState)) {
                 continue;
             }
@@ -356,27 +453,6 @@ public class StudySessionServiceImpl implements StudySessionService {
         return snapshotItems;
     }
 
-    private List<FlashcardEntity> mapSnapshotItemsToFlashcards(
-            List<StudySessionSnapshotItemEntity> snapshotItems,
-            Long deckId) {
-        final List<FlashcardEntity> flashcards = new ArrayList<>();
-        for (final StudySessionSnapshotItemEntity snapshotItem : snapshotItems) {
-            final var flashcard = new FlashcardEntity();
-            flashcard.setId(snapshotItem.getFlashcardId());
-            flashcard.setDeckId(deckId);
-            flashcard.setFrontText(snapshotItem.getFrontText());
-            flashcard.setBackText(snapshotItem.getBackText());
-            flashcards.add(flashcard);
-        }
-        return flashcards;
-    }
-
-    private List<FlashcardEntity> shuffleFlashcards(List<FlashcardEntity> flashcards, int seed) {
-        final List<FlashcardEntity> shuffledFlashcards = new ArrayList<>(flashcards);
-        Collections.shuffle(shuffledFlashcards, new Random(seed));
-        return shuffledFlashcards;
-    }
-
     private void completeActiveSession(Long deckId, String currentActor) {
         final var activeSession = this.studySessionRepository
                 .findFirstByDeckIdAndStatusAndDeletedAtIsNullAndCreatedByOrderByStartedAtDesc(
@@ -393,10 +469,14 @@ public class StudySessionServiceImpl implements StudySessionService {
         this.studySessionRepository.save(activeSession);
     }
 
-    private StudySessionModeStateEntity upsertModeState(StudySessionEntity session, StudyMode mode) {
-        return this.studySessionModeStateRepository
-                .findBySessionIdAndMode(session.getId(), mode.value())
-                .orElseGet(() -> createModeState(session, mode));
+    private StudySessionModeStateEntity upsertModeState(StudySessionBootstrap bootstrap, StudyMode mode) {
+        final var existingModeState = bootstrap.findModeState(mode).orElse(null);
+        if (existingModeState != null) {
+            return existingModeState;
+        }
+        final var createdModeState = createModeState(bootstrap.session(), mode);
+        bootstrap.putModeState(createdModeState);
+        return createdModeState;
     }
 
     private StudySessionModeStateEntity createModeState(StudySessionEntity session, StudyMode mode) {
@@ -428,9 +508,9 @@ public class StudySessionServiceImpl implements StudySessionService {
                 .orElseThrow(() -> new DeckNotFoundException(deckId));
     }
 
-    private StudySessionEntity getSessionEntity(Long sessionId, String currentActor) {
-        return this.studySessionRepository
-                .findByIdAndDeletedAtIsNullAndCreatedBy(sessionId, currentActor)
+    private StudySessionBootstrap getSessionBootstrap(Long sessionId, String currentActor) {
+        return this.studySessionBootstrapLoader
+                .load(sessionId, currentActor)
                 .orElseThrow(() -> new StudySessionNotFoundException(sessionId));
     }
 
@@ -438,9 +518,17 @@ public class StudySessionServiceImpl implements StudySessionService {
         return StudyMode.fromValue(session.getActiveMode());
     }
 
-    private StudySessionModeStateEntity getModeStateEntity(Long sessionId, StudyMode mode) {
-        return this.studySessionModeStateRepository
-                .findBySessionIdAndMode(sessionId, mode.value())
-                .orElseThrow(() -> new StudySessionNotFoundException(sessionId));
+    private StudySessionModeStateEntity getModeStateEntity(StudySessionBootstrap bootstrap, StudyMode mode) {
+        return bootstrap
+                .findModeState(mode)
+                .orElseThrow(() -> new StudySessionNotFoundException(bootstrap.session().getId()));
+    }
+
+    @FunctionalInterface
+    private interface ActiveModeAction {
+        StudySessionResponse apply(
+                StudyModeEngine engine,
+                StudySessionBootstrap bootstrap,
+                StudySessionModeStateEntity modeState);
     }
 }
@@ -0,0 +1,60 @@
+package com.learn.wire.service.job;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.constant.JobConst;
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.service.BulkSoftDeleteService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FlashcardPurgeJob {
+
+    private final BulkSoftDeleteService bulkSoftDeleteService;
+
+    @Async
+    @TransactionalEventListener
+    public void onPurgeRequested(FlashcardPurgeRequest request) {
+        purge(request);
+    }
+
+    @Scheduled(
+            initialDelay = JobConst.FLASHCARD_PURGE_RESUME_INTERVAL_MILLIS,
+            fixedDelay = JobConst.FLASHCARD_PURGE_RESUME_INTERVAL_MILLIS)
+    public void resumeStalledPurges() {
+        try {
+            final var requests = this.bulkSoftDeleteService.claimStalledFlashcardPurges(
+                    JobConst.FLASHCARD_PURGE_RESUME_BATCH_SIZE);
+            for (final FlashcardPurgeRequest request : requests) {
+                log.info(LogConst.FLASHCARD_PURGE_JOB_RESUMED, request.deckIds());
+                purge(request);
+            }
+        } catch (RuntimeException exception) {
+            log.warn(LogConst.FLASHCARD_PURGE_JOB_RESUME_FAILED, exception);
+        }
+    }
+
+    private void purge(FlashcardPurgeRequest request) {
+        log.info(LogConst.FLASHCARD_PURGE_JOB_STARTED, request.deckIds(), request.expectedCount());
+        var purgedCount = 0L;
+        var chunkCount = FlashcardConst.BULK_DELETE_CHUNK_SIZE;
+        while (chunkCount >= FlashcardConst.BULK_DELETE_CHUNK_SIZE) {
+            chunkCount = this.bulkSoftDeleteService.softDeleteFlashcardChunk(
+                    request.deckIds(),
+                    request.actor(),
+                    request.deletedAt());
+            purgedCount += chunkCount;
+            log.debug(LogConst.FLASHCARD_PURGE_JOB_CHUNK, request.deckIds(), chunkCount);
+        }
+        this.bulkSoftDeleteService.completeFlashcardPurge(request.deckIds());
+        log.info(LogConst.FLASHCARD_PURGE_JOB_COMPLETED, request.deckIds(), purgedCount);
+    }
+}
@@ -0,0 +1,11 @@
+package com.learn.wire.service.job;
+
+import java.time.Instant;
+import java.util.List;
+
+public record FlashcardPurgeRequest(
+        List<Long> deckIds,
+        String actor,
+        Instant deletedAt,
+        long expectedCount) {
+}
@@ -0,0 +1,38 @@
+package com.learn.wire.service.job;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.learn.wire.constant.JobConst;
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.service.FolderCountReconciliationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FolderCountReconciliationJob {
+
+    private final FolderCountReconciliationService folderCountReconciliationService;
+
+    @Scheduled(
+            initialDelay = JobConst.FOLDER_COUNT_RECONCILIATION_INTERVAL_MILLIS,
+            fixedDelay = JobConst.FOLDER_COUNT_RECONCILIATION_INTERVAL_MILLIS)
+    public void reconcileFolderCounts() {
+        try {
+            final var actors = this.folderCountReconciliationService.findNextActors(
+                    JobConst.FOLDER_COUNT_RECONCILIATION_ACTOR_BATCH_SIZE);
+            if (actors.isEmpty()) {
+                this.folderCountReconciliationService.resetCheckpoint();
+                return;
+            }
+            for (final String actor : actors) {
+                this.folderCountReconciliationService.reconcileActor(actor);
+            }
+        } catch (RuntimeException exception) {
+            log.warn(LogConst.FOLDER_COUNT_RECONCILIATION_FAILED, exception);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.learn.wire.service.job;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.learn.wire.constant.FolderConst;
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.service.FolderCounterService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FolderCounterCompactionJob {
+
+    private final FolderCounterService folderCounterService;
+
+    @Scheduled(fixedDelay = FolderConst.COUNTER_COMPACTION_INTERVAL_MILLIS)
+    public void compactPendingDeltas() {
+        try {
+            var compactedFolderCount = FolderConst.COUNTER_COMPACTION_FOLDER_BATCH_SIZE;
+            while (compactedFolderCount >= FolderConst.COUNTER_COMPACTION_FOLDER_BATCH_SIZE) {
+                compactedFolderCount = this.folderCounterService.compactPendingDeltas(
+                        FolderConst.COUNTER_COMPACTION_FOLDER_BATCH_SIZE);
+            }
+        } catch (RuntimeException exception) {
+            log.warn(LogConst.FOLDER_COUNTER_COMPACTION_FAILED, exception);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.learn.wire.service.job;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.learn.wire.constant.LogConst;
+import com.learn.wire.constant.StudyConst;
+import com.learn.wire.service.engine.MatchBoardCache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MatchBoardFlushJob {
+
+    private final MatchBoardCache matchBoardCache;
+
+    @Scheduled(fixedDelay = StudyConst.MATCH_BOARD_FLUSH_INTERVAL_MILLIS)
+    public void flushPendingBoards() {
+        flushPendingChanges();
+        final var evictedCount = this.matchBoardCache.evictIdleBoards();
+        if (evictedCount > StudyConst.DEFAULT_INDEX) {
+            log.debug(LogConst.MATCH_BOARD_EVICTED, evictedCount);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingChanges();
+    }
+
+    private void flushPendingChanges() {
+        final var pendingChanges = this.matchBoardCache.drainPendingChanges();
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        try {
+            final var matchedTileCount = this.matchBoardCache.writeChanges(pendingChanges);
+            log.debug(LogConst.MATCH_BOARD_FLUSHED, pendingChanges.size(), matchedTileCount);
+        } catch (RuntimeException exception) {
+            log.warn(LogConst.MATCH_BOARD_FLUSH_FAILED, pendingChanges.size(), exception);
+            this.matchBoardCache.requeueChanges(pendingChanges);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.learn.wire.service.loader;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.learn.wire.constant.StudyConst;
+import com.learn.wire.dto.study.query.StudyMode;
+import com.learn.wire.entity.StudySessionEntity;
+import com.learn.wire.entity.StudySessionModeStateEntity;
+
+public final class StudySessionBootstrap {
+
+    private final StudySessionEntity session;
+    private final boolean newSession;
+    private final Map<StudyMode, StudySessionModeStateEntity> modeStateByMode = new EnumMap<>(StudyMode.class);
+
+    StudySessionBootstrap(
+            StudySessionEntity session,
+            List<StudySessionModeStateEntity> modeStates,
+            boolean newSession) {
+        this.session = session;
+        this.newSession = newSession;
+        for (final StudySessionModeStateEntity modeState : modeStates) {
+            this.modeStateByMode.put(StudyMode.fromValue(modeState.getMode()), modeState);
+        }
+    }
+
+    public StudySessionEntity session() {
+        return this.session;
+    }
+
+    public boolean isNewSession() {
+        return this.newSession;
+    }
+
+    public boolean hasModeStates() {
+        return !this.modeStateByMode.isEmpty();
+    }
+
+    public Optional<StudySessionModeStateEntity> findModeState(StudyMode mode) {
+        return Optional.ofNullable(this.modeStateByMode.get(mode));
+    }
+
+    public void putModeState(StudySessionModeStateEntity modeState) {
+        this.modeStateByMode.put(StudyMode.fromValue(modeState.getMode()), modeState);
+    }
+
+    public int completedModeCount() {
+        var completedCount = StudyConst.DEFAULT_INDEX;
+        for (final StudySessionModeStateEntity modeState : this.modeStateByMode.values()) {
+            if (StudyConst.SESSION_STATUS_COMPLETED.equalsIgnoreCase(modeState.getStatus())) {
+                completedCount++;
+            }
+        }
+        return completedCount;
+    }
+}
@@ -0,0 +1,45 @@
+package com.learn.wire.service.loader;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.learn.wire.constant.StudyConst;
+import com.learn.wire.entity.StudySessionEntity;
+import com.learn.wire.repository.StudySessionModeStateRepository;
+import com.learn.wire.repository.StudySessionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class StudySessionBootstrapLoader {
+
+    private final StudySessionRepository studySessionRepository;
+    private final StudySessionModeStateRepository studySessionModeStateRepository;
+
+    public Optional<StudySessionBootstrap> loadActive(Long deckId, String currentActor) {
+        return this.studySessionRepository
+                .findFirstByDeckIdAndStatusAndDeletedAtIsNullAndCreatedByOrderByStartedAtDesc(
+                        deckId,
+                        StudyConst.SESSION_STATUS_ACTIVE,
+                        currentActor)
+                .map(this::loadModeStates);
+    }
+
+    public Optional<StudySessionBootstrap> load(Long sessionId, String currentActor) {
+        return this.studySessionRepository
+                .findByIdAndDeletedAtIsNullAndCreatedBy(sessionId, currentActor)
+                .map(this::loadModeStates);
+    }
+
+    public StudySessionBootstrap forNewSession(StudySessionEntity session) {
+        return new StudySessionBootstrap(session, List.of(), true);
+    }
+
+    private StudySessionBootstrap loadModeStates(StudySessionEntity session) {
+        final var modeStates = this.studySessionModeStateRepository.findBySessionId(session.getId());
+        return new StudySessionBootstrap(session, modeStates, false);
+    }
+}
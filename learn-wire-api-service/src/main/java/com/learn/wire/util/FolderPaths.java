@@ -0,0 +1,46 @@
+package com.learn.wire.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.learn.wire.constant.FolderConst;
+import com.learn.wire.entity.FolderEntity;
+
+public final class FolderPaths {
+
+    private FolderPaths() {
+    }
+
+    public static void placeUnder(FolderEntity folder, FolderEntity parent) {
+        if (parent == null) {
+            folder.setAncestorPath(FolderConst.ANCESTOR_PATH_ROOT);
+            folder.setDepth(FolderConst.ROOT_DEPTH);
+            return;
+        }
+        folder.setAncestorPath(subtreePath(parent));
+        folder.setDepth(parent.getDepth() + 1);
+    }
+
+    public static String subtreePath(FolderEntity folder) {
+        return folder.getAncestorPath() + folder.getId() + FolderConst.ANCESTOR_PATH_SEPARATOR;
+    }
+
+    public static String descendantPattern(FolderEntity folder) {
+        return subtreePath(folder) + FolderConst.ANCESTOR_PATH_WILDCARD;
+    }
+
+    public static boolean isWithinSubtree(FolderEntity candidate, FolderEntity root) {
+        return subtreePath(candidate).startsWith(subtreePath(root));
+    }
+
+    public static List<Long> pathIds(String ancestorPath, Long folderId) {
+        final List<Long> folderIds = new ArrayList<>();
+        for (final String segment : StringUtils.split(ancestorPath, FolderConst.ANCESTOR_PATH_SEPARATOR)) {
+            folderIds.add(Long.valueOf(segment));
+        }
+        folderIds.add(folderId);
+        return folderIds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.learn.wire.util;
+
+import java.util.Locale;
+
+import org.apache.commons.lang3.StringUtils;
+
+public final class SearchTextNormalizer {
+
+    private static final char LOWER_D_STROKE = 'đ';
+    private static final char UPPER_D_STROKE = 'Đ';
+    private static final char PLAIN_D = 'd';
+
+    private SearchTextNormalizer() {
+    }
+
+    public static String normalize(String value) {
+        final var trimmed = StringUtils.trimToEmpty(value);
+        if (trimmed.isEmpty()) {
+            return trimmed;
+        }
+        final var withoutStroke = trimmed
+                .replace(LOWER_D_STROKE, PLAIN_D)
+                .replace(UPPER_D_STROKE, PLAIN_D);
+        return StringUtils.stripAccents(withoutStroke).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,39 @@
+CREATE SEQUENCE flashcards_pooled_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE flashcards
+ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE flashcards
+ALTER COLUMN id SET DEFAULT nextval('flashcards_pooled_id_seq');
+
+CREATE SEQUENCE study_session_items_pooled_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE study_session_items
+ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE study_session_items
+ALTER COLUMN id SET DEFAULT nextval('study_session_items_pooled_id_seq');
+
+CREATE SEQUENCE study_session_snapshot_items_pooled_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE study_session_snapshot_items
+ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE study_session_snapshot_items
+ALTER COLUMN id SET DEFAULT nextval('study_session_snapshot_items_pooled_id_seq');
+
+CREATE SEQUENCE study_attempts_pooled_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE study_attempts
+ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE study_attempts
+ALTER COLUMN id SET DEFAULT nextval('study_attempts_pooled_id_seq');
+
+CREATE SEQUENCE match_session_tiles_pooled_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE match_session_tiles
+ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE match_session_tiles
+ALTER COLUMN id SET DEFAULT nextval('match_session_tiles_pooled_id_seq');
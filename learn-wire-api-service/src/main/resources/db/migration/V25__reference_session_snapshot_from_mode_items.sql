@@ -0,0 +1,48 @@
+ALTER TABLE study_session_items
+ADD COLUMN snapshot_item_id BIGINT;
+
+ALTER TABLE study_session_items
+ADD CONSTRAINT fk_study_session_items_snapshot_item
+FOREIGN KEY (snapshot_item_id) REFERENCES study_session_snapshot_items (id);
+
+ALTER TABLE study_session_items
+ALTER COLUMN front_text DROP NOT NULL;
+
+ALTER TABLE study_session_items
+ALTER COLUMN back_text DROP NOT NULL;
+
+UPDATE study_session_items
+SET snapshot_item_id = (
+    SELECT MIN(snapshot_item.id)
+    FROM study_session_snapshot_items snapshot_item
+    JOIN study_session_mode_states mode_state ON mode_state.session_id = snapshot_item.session_id
+    WHERE mode_state.id = study_session_items.mode_state_id
+      AND snapshot_item.flashcard_id = study_session_items.flashcard_id
+);
+
+UPDATE study_session_items
+SET front_text = NULL,
+    back_text = NULL
+WHERE snapshot_item_id IS NOT NULL;
+
+ALTER TABLE study_session_items
+ADD CONSTRAINT chk_study_session_items_snapshot_or_text
+CHECK (snapshot_item_id IS NOT NULL OR (front_text IS NOT NULL AND back_text IS NOT NULL));
+
+CREATE INDEX idx_study_session_items_snapshot_item_id ON study_session_items (snapshot_item_id);
+
+ALTER TABLE match_session_tiles
+ADD COLUMN snapshot_item_id BIGINT;
+
+ALTER TABLE match_session_tiles
+ADD CONSTRAINT fk_match_session_tiles_snapshot_item
+FOREIGN KEY (snapshot_item_id) REFERENCES study_session_snapshot_items (id);
+
+ALTER TABLE match_session_tiles
+ALTER COLUMN label_text DROP NOT NULL;
+
+ALTER TABLE match_session_tiles
+ADD CONSTRAINT chk_match_session_tiles_snapshot_or_label
+CHECK (snapshot_item_id IS NOT NULL OR label_text IS NOT NULL);
+
+CREATE INDEX idx_match_session_tiles_snapshot_item_id ON match_session_tiles (snapshot_item_id);
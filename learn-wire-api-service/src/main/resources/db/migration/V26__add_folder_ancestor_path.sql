@@ -0,0 +1,11 @@
+ALTER TABLE folders
+ADD COLUMN ancestor_path VARCHAR(4000) NOT NULL DEFAULT '/';
+
+ALTER TABLE folders
+ADD COLUMN depth INT NOT NULL DEFAULT 0;
+
+ALTER TABLE folders
+ADD CONSTRAINT chk_folders_depth_non_negative
+CHECK (depth >= 0);
+
+CREATE INDEX idx_folders_created_by_ancestor_path ON folders (created_by, ancestor_path);
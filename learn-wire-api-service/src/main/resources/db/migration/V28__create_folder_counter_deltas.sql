@@ -0,0 +1,15 @@
+CREATE SEQUENCE folder_counter_deltas_pooled_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE folder_counter_deltas (
+    id BIGINT NOT NULL DEFAULT nextval('folder_counter_deltas_pooled_id_seq') PRIMARY KEY,
+    folder_id BIGINT NOT NULL,
+    direct_delta INT NOT NULL DEFAULT 0,
+    aggregate_delta INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE folder_counter_deltas
+ADD CONSTRAINT fk_folder_counter_deltas_folder
+FOREIGN KEY (folder_id) REFERENCES folders (id);
+
+CREATE INDEX idx_folder_counter_deltas_folder_id ON folder_counter_deltas (folder_id);
@@ -0,0 +1,8 @@
+CREATE TABLE job_checkpoints (
+    job_name VARCHAR(80) PRIMARY KEY,
+    checkpoint_value VARCHAR(120) NOT NULL DEFAULT '',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO job_checkpoints (job_name, checkpoint_value)
+VALUES ('folder-count-reconciliation', '');
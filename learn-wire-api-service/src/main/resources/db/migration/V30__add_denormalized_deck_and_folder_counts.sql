@@ -0,0 +1,46 @@
+ALTER TABLE decks
+ADD COLUMN flashcard_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE folders
+ADD COLUMN direct_deck_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE folders
+ADD COLUMN child_folder_count INT NOT NULL DEFAULT 0;
+
+UPDATE decks
+SET flashcard_count = (
+    SELECT COUNT(card.id)
+    FROM flashcards card
+    WHERE card.deck_id = decks.id
+      AND card.deleted_at IS NULL
+)
+WHERE deleted_at IS NULL;
+
+UPDATE folders
+SET direct_deck_count = (
+        SELECT COUNT(deck.id)
+        FROM decks deck
+        WHERE deck.folder_id = folders.id
+          AND deck.deleted_at IS NULL
+    ),
+    child_folder_count = (
+        SELECT COUNT(child.id)
+        FROM folders child
+        WHERE child.parent_folder_id = folders.id
+          AND child.deleted_at IS NULL
+    )
+WHERE deleted_at IS NULL;
+
+ALTER TABLE decks
+ADD CONSTRAINT chk_decks_flashcard_count_non_negative
+CHECK (flashcard_count >= 0);
+
+ALTER TABLE folders
+ADD CONSTRAINT chk_folders_direct_deck_count_non_negative
+CHECK (direct_deck_count >= 0);
+
+ALTER TABLE folders
+ADD CONSTRAINT chk_folders_child_folder_count_non_negative
+CHECK (child_folder_count >= 0);
+
+CREATE INDEX idx_decks_folder_flashcard_count ON decks (folder_id, flashcard_count, id);
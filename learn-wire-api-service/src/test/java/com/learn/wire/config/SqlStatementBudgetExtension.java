@@ -0,0 +1,53 @@
+package com.learn.wire.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import com.learn.wire.observability.SqlStatementRecorder;
+import com.learn.wire.observability.SqlStatementSnapshot;
+
+public class SqlStatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+    private static final String OVER_BUDGET_KEY = "overBudgetUnitsOfWork";
+    private static final String BUDGET_EXCEEDED_MESSAGE = "SQL statement budget of %d exceeded by units of work: %s";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        final var budget = resolveBudget(context);
+        final List<SqlStatementSnapshot> overBudgetUnitsOfWork = new ArrayList<>();
+        context.getStore(NAMESPACE).put(OVER_BUDGET_KEY, overBudgetUnitsOfWork);
+        SqlStatementRecorder.observeUnitsOfWork(unitOfWork -> {
+            if (unitOfWork.statements() > budget) {
+                overBudgetUnitsOfWork.add(unitOfWork);
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterEach(ExtensionContext context) {
+        SqlStatementRecorder.stopObservingUnitsOfWork();
+        final var overBudgetUnitsOfWork = (List<SqlStatementSnapshot>) context
+                .getStore(NAMESPACE)
+                .remove(OVER_BUDGET_KEY);
+        if ((overBudgetUnitsOfWork == null) || overBudgetUnitsOfWork.isEmpty()) {
+            return;
+        }
+        throw new AssertionError(BUDGET_EXCEEDED_MESSAGE.formatted(resolveBudget(context), overBudgetUnitsOfWork));
+    }
+
+    private int resolveBudget(ExtensionContext context) {
+        return AnnotationSupport
+                .findAnnotation(context.getRequiredTestMethod(), SqlStatementBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), SqlStatementBudget.class))
+                .map(SqlStatementBudget::statements)
+                .orElseThrow();
+    }
+}
@@ -7,13 +7,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 
+import com.learn.wire.config.SqlStatementBudget;
+import com.learn.wire.constant.DeckConst;
+import com.learn.wire.dto.common.response.PageResponse;
+import com.learn.wire.dto.deck.query.DeckListQuery;
 import com.learn.wire.dto.deck.request.DeckCreateRequest;
+import com.learn.wire.dto.deck.request.DeckListRequest;
 import com.learn.wire.dto.deck.request.DeckUpdateRequest;
 import com.learn.wire.dto.deck.response.DeckResponse;
+import com.learn.wire.dto.flashcard.request.FlashcardCreateRequest;
+import com.learn.wire.dto.flashcard.response.FlashcardResponse;
 import com.learn.wire.dto.folder.request.FolderCreateRequest;
 import com.learn.wire.dto.folder.response.FolderResponse;
 import com.learn.wire.exception.BusinessException;
 import com.learn.wire.service.DeckService;
+import com.learn.wire.service.FlashcardService;
 import com.learn.wire.service.FolderService;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +45,9 @@ class DeckCrudIntegrationTest {
     @Autowired
     private FolderService folderService;
 
+    @Autowired
+    private FlashcardService flashcardService;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -64,6 +75,7 @@ class DeckCrudIntegrationTest {
     }
 
     @Test
+    @SqlStatementBudget(statements = 5)
     void createDeck_shouldAllowSameNameInDifferentFolders() {
         final FolderResponse firstFolder = this.folderService.createFolder(
                 new FolderCreateRequest(_unique("Root-A"), DESCRIPTION, COLOR, null));
@@ -100,6 +112,39 @@ class DeckCrudIntegrationTest {
         assertThat(firstDeck.name()).isEqualTo("Deck One");
     }
 
+    @Test
+    @SqlStatementBudget(statements = 9)
+    void getDecks_shouldSortByMaintainedFlashcardCount() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Root"), DESCRIPTION, COLOR, null));
+        final DeckResponse smallDeck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest("Small", "One card"));
+        final DeckResponse largeDeck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest("Large", "Two cards"));
+        this.flashcardService.createFlashcard(smallDeck.id(), new FlashcardCreateRequest("one", "1", null, null));
+        this.flashcardService.createFlashcard(largeDeck.id(), new FlashcardCreateRequest("two", "2", null, null));
+        final FlashcardResponse removed = this.flashcardService.createFlashcard(
+                largeDeck.id(),
+                new FlashcardCreateRequest("three", "3", null, null));
+        this.flashcardService.createFlashcard(largeDeck.id(), new FlashcardCreateRequest("four", "4", null, null));
+        this.flashcardService.deleteFlashcard(largeDeck.id(), removed.id());
+
+        final DeckListRequest request = new DeckListRequest();
+        request.setSortBy(DeckConst.SORT_BY_FLASHCARD_COUNT);
+        request.setSortDirection(DeckConst.SORT_DIRECTION_DESC);
+        final PageResponse<DeckResponse> page = this.deckService.getDecks(
+                DeckListQuery.fromRequest(folder.id(), request));
+
+        assertThat(page.items()).extracting(DeckResponse::id).containsExactly(largeDeck.id(), smallDeck.id());
+        assertThat(page.items()).extracting(DeckResponse::flashcardCount).containsExactly(2L, 1L);
+        assertThat(this.folderService.getFolder(folder.id()).directDeckCount()).isEqualTo(2);
+
+        this.deckService.deleteDeck(folder.id(), smallDeck.id());
+        assertThat(this.folderService.getFolder(folder.id()).directDeckCount()).isEqualTo(1);
+    }
+
     private String _unique(String prefix) {
         return prefix + "-" + System.nanoTime();
     }
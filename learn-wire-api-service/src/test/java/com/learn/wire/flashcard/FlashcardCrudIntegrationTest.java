@@ -14,22 +14,39 @@ import org.springframework.test.annotation.DirtiesContext;
 
 import com.learn.wire.constant.FlashcardConst;
 import com.learn.wire.constant.FolderConst;
+import com.learn.wire.constant.JobConst;
+import com.learn.wire.constant.PageConst;
 import com.learn.wire.dto.common.response.PageResponse;
+import com.learn.wire.dto.deck.request.DeckCopyRequest;
 import com.learn.wire.dto.deck.request.DeckCreateRequest;
 import com.learn.wire.dto.deck.response.DeckResponse;
+import com.learn.wire.dto.flashcard.query.FlashcardBatchCommand;
 import com.learn.wire.dto.flashcard.query.FlashcardListQuery;
+import com.learn.wire.dto.flashcard.query.FlashcardMoveCommand;
+import com.learn.wire.dto.flashcard.request.FlashcardBatchRequest;
+import com.learn.wire.dto.flashcard.request.FlashcardBatchUpdateRequest;
 import com.learn.wire.dto.flashcard.request.FlashcardCreateRequest;
 import com.learn.wire.dto.flashcard.request.FlashcardListRequest;
+import com.learn.wire.dto.flashcard.request.FlashcardMoveRequest;
 import com.learn.wire.dto.flashcard.request.FlashcardUpdateRequest;
+import com.learn.wire.dto.flashcard.response.FlashcardBatchResponse;
+import com.learn.wire.dto.flashcard.response.FlashcardMoveResponse;
 import com.learn.wire.dto.flashcard.response.FlashcardResponse;
 import com.learn.wire.dto.folder.request.FolderCreateRequest;
 import com.learn.wire.dto.folder.response.FolderResponse;
 import com.learn.wire.config.AbstractPostgresIntegrationTest;
+import com.learn.wire.config.SqlStatementBudget;
+import com.learn.wire.exception.BadRequestException;
 import com.learn.wire.exception.BusinessException;
+import com.learn.wire.exception.DeckNotFoundException;
+import com.learn.wire.exception.FlashcardNotFoundException;
 import com.learn.wire.mapper.DeckMapper;
+import com.learn.wire.service.BulkSoftDeleteService;
 import com.learn.wire.service.DeckService;
 import com.learn.wire.service.FlashcardService;
 import com.learn.wire.service.FolderService;
+import com.learn.wire.service.job.FlashcardPurgeJob;
+import com.learn.wire.service.job.FlashcardPurgeRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -60,6 +77,12 @@ class FlashcardCrudIntegrationTest extends AbstractPostgresIntegrationTest {
     @Autowired
     private DeckService deckService;
 
+    @Autowired
+    private FlashcardPurgeJob flashcardPurgeJob;
+
+    @Autowired
+    private BulkSoftDeleteService bulkSoftDeleteService;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -69,6 +92,7 @@ class FlashcardCrudIntegrationTest extends AbstractPostgresIntegrationTest {
     }
 
     @Test
+    @SqlStatementBudget(statements = 7)
     void createAndListFlashcards_shouldPersistByDeck() {
         final FolderResponse folder = this.folderService.createFolder(
                 new FolderCreateRequest(_unique("Flashcard Root"), DESCRIPTION, COLOR, null));
@@ -153,6 +177,308 @@ class FlashcardCrudIntegrationTest extends AbstractPostgresIntegrationTest {
         assertThat(ids).doesNotContain(created.id());
     }
 
+    @Test
+    @SqlStatementBudget(statements = 7)
+    void applyBatch_shouldPersistMutationsAndApplyNetCount() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Batch Root"), DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest(_unique("Batch Deck"), "Batch deck"));
+        final FlashcardResponse kept = this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("front kept", "back kept", null, null));
+        final FlashcardResponse removed = this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("front removed", "back removed", null, null));
+
+        final FlashcardBatchResponse response = this.flashcardService.applyBatch(FlashcardBatchCommand.fromRequest(
+                deck.id(),
+                new FlashcardBatchRequest(
+                        List.of(
+                                new FlashcardCreateRequest("front new one", "back new one", null, null),
+                                new FlashcardCreateRequest("  front new two  ", "back new two", null, null)),
+                        List.of(new FlashcardBatchUpdateRequest(kept.id(), "front edited", "back edited", null, null)),
+                        List.of(removed.id()))));
+
+        assertThat(response.created()).extracting(FlashcardResponse::frontText)
+                .containsExactly("front new one", "front new two");
+        assertThat(response.updated()).extracting(FlashcardResponse::frontText)
+                .containsExactly("front edited");
+        assertThat(response.deletedIds()).containsExactly(removed.id());
+        assertThat(this.deckService.getDeck(folder.id(), deck.id()).flashcardCount()).isEqualTo(3L);
+        assertThat(this.folderService.getFolder(folder.id()).flashcardCount()).isEqualTo(3);
+    }
+
+    @Test
+    void applyBatch_shouldRejectWholeBatchWhenAnyOperationIsInvalid() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Batch Reject"), DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest(_unique("Batch Reject Deck"), "Batch reject deck"));
+        final FlashcardResponse existing = this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("front existing", "back existing", null, null));
+
+        assertThatThrownBy(() -> this.flashcardService.applyBatch(FlashcardBatchCommand.fromRequest(
+                deck.id(),
+                new FlashcardBatchRequest(
+                        List.of(new FlashcardCreateRequest("front valid", "back valid", null, null)),
+                        List.of(),
+                        List.of(existing.id() + 1000)))))
+                .isInstanceOf(FlashcardNotFoundException.class);
+        assertThatThrownBy(() -> FlashcardBatchCommand.fromRequest(
+                deck.id(),
+                new FlashcardBatchRequest(
+                        null,
+                        List.of(new FlashcardBatchUpdateRequest(existing.id(), "front", "back", null, null)),
+                        List.of(existing.id()))))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(this.deckService.getDeck(folder.id(), deck.id()).flashcardCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @SqlStatementBudget(statements = 12)
+    void moveFlashcards_shouldTransferSelectionAndCountsBetweenFolders() {
+        final FolderResponse sourceFolder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Move Source"), DESCRIPTION, COLOR, null));
+        final FolderResponse targetFolder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Move Target"), DESCRIPTION, COLOR, null));
+        final DeckResponse sourceDeck = this.deckService.createDeck(
+                sourceFolder.id(),
+                new DeckCreateRequest(_unique("Source Deck"), "Source deck"));
+        final DeckResponse targetDeck = this.deckService.createDeck(
+                targetFolder.id(),
+                new DeckCreateRequest(_unique("Target Deck"), "Target deck"));
+        final FlashcardResponse moved = this.flashcardService.createFlashcard(
+                sourceDeck.id(),
+                new FlashcardCreateRequest("front moved", "back moved", null, null));
+        this.flashcardService.createFlashcard(
+                sourceDeck.id(),
+                new FlashcardCreateRequest("front stays", "back stays", null, null));
+
+        final FlashcardMoveResponse response = this.flashcardService.moveFlashcards(FlashcardMoveCommand.fromRequest(
+                sourceDeck.id(),
+                new FlashcardMoveRequest(targetDeck.id(), List.of(moved.id()), false)));
+
+        assertThat(response.movedCount()).isEqualTo(1);
+        assertThat(this.deckService.getDeck(sourceFolder.id(), sourceDeck.id()).flashcardCount()).isEqualTo(1L);
+        assertThat(this.deckService.getDeck(targetFolder.id(), targetDeck.id()).flashcardCount()).isEqualTo(1L);
+        assertThat(this.folderService.getFolder(sourceFolder.id()).flashcardCount()).isEqualTo(1);
+        assertThat(this.folderService.getFolder(targetFolder.id()).flashcardCount()).isEqualTo(1);
+    }
+
+    @Test
+    void moveFlashcards_shouldMergeAllCardsAndDeleteSourceDeck() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Merge Root"), DESCRIPTION, COLOR, null));
+        final DeckResponse sourceDeck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest(_unique("Merge Source"), "Merge source"));
+        final DeckResponse targetDeck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest(_unique("Merge Target"), "Merge target"));
+        this.flashcardService.createFlashcard(
+                sourceDeck.id(),
+                new FlashcardCreateRequest("front one", "back one", null, null));
+        this.flashcardService.createFlashcard(
+                sourceDeck.id(),
+                new FlashcardCreateRequest("front two", "back two", null, null));
+
+        final FlashcardMoveResponse response = this.flashcardService.moveFlashcards(FlashcardMoveCommand.fromRequest(
+                sourceDeck.id(),
+                new FlashcardMoveRequest(targetDeck.id(), null, true)));
+
+        assertThat(response.movedCount()).isEqualTo(2);
+        assertThat(response.sourceDeckDeleted()).isTrue();
+        assertThat(this.deckService.getDeck(folder.id(), targetDeck.id()).flashcardCount()).isEqualTo(2L);
+        assertThat(this.folderService.getFolder(folder.id()).flashcardCount()).isEqualTo(2);
+        assertThatThrownBy(() -> this.deckService.getDeck(folder.id(), sourceDeck.id()))
+                .isInstanceOf(DeckNotFoundException.class);
+    }
+
+    @Test
+    @SqlStatementBudget(statements = 13)
+    void copyDeck_shouldDuplicateCardsWithSwappedSidesAndCounts() {
+        final FolderResponse sourceFolder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Copy Source"), DESCRIPTION, COLOR, null));
+        final FolderResponse targetFolder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Copy Target"), DESCRIPTION, COLOR, null));
+        final DeckResponse sourceDeck = this.deckService.createDeck(
+                sourceFolder.id(),
+                new DeckCreateRequest(_unique("Copy Deck"), "Copy deck"));
+        this.flashcardService.createFlashcard(
+                sourceDeck.id(),
+                new FlashcardCreateRequest("front one", "back one", null, null));
+        this.flashcardService.createFlashcard(
+                sourceDeck.id(),
+                new FlashcardCreateRequest("front two", "back two", null, null));
+
+        final DeckResponse copy = this.deckService.copyDeck(
+                sourceFolder.id(),
+                sourceDeck.id(),
+                new DeckCopyRequest(targetFolder.id(), null, true));
+
+        final PageResponse<FlashcardResponse> copiedCards = this.flashcardService.getFlashcards(
+                FlashcardListQuery.fromRequest(copy.id(), new FlashcardListRequest()));
+        assertThat(copy.name()).isEqualTo(sourceDeck.name() + " (copy)");
+        assertThat(copy.flashcardCount()).isEqualTo(2L);
+        assertThat(copiedCards.items()).extracting(FlashcardResponse::frontText)
+                .containsExactlyInAnyOrder("back one", "back two");
+        assertThat(this.deckService.getDeck(sourceFolder.id(), sourceDeck.id()).flashcardCount()).isEqualTo(2L);
+        assertThat(this.folderService.getFolder(targetFolder.id()).flashcardCount()).isEqualTo(2);
+    }
+
+    @Test
+    void createAndDeleteFlashcard_shouldPropagateCountsToAncestorsOnly() {
+        final FolderResponse root = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Ancestor Root"), DESCRIPTION, COLOR, null));
+        final FolderResponse child = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Ancestor Child"), DESCRIPTION, COLOR, root.id()));
+        final FolderResponse sibling = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Ancestor Sibling"), DESCRIPTION, COLOR, root.id()));
+        final DeckResponse deck = this.deckService.createDeck(
+                child.id(),
+                new DeckCreateRequest(_unique("Ancestor Deck"), "Ancestor deck"));
+        final FlashcardResponse first = this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("front first", "back first", null, null));
+        this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("front second", "back second", null, null));
+
+        this.flashcardService.deleteFlashcard(deck.id(), first.id());
+
+        final FolderResponse rootAfter = this.folderService.getFolder(root.id());
+        final FolderResponse childAfter = this.folderService.getFolder(child.id());
+        final FolderResponse siblingAfter = this.folderService.getFolder(sibling.id());
+        assertThat(childAfter.directFlashcardCount()).isEqualTo(1);
+        assertThat(childAfter.flashcardCount()).isEqualTo(1);
+        assertThat(rootAfter.directFlashcardCount()).isEqualTo(FolderConst.MIN_PAGE);
+        assertThat(rootAfter.flashcardCount()).isEqualTo(1);
+        assertThat(siblingAfter.flashcardCount()).isEqualTo(FolderConst.MIN_PAGE);
+    }
+
+    @Test
+    void deleteFolder_shouldSoftDeleteSubtreeDecksAndFlashcards() {
+        final FolderResponse root = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Bulk Root"), DESCRIPTION, COLOR, null));
+        final FolderResponse child = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Bulk Child"), DESCRIPTION, COLOR, root.id()));
+        final FolderResponse grandChild = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Bulk Grand Child"), DESCRIPTION, COLOR, child.id()));
+        final DeckResponse deck = this.deckService.createDeck(
+                grandChild.id(),
+                new DeckCreateRequest(_unique("Bulk Deck"), "Bulk deck"));
+        this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("front first", "back first", null, null));
+        this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("front second", "back second", null, null));
+
+        this.folderService.deleteFolder(child.id());
+
+        final Integer activeFlashcards = this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flashcards WHERE deleted_at IS NULL",
+                Integer.class);
+        final Integer activeDecks = this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM decks WHERE deleted_at IS NULL",
+                Integer.class);
+        final Integer activeFolders = this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM folders WHERE deleted_at IS NULL",
+                Integer.class);
+        final FolderResponse rootAfter = this.folderService.getFolder(root.id());
+        assertThat(activeFlashcards).isZero();
+        assertThat(activeDecks).isZero();
+        assertThat(activeFolders).isEqualTo(1);
+        assertThat(rootAfter.flashcardCount()).isEqualTo(FolderConst.MIN_PAGE);
+    }
+
+    @Test
+    void resumeStalledPurges_shouldFinishInterruptedFlashcardPurge() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Purge Root"), DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest(_unique("Purge Deck"), "Purge deck"));
+        this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("front first", "back first", null, null));
+        this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("front second", "back second", null, null));
+        this.jdbcTemplate.update(
+                "UPDATE decks SET deleted_at = CURRENT_TIMESTAMP, deleted_by = created_by WHERE id = ?",
+                deck.id());
+        this.jdbcTemplate.update(
+                "INSERT INTO job_checkpoints (job_name, checkpoint_value, updated_at) "
+                        + "VALUES (?, '2026-01-01T00:00:00Z', TIMESTAMP '2026-01-01 00:00:00')",
+                JobConst.FLASHCARD_PURGE_JOB_NAME_PREFIX + deck.id());
+
+        this.flashcardPurgeJob.resumeStalledPurges();
+
+        final Integer activeFlashcards = this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flashcards WHERE deck_id = ? AND deleted_at IS NULL",
+                Integer.class,
+                deck.id());
+        final Integer pendingPurges = this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_checkpoints WHERE job_name LIKE 'flashcard-purge:%'",
+                Integer.class);
+        assertThat(activeFlashcards).isZero();
+        assertThat(pendingPurges).isZero();
+    }
+
+    @Test
+    void claimStalledFlashcardPurges_shouldLeaseCheckpointToSingleRunner() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Lease Root"), DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest(_unique("Lease Deck"), "Lease deck"));
+        this.jdbcTemplate.update(
+                "UPDATE decks SET deleted_at = CURRENT_TIMESTAMP, deleted_by = created_by WHERE id = ?",
+                deck.id());
+        this.jdbcTemplate.update(
+                "INSERT INTO job_checkpoints (job_name, checkpoint_value, updated_at) "
+                        + "VALUES (?, '2026-01-01T00:00:00Z', TIMESTAMP '2026-01-01 00:00:00')",
+                JobConst.FLASHCARD_PURGE_JOB_NAME_PREFIX + deck.id());
+
+        final List<FlashcardPurgeRequest> claimed = this.bulkSoftDeleteService.claimStalledFlashcardPurges(
+                JobConst.FLASHCARD_PURGE_RESUME_BATCH_SIZE);
+        final List<FlashcardPurgeRequest> claimedAgain = this.bulkSoftDeleteService.claimStalledFlashcardPurges(
+                JobConst.FLASHCARD_PURGE_RESUME_BATCH_SIZE);
+
+        assertThat(claimed).extracting(FlashcardPurgeRequest::deckIds).containsExactly(List.of(deck.id()));
+        assertThat(claimedAgain).isEmpty();
+        this.bulkSoftDeleteService.completeFlashcardPurge(List.of(deck.id()));
+    }
+
+    @Test
+    void getFlashcards_shouldMatchSearchIgnoringAccents() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Search Root"), DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest(_unique("Search Deck"), "Search deck"));
+        final FlashcardResponse accented = this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("Đâs", "accented", null, null));
+        final FlashcardResponse other = this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("other", "plain", null, null));
+
+        final FlashcardListRequest request = new FlashcardListRequest();
+        request.setSearch("das");
+        final FlashcardListQuery query = FlashcardListQuery.fromRequest(deck.id(), request);
+        final PageResponse<FlashcardResponse> page = this.flashcardService.getFlashcards(query);
+
+        final List<Long> ids = page.items().stream().map(FlashcardResponse::id).toList();
+        assertThat(ids).contains(accented.id());
+        assertThat(ids).doesNotContain(other.id());
+    }
+
     @Test
     void getFlashcards_shouldSupportSortByFrontTextAscending() {
         final FolderResponse folder = this.folderService.createFolder(
@@ -183,6 +509,61 @@ class FlashcardCrudIntegrationTest extends AbstractPostgresIntegrationTest {
         assertThat(page.sortDirection()).isEqualTo(FlashcardConst.SORT_DIRECTION_ASC);
     }
 
+    @Test
+    @SqlStatementBudget(statements = 5)
+    void getFlashcards_shouldScrollWithKeysetCursorWithoutTotals() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest(_unique("Cursor Root"), DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest(_unique("Cursor Deck"), "Cursor deck"));
+        final FlashcardResponse alpha = this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("alpha", "A", null, null));
+        final FlashcardResponse charlie = this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("charlie", "C", null, null));
+        final FlashcardResponse bravo = this.flashcardService.createFlashcard(
+                deck.id(),
+                new FlashcardCreateRequest("bravo", "B", null, null));
+
+        final FlashcardListRequest firstRequest = new FlashcardListRequest();
+        firstRequest.setSize(2);
+        firstRequest.setSortBy(FlashcardConst.SORT_BY_FRONT_TEXT);
+        firstRequest.setSortDirection(FlashcardConst.SORT_DIRECTION_ASC);
+        firstRequest.setIncludeTotal(false);
+        final PageResponse<FlashcardResponse> firstPage = this.flashcardService.getFlashcards(
+                FlashcardListQuery.fromRequest(deck.id(), firstRequest));
+
+        assertThat(firstPage.items().stream().map(FlashcardResponse::id)).containsExactly(alpha.id(), bravo.id());
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.totalElements()).isEqualTo(PageConst.UNKNOWN_TOTAL_ELEMENTS);
+        assertThat(firstPage.nextCursor()).isNotBlank();
+
+        final FlashcardListRequest secondRequest = new FlashcardListRequest();
+        secondRequest.setSize(2);
+        secondRequest.setSortBy(FlashcardConst.SORT_BY_FRONT_TEXT);
+        secondRequest.setSortDirection(FlashcardConst.SORT_DIRECTION_ASC);
+        secondRequest.setCursor(firstPage.nextCursor());
+        final PageResponse<FlashcardResponse> secondPage = this.flashcardService.getFlashcards(
+                FlashcardListQuery.fromRequest(deck.id(), secondRequest));
+
+        assertThat(secondPage.items().stream().map(FlashcardResponse::id)).containsExactly(charlie.id());
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.hasPrevious()).isTrue();
+        assertThat(secondPage.totalElements()).isEqualTo(3);
+        assertThat(secondPage.nextCursor()).isNull();
+
+        final FlashcardListRequest filteredRequest = new FlashcardListRequest();
+        filteredRequest.setSize(2);
+        filteredRequest.setSortBy(FlashcardConst.SORT_BY_FRONT_TEXT);
+        filteredRequest.setSortDirection(FlashcardConst.SORT_DIRECTION_ASC);
+        filteredRequest.setSearch("charlie");
+        filteredRequest.setCursor(firstPage.nextCursor());
+        assertThatThrownBy(() -> FlashcardListQuery.fromRequest(deck.id(), filteredRequest))
+                .isInstanceOf(BadRequestException.class);
+    }
+
     @Test
     void getFlashcards_shouldSupportSortByUpdatedAtDescending() {
         final FolderResponse folder = this.folderService.createFolder(
@@ -0,0 +1,129 @@
+package com.learn.wire.flashcard;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.learn.wire.config.SqlStatementBudget;
+import com.learn.wire.dto.deck.request.DeckCreateRequest;
+import com.learn.wire.dto.deck.response.DeckResponse;
+import com.learn.wire.dto.flashcard.query.FlashcardExportFormat;
+import com.learn.wire.dto.flashcard.request.FlashcardCreateRequest;
+import com.learn.wire.dto.folder.request.FolderCreateRequest;
+import com.learn.wire.dto.folder.response.FolderResponse;
+import com.learn.wire.exception.BadRequestException;
+import com.learn.wire.exception.DeckNotFoundException;
+import com.learn.wire.service.DeckService;
+import com.learn.wire.service.FlashcardExportService;
+import com.learn.wire.service.FlashcardService;
+import com.learn.wire.service.FolderService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class FlashcardExportIntegrationTest {
+
+    private static final String DESCRIPTION = "Folder for export tests";
+    private static final String COLOR = "#10B981";
+    private static final String DISABLE_REF_INTEGRITY_SQL = "SET REFERENTIAL_INTEGRITY FALSE";
+    private static final String ENABLE_REF_INTEGRITY_SQL = "SET REFERENTIAL_INTEGRITY TRUE";
+    private static final String TRUNCATE_FLASHCARDS_SQL = "TRUNCATE TABLE flashcards";
+    private static final String TRUNCATE_DECKS_SQL = "TRUNCATE TABLE decks";
+    private static final String TRUNCATE_FOLDERS_SQL = "TRUNCATE TABLE folders";
+
+    @Autowired
+    private FlashcardExportService flashcardExportService;
+
+    @Autowired
+    private FlashcardService flashcardService;
+
+    @Autowired
+    private DeckService deckService;
+
+    @Autowired
+    private FolderService folderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanupData() {
+        this.jdbcTemplate.execute(DISABLE_REF_INTEGRITY_SQL);
+        this.jdbcTemplate.execute(TRUNCATE_FLASHCARDS_SQL);
+        this.jdbcTemplate.execute(TRUNCATE_DECKS_SQL);
+        this.jdbcTemplate.execute(TRUNCATE_FOLDERS_SQL);
+        this.jdbcTemplate.execute(ENABLE_REF_INTEGRITY_SQL);
+    }
+
+    @Test
+    @SqlStatementBudget(statements = 7)
+    void writeExport_shouldStreamDeckAsCsv() throws IOException {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest("Export Root", DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest("Vocabulary", "Exported deck"));
+        this.flashcardService.createFlashcard(deck.id(), new FlashcardCreateRequest("hello, world", "xin chao", null, null));
+        this.flashcardService.createFlashcard(deck.id(), new FlashcardCreateRequest("two", "hai", null, null));
+
+        final var query = this.flashcardExportService.prepareDeckExport(deck.id(), FlashcardExportFormat.CSV);
+        final var output = new ByteArrayOutputStream();
+        final long rowCount = this.flashcardExportService.writeExport(query, output);
+
+        final String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rowCount).isEqualTo(2L);
+        assertThat(query.fileName()).isEqualTo("deck-" + deck.id() + ".csv");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("frontText,backText,frontLangCode,backLangCode,deckName,deckId,id");
+        assertThat(lines[1]).startsWith("\"hello, world\",xin chao,,,Vocabulary," + deck.id());
+        assertThat(lines[2]).startsWith("two,hai,,,Vocabulary," + deck.id());
+    }
+
+    @Test
+    @SqlStatementBudget(statements = 5)
+    void writeExport_shouldStreamFolderSubtreeAsNdjson() throws IOException {
+        final FolderResponse root = this.folderService.createFolder(
+                new FolderCreateRequest("Export Root", DESCRIPTION, COLOR, null));
+        final FolderResponse child = this.folderService.createFolder(
+                new FolderCreateRequest("Export Child", DESCRIPTION, COLOR, root.id()));
+        final FolderResponse sibling = this.folderService.createFolder(
+                new FolderCreateRequest("Export Sibling", DESCRIPTION, COLOR, null));
+        final DeckResponse childDeck = this.deckService.createDeck(
+                child.id(),
+                new DeckCreateRequest("Child Deck", "Nested deck"));
+        final DeckResponse siblingDeck = this.deckService.createDeck(
+                sibling.id(),
+                new DeckCreateRequest("Sibling Deck", "Outside subtree"));
+        this.flashcardService.createFlashcard(childDeck.id(), new FlashcardCreateRequest("nested", "long", null, null));
+        this.flashcardService.createFlashcard(siblingDeck.id(), new FlashcardCreateRequest("outside", "ngoai", null, null));
+
+        final var query = this.flashcardExportService.prepareFolderExport(root.id(), FlashcardExportFormat.NDJSON);
+        final var output = new ByteArrayOutputStream();
+        final long rowCount = this.flashcardExportService.writeExport(query, output);
+
+        final String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rowCount).isEqualTo(1L);
+        assertThat(lines).hasSize(1);
+        assertThat(lines[0])
+                .contains("\"deckId\":" + childDeck.id())
+                .contains("\"deckName\":\"Child Deck\"")
+                .contains("\"frontText\":\"nested\"");
+    }
+
+    @Test
+    void prepareExport_shouldRejectUnknownDeckAndFormat() {
+        assertThatThrownBy(() -> this.flashcardExportService.prepareDeckExport(999_999L, FlashcardExportFormat.CSV))
+                .isInstanceOf(DeckNotFoundException.class);
+        assertThatThrownBy(() -> FlashcardExportFormat.fromValue("xml"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
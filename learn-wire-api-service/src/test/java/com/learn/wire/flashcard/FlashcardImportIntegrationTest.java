@@ -0,0 +1,150 @@
+package com.learn.wire.flashcard;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.learn.wire.config.SqlStatementBudget;
+import com.learn.wire.constant.FlashcardConst;
+import com.learn.wire.dto.deck.request.DeckCreateRequest;
+import com.learn.wire.dto.deck.response.DeckResponse;
+import com.learn.wire.dto.flashcard.query.FlashcardImportQuery;
+import com.learn.wire.dto.flashcard.response.FlashcardImportErrorResponse;
+import com.learn.wire.dto.flashcard.response.FlashcardImportResponse;
+import com.learn.wire.dto.folder.request.FolderCreateRequest;
+import com.learn.wire.dto.folder.response.FolderResponse;
+import com.learn.wire.exception.BadRequestException;
+import com.learn.wire.service.DeckService;
+import com.learn.wire.service.FlashcardService;
+import com.learn.wire.service.FolderService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class FlashcardImportIntegrationTest {
+
+    private static final String DESCRIPTION = "Folder for import tests";
+    private static final String COLOR = "#10B981";
+    private static final String CSV_CONTENT_TYPE = "text/csv; charset=UTF-8";
+    private static final String TSV_CONTENT_TYPE = "text/tab-separated-values";
+    private static final String DISABLE_REF_INTEGRITY_SQL = "SET REFERENTIAL_INTEGRITY FALSE";
+    private static final String ENABLE_REF_INTEGRITY_SQL = "SET REFERENTIAL_INTEGRITY TRUE";
+    private static final String TRUNCATE_FLASHCARDS_SQL = "TRUNCATE TABLE flashcards";
+    private static final String TRUNCATE_DECKS_SQL = "TRUNCATE TABLE decks";
+    private static final String TRUNCATE_FOLDERS_SQL = "TRUNCATE TABLE folders";
+
+    @Autowired
+    private FlashcardService flashcardService;
+
+    @Autowired
+    private DeckService deckService;
+
+    @Autowired
+    private FolderService folderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanupData() {
+        this.jdbcTemplate.execute(DISABLE_REF_INTEGRITY_SQL);
+        this.jdbcTemplate.execute(TRUNCATE_FLASHCARDS_SQL);
+        this.jdbcTemplate.execute(TRUNCATE_DECKS_SQL);
+        this.jdbcTemplate.execute(TRUNCATE_FOLDERS_SQL);
+        this.jdbcTemplate.execute(ENABLE_REF_INTEGRITY_SQL);
+    }
+
+    @Test
+    @SqlStatementBudget(statements = 8)
+    void importFlashcards_shouldInsertValidRowsAndReportInvalidRows() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest("Import Root", DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest("Vocabulary", "Imported deck"));
+        final String content = """
+                front,back,frontLang,backLang
+                hello,xin chao,en,vi
+                "quoted, front",back text,en,vi
+                ,missing front,en,vi
+                mismatch,wrong language,ja,vi
+                world,the gioi,,
+                """;
+
+        final FlashcardImportResponse response = this.flashcardService.importFlashcards(
+                FlashcardImportQuery.fromRequest(deck.id(), CSV_CONTENT_TYPE, true),
+                _stream(content));
+
+        assertThat(response.importedCount()).isEqualTo(3);
+        assertThat(response.failedCount()).isEqualTo(2);
+        assertThat(response.errors())
+                .extracting(FlashcardImportErrorResponse::rowNumber)
+                .containsExactly(4L, 5L);
+        assertThat(response.errors())
+                .extracting(FlashcardImportErrorResponse::messageKey)
+                .containsExactly(FlashcardConst.FRONT_REQUIRED_KEY, FlashcardConst.TERM_LANG_MISMATCH_KEY);
+        assertThat(this.deckService.getDeck(folder.id(), deck.id()).flashcardCount()).isEqualTo(3L);
+        assertThat(this.folderService.getFolder(folder.id()).flashcardCount()).isEqualTo(3);
+    }
+
+    @Test
+    void importFlashcards_shouldParseTabSeparatedValuesWithoutHeader() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest("Tsv Root", DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest("Tsv Deck", "Imported deck"));
+
+        final FlashcardImportResponse response = this.flashcardService.importFlashcards(
+                FlashcardImportQuery.fromRequest(deck.id(), TSV_CONTENT_TYPE, false),
+                _stream("one\tmot\ntwo\thai\n"));
+
+        assertThat(response.importedCount()).isEqualTo(2);
+        assertThat(response.errors()).isEmpty();
+    }
+
+    @Test
+    @SqlStatementBudget(statements = 9)
+    void importFlashcards_shouldKeepTermLanguageDetectedAfterFirstBatch() {
+        final FolderResponse folder = this.folderService.createFolder(
+                new FolderCreateRequest("Batch Root", DESCRIPTION, COLOR, null));
+        final DeckResponse deck = this.deckService.createDeck(
+                folder.id(),
+                new DeckCreateRequest("Batch Deck", "Imported deck"));
+        final StringBuilder content = new StringBuilder();
+        for (int row = 0; row < FlashcardConst.IMPORT_BATCH_SIZE; row++) {
+            content.append("front ").append(row).append(",back ").append(row).append('\n');
+        }
+        content.append("late,language,en,vi\n");
+
+        final FlashcardImportResponse response = this.flashcardService.importFlashcards(
+                FlashcardImportQuery.fromRequest(deck.id(), CSV_CONTENT_TYPE, false),
+                _stream(content.toString()));
+
+        assertThat(response.importedCount()).isEqualTo(FlashcardConst.IMPORT_BATCH_SIZE + 1);
+        assertThat(this.jdbcTemplate.queryForObject(
+                "SELECT term_lang_code FROM decks WHERE id = ?",
+                String.class,
+                deck.id())).isEqualTo("en");
+        assertThat(this.deckService.getDeck(folder.id(), deck.id()).flashcardCount())
+                .isEqualTo(FlashcardConst.IMPORT_BATCH_SIZE + 1L);
+    }
+
+    @Test
+    void fromRequest_shouldRejectUnsupportedContentType() {
+        assertThatThrownBy(() -> FlashcardImportQuery.fromRequest(1L, "application/json", false))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private ByteArrayInputStream _stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.learn.wire.config.SqlStatementBudget;
 import com.learn.wire.constant.FolderConst;
 import com.learn.wire.dto.common.response.PageResponse;
 import com.learn.wire.dto.deck.request.DeckCreateRequest;
@@ -21,12 +22,16 @@ import com.learn.wire.dto.folder.request.FolderCreateRequest;
 import com.learn.wire.dto.folder.request.FolderListRequest;
 import com.learn.wire.dto.folder.request.FolderUpdateRequest;
 import com.learn.wire.dto.folder.response.FolderResponse;
+import com.learn.wire.entity.FolderCounterDeltaEntity;
 import com.learn.wire.entity.FolderEntity;
 import com.learn.wire.exception.BadRequestException;
 import com.learn.wire.exception.BusinessException;
 import com.learn.wire.exception.FolderNotFoundException;
+import com.learn.wire.repository.FolderCounterDeltaRepository;
 import com.learn.wire.repository.FolderRepository;
 import com.learn.wire.service.DeckService;
+import com.learn.wire.service.FolderCountReconciliationService;
+import com.learn.wire.service.FolderCounterService;
 import com.learn.wire.service.FolderService;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +57,10 @@ class FolderCrudIntegrationTest {
     private static final String TRUNCATE_FLASHCARDS_SQL = "TRUNCATE TABLE flashcards";
     private static final String TRUNCATE_DECKS_SQL = "TRUNCATE TABLE decks";
     private static final String TRUNCATE_FOLDERS_SQL = "TRUNCATE TABLE folders";
+    private static final String UPDATE_DIRECT_FLASHCARD_COUNT_SQL =
+            "UPDATE folders SET direct_flashcard_count = ? WHERE id = ?";
+    private static final String UPDATE_AGGREGATE_FLASHCARD_COUNT_SQL =
+            "UPDATE folders SET aggregate_flashcard_count = ? WHERE id = ?";
 
     private static Long rootAlphaId;
     private static Long rootBetaId;
@@ -64,6 +73,15 @@ class FolderCrudIntegrationTest {
     @Autowired
     private FolderRepository folderRepository;
 
+    @Autowired
+    private FolderCounterService folderCounterService;
+
+    @Autowired
+    private FolderCounterDeltaRepository folderCounterDeltaRepository;
+
+    @Autowired
+    private FolderCountReconciliationService folderCountReconciliationService;
+
     @Autowired
     private DeckService deckService;
 
@@ -128,6 +146,7 @@ class FolderCrudIntegrationTest {
 
     @Test
     @Order(4)
+    @SqlStatementBudget(statements = 3)
     void getFolders_shouldReturnDirectChildrenByParentFolderId() {
         final PageResponse<FolderResponse> childPage = this.folderService.getFolders(
                 _toFolderListQuery(
@@ -164,6 +183,7 @@ class FolderCrudIntegrationTest {
 
     @Test
     @Order(6)
+    @SqlStatementBudget(statements = 5)
     void getFolders_shouldSortByFlashcardCountIncludingSubfolders() {
         _setDirectFlashcardCount(rootAlphaId, 2);
         _setDirectFlashcardCount(rootBetaId, 4);
@@ -227,6 +247,75 @@ class FolderCrudIntegrationTest {
 
     @Test
     @Order(10)
+    @SqlStatementBudget(statements = 13)
+    void updateFolder_moveShouldRewriteDescendantPathsAndAggregates() {
+        final FolderResponse moved = this.folderService.updateFolder(
+                rootAlphaId,
+                new FolderUpdateRequest(UPDATED_NAME, DESCRIPTION, COLOR_ALPHA, rootGammaId));
+
+        final FolderEntity alpha = this.folderRepository.findById(rootAlphaId).orElseThrow();
+        final FolderEntity child = this.folderRepository.findById(alphaChildId).orElseThrow();
+        assertThat(moved.parentFolderId()).isEqualTo(rootGammaId);
+        assertThat(alpha.getAncestorPath()).isEqualTo("/" + rootGammaId + "/");
+        assertThat(alpha.getDepth()).isEqualTo(1);
+        assertThat(child.getAncestorPath()).isEqualTo("/" + rootGammaId + "/" + rootAlphaId + "/");
+        assertThat(child.getDepth()).isEqualTo(2);
+        assertThat(this.folderService.getFolder(rootGammaId).flashcardCount()).isEqualTo(6);
+
+        assertThatThrownBy(() -> this.folderService.updateFolder(
+                rootGammaId,
+                new FolderUpdateRequest(ROOT_GAMMA_NAME, DESCRIPTION, COLOR_GAMMA, alphaChildId)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @Order(11)
+    void compactPendingDeltas_shouldFoldDeltasIntoStoredCounts() {
+        final int gammaCountBefore = this.folderService.getFolder(rootGammaId).flashcardCount();
+
+        this.folderCounterService.compactPendingDeltas(FolderConst.COUNTER_COMPACTION_FOLDER_BATCH_SIZE);
+
+        assertThat(this.folderCounterDeltaRepository.count()).isZero();
+        assertThat(this.folderRepository.findById(rootGammaId).orElseThrow().getAggregateFlashcardCount())
+                .isEqualTo(gammaCountBefore);
+        assertThat(this.folderService.getFolder(rootGammaId).flashcardCount()).isEqualTo(gammaCountBefore);
+
+        assertThatThrownBy(() -> this.folderCounterService.applyFlashcardDelta(
+                rootGammaId,
+                -(gammaCountBefore + 1),
+                FolderConst.DEFAULT_ACTOR))
+                .isInstanceOf(BusinessException.class);
+
+        this.folderCounterDeltaRepository.save(
+                new FolderCounterDeltaEntity(null, rootGammaId, 0, -(gammaCountBefore + 1), null));
+        this.folderCounterService.compactPendingDeltas(FolderConst.COUNTER_COMPACTION_FOLDER_BATCH_SIZE);
+
+        assertThat(this.folderCounterDeltaRepository.count()).isOne();
+        assertThat(this.folderRepository.findById(rootGammaId).orElseThrow().getAggregateFlashcardCount())
+                .isEqualTo(gammaCountBefore);
+    }
+
+    @Test
+    @Order(12)
+    @SqlStatementBudget(statements = 8)
+    void reconcileActor_shouldRepairDriftFromActualFlashcards() {
+        this.folderCountReconciliationService.resetCheckpoint();
+
+        final int driftedFolderCount = this.folderCountReconciliationService.reconcileActor(FolderConst.DEFAULT_ACTOR);
+        this.folderCounterService.compactPendingDeltas(FolderConst.COUNTER_COMPACTION_FOLDER_BATCH_SIZE);
+
+        assertThat(driftedFolderCount).isPositive();
+        assertThat(this.folderRepository.findById(rootGammaId).orElseThrow().getAggregateFlashcardCount()).isZero();
+        assertThat(this.folderRepository.findById(rootAlphaId).orElseThrow().getDirectFlashcardCount()).isZero();
+        assertThat(this.folderCountReconciliationService.reconcileActor(FolderConst.DEFAULT_ACTOR)).isZero();
+
+        this.folderCountReconciliationService.resetCheckpoint();
+        assertThat(this.folderCountReconciliationService.reconcileActor(FolderConst.DEFAULT_ACTOR)).isZero();
+    }
+
+    @Test
+    @Order(13)
+    @SqlStatementBudget(statements = 5)
     void deleteFolder_shouldSoftDeleteSubtree() {
         this.folderService.deleteFolder(rootAlphaId);
 
@@ -255,9 +344,7 @@ class FolderCrudIntegrationTest {
     }
 
     private void _setDirectFlashcardCount(Long folderId, int count) {
-        final FolderEntity entity = this.folderRepository.findById(folderId).orElseThrow();
-        entity.setDirectFlashcardCount(count);
-        this.folderRepository.save(entity);
+        this.jdbcTemplate.update(UPDATE_DIRECT_FLASHCARD_COUNT_SQL, count, folderId);
         _recalculateAggregateFlashcardCounts();
     }
 
@@ -282,9 +369,8 @@ class FolderCrudIntegrationTest {
                     folderById,
                     childrenByParent,
                     cache);
-            folder.setAggregateFlashcardCount(aggregate);
+            this.jdbcTemplate.update(UPDATE_AGGREGATE_FLASHCARD_COUNT_SQL, aggregate, folder.getId());
         }
-        this.folderRepository.saveAll(activeFolders);
     }
 
     private int _resolveAggregate(
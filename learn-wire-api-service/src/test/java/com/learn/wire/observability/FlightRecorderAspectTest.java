@@ -0,0 +1,105 @@
+package com.learn.wire.observability;
+
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.learn.wire.constant.ObservabilityConst;
+import com.learn.wire.dto.study.query.StudyMode;
+import com.learn.wire.dto.study.query.StudySessionEventCommand;
+import com.learn.wire.dto.study.response.StudySessionResponse;
+import com.learn.wire.entity.StudySessionEntity;
+import com.learn.wire.entity.StudySessionModeStateEntity;
+import com.learn.wire.entity.StudySessionSnapshotItemEntity;
+import com.learn.wire.service.engine.StudyModeEngine;
+import com.learn.wire.service.loader.StudySessionBootstrap;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecorderAspectTest {
+
+    private static final String FAILURE_MESSAGE = "engine failure";
+
+    @Test
+    void recordEngineCall_shouldCommitFailedEventWhenEngineThrows() throws Exception {
+        final var dump = Files.createTempFile("study-engine", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ObservabilityConst.JFR_STUDY_ENGINE_EVENT);
+            recording.start();
+            final StudyModeEngine engine = _proxy(new FailingStudyModeEngine());
+            assertThatThrownBy(() -> engine.releaseModeState(null))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage(FAILURE_MESSAGE);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final var events = RecordingFile.readAllEvents(dump).stream()
+                .filter(recorded -> ObservabilityConst.JFR_STUDY_ENGINE_EVENT.equals(recorded.getEventType().getName()))
+                .toList();
+        Files.deleteIfExists(dump);
+
+        assertThat(events).hasSize(1);
+        final RecordedEvent recorded = events.get(0);
+        assertThat(recorded.getString("mode")).isEqualTo(StudyMode.REVIEW.value());
+        assertThat(recorded.getString("operation")).isEqualTo("releaseModeState");
+        assertThat(recorded.getBoolean("failed")).isTrue();
+    }
+
+    private StudyModeEngine _proxy(StudyModeEngine target) {
+        final var factory = new AspectJProxyFactory(target);
+        factory.addAspect(new FlightRecorderAspect());
+        return factory.getProxy();
+    }
+
+    private static final class FailingStudyModeEngine implements StudyModeEngine {
+
+        @Override
+        public StudyMode mode() {
+            return StudyMode.REVIEW;
+        }
+
+        @Override
+        public void initializeSession(
+                StudySessionEntity session,
+                StudySessionModeStateEntity modeState,
+                List<StudySessionSnapshotItemEntity> snapshotItems) {
+            throw new IllegalStateException(FAILURE_MESSAGE);
+        }
+
+        @Override
+        public StudySessionResponse buildResponse(
+                StudySessionBootstrap bootstrap,
+                StudySessionModeStateEntity modeState) {
+            throw new IllegalStateException(FAILURE_MESSAGE);
+        }
+
+        @Override
+        public StudySessionResponse handleEvent(
+                StudySessionBootstrap bootstrap,
+                StudySessionModeStateEntity modeState,
+                StudySessionEventCommand command) {
+            throw new IllegalStateException(FAILURE_MESSAGE);
+        }
+
+        @Override
+        public StudySessionResponse handleEvents(
+                StudySessionBootstrap bootstrap,
+                StudySessionModeStateEntity modeState,
+                List<StudySessionEventCommand> commands) {
+            throw new IllegalStateException(FAILURE_MESSAGE);
+        }
+
+        @Override
+        public void releaseModeState(StudySessionModeStateEntity modeState) {
+            throw new IllegalStateException(FAILURE_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.learn.wire.observability;
+
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import com.learn.wire.constant.ObservabilityConst;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FolderCounterFlightEventTest {
+
+    @Test
+    void complete_shouldRecordPropagationDepthWhenRecordingIsActive() throws Exception {
+        final var dump = Files.createTempFile("folder-counter", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ObservabilityConst.JFR_FOLDER_COUNTER_EVENT);
+            recording.start();
+            final FolderCounterFlightEvent event = new FolderCounterFlightEvent();
+            event.begin();
+            event.complete(42L, 2, 5);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final var events = RecordingFile.readAllEvents(dump).stream()
+                .filter(recorded -> ObservabilityConst.JFR_FOLDER_COUNTER_EVENT.equals(recorded.getEventType().getName()))
+                .toList();
+        Files.deleteIfExists(dump);
+
+        assertThat(events).hasSize(1);
+        final RecordedEvent recorded = events.get(0);
+        assertThat(recorded.getLong("folderId")).isEqualTo(42L);
+        assertThat(recorded.getInt("depth")).isEqualTo(2);
+        assertThat(recorded.getInt("rowsTouched")).isEqualTo(5);
+    }
+}
@@ -0,0 +1,65 @@
+package com.learn.wire.observability;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingRecorderTest {
+
+    @Test
+    void recorder_shouldAttributeNestedPhasesExclusively() throws InterruptedException {
+        ServerTimingRecorder.start();
+        ServerTimingRecorder.enter(ServerTimingPhase.ENGINE);
+        Thread.sleep(5);
+        ServerTimingRecorder.enter(ServerTimingPhase.DB);
+        Thread.sleep(20);
+        ServerTimingRecorder.exit();
+        ServerTimingRecorder.exit();
+        final ServerTimingSnapshot timing = ServerTimingRecorder.finish();
+
+        assertThat(timing.phaseMillis(ServerTimingPhase.DB)).isGreaterThanOrEqualTo(20D);
+        assertThat(timing.phaseMillis(ServerTimingPhase.ENGINE)).isLessThan(timing.phaseMillis(ServerTimingPhase.DB));
+        assertThat(timing.totalMillis())
+                .isGreaterThanOrEqualTo(timing.phaseMillis(ServerTimingPhase.ENGINE)
+                        + timing.phaseMillis(ServerTimingPhase.DB));
+    }
+
+    @Test
+    void recorder_shouldIgnorePhasesOutsideRequest() {
+        ServerTimingRecorder.enter(ServerTimingPhase.DB);
+        ServerTimingRecorder.exit();
+
+        assertThat(ServerTimingRecorder.finish().phaseNanos()).isEmpty();
+    }
+
+    @Test
+    void recorder_snapshotShouldIncludeActivePhaseWithoutEndingRequest() throws InterruptedException {
+        ServerTimingRecorder.start();
+        ServerTimingRecorder.enter(ServerTimingPhase.ENGINE);
+        Thread.sleep(5);
+        final ServerTimingSnapshot partial = ServerTimingRecorder.snapshot();
+        ServerTimingRecorder.exit();
+        final ServerTimingSnapshot timing = ServerTimingRecorder.finish();
+
+        assertThat(partial.phaseMillis(ServerTimingPhase.ENGINE)).isGreaterThanOrEqualTo(5D);
+        assertThat(timing.phaseMillis(ServerTimingPhase.ENGINE))
+                .isGreaterThanOrEqualTo(partial.phaseMillis(ServerTimingPhase.ENGINE));
+        assertThat(ServerTimingRecorder.snapshot()).isNull();
+    }
+
+    @Test
+    void snapshot_shouldFormatServerTimingHeader() {
+        final ServerTimingSnapshot timing = new ServerTimingSnapshot(
+                Map.of(
+                        ServerTimingPhase.AUTH, 1_500_000L,
+                        ServerTimingPhase.DB, 12_250_000L,
+                        ServerTimingPhase.SERIALIZE, 3_000_000L),
+                20_000_000L);
+
+        assertThat(timing.headerValue())
+                .isEqualTo("auth;dur=1.50, db;dur=12.25, engine;dur=0.00, total;dur=20.00");
+        assertThat(timing.phaseMillis(ServerTimingPhase.SERIALIZE)).isEqualTo(3D);
+    }
+}
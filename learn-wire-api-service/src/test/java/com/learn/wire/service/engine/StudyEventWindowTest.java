@@ -0,0 +1,43 @@
+package com.learn.wire.service.engine;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.learn.wire.entity.StudyAttemptEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyEventWindowTest {
+
+    @Test
+    void window_shouldTrustMissesWhenSeededWithAllAttempts() {
+        final StudyEventWindow window = new StudyEventWindow(4, List.of(attempt(2, "evt-2"), attempt(1, "evt-1")));
+
+        assertThat(window.contains(1, "evt-other")).isTrue();
+        assertThat(window.contains(9, "evt-2")).isTrue();
+        assertThat(window.contains(3, "evt-3")).isFalse();
+        assertThat(window.covers(0)).isTrue();
+    }
+
+    @Test
+    void window_shouldNotCoverSequencesBelowEvictedFloor() {
+        final StudyEventWindow window = new StudyEventWindow(2, List.of(attempt(6, "evt-6"), attempt(5, "evt-5")));
+
+        assertThat(window.covers(4)).isFalse();
+        assertThat(window.covers(7)).isTrue();
+
+        window.record(7, "evt-7");
+
+        assertThat(window.contains(5, "evt-5")).isFalse();
+        assertThat(window.covers(5)).isFalse();
+        assertThat(window.contains(7, "evt-7")).isTrue();
+    }
+
+    private StudyAttemptEntity attempt(int clientSequence, String clientEventId) {
+        final StudyAttemptEntity attempt = new StudyAttemptEntity();
+        attempt.setClientSequence(clientSequence);
+        attempt.setClientEventId(clientEventId);
+        return attempt;
+    }
+}
@@ -2,6 +2,7 @@ package com.learn.wire.study;
 
 import java.util.List;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,27 +10,35 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 
+import com.learn.wire.config.SqlStatementBudget;
 import com.learn.wire.constant.StudyConst;
 import com.learn.wire.dto.deck.request.DeckCreateRequest;
 import com.learn.wire.dto.deck.response.DeckResponse;
 import com.learn.wire.dto.flashcard.request.FlashcardCreateRequest;
 import com.learn.wire.dto.folder.request.FolderCreateRequest;
 import com.learn.wire.dto.folder.response.FolderResponse;
+import com.learn.wire.dto.study.request.StudySessionEventBatchRequest;
 import com.learn.wire.dto.study.request.StudySessionEventRequest;
 import com.learn.wire.dto.study.request.StudySessionStartRequest;
 import com.learn.wire.dto.study.response.StudyMatchTileResponse;
 import com.learn.wire.dto.study.response.StudySessionResponse;
+import com.learn.wire.exception.MatchSessionTileNotFoundException;
 import com.learn.wire.service.DeckService;
 import com.learn.wire.service.FlashcardService;
 import com.learn.wire.service.FolderService;
 import com.learn.wire.service.StudySessionService;
+import com.learn.wire.service.engine.MatchBoardCache;
+
+import jakarta.persistence.EntityManagerFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
 class StudySessionIntegrationTest {
 
+    private static final long WARM_RESUME_STATEMENT_BUDGET = 4L;
     private static final String DESCRIPTION = "Folder for study tests";
     private static final String COLOR = "#10B981";
     private static final String DISABLE_REF_INTEGRITY_SQL = "SET REFERENTIAL_INTEGRITY FALSE";
@@ -44,6 +53,23 @@ class StudySessionIntegrationTest {
     private static final String TRUNCATE_FLASHCARDS_SQL = "TRUNCATE TABLE flashcards";
     private static final String TRUNCATE_DECKS_SQL = "TRUNCATE TABLE decks";
     private static final String TRUNCATE_FOLDERS_SQL = "TRUNCATE TABLE folders";
+    private static final String COUNT_MATCHED_TILES_SQL = "SELECT COUNT(*) FROM match_session_tiles WHERE is_matched = TRUE";
+    private static final String COUNT_ATTEMPTS_SQL = "SELECT COUNT(*) FROM study_attempts";
+    private static final String RESET_MATCHED_TILES_SQL = "UPDATE match_session_tiles SET is_matched = FALSE";
+    private static final String COUNT_TEXT_BEARING_ITEMS_SQL =
+            "SELECT COUNT(*) FROM study_session_items WHERE snapshot_item_id IS NULL OR front_text IS NOT NULL";
+    private static final String COUNT_LABEL_BEARING_TILES_SQL =
+            "SELECT COUNT(*) FROM match_session_tiles WHERE snapshot_item_id IS NULL OR label_text IS NOT NULL";
+    private static final String EXPIRE_MATCH_FEEDBACK_SQL =
+            "UPDATE match_session_states SET feedback_until = DATEADD('SECOND', -1, CURRENT_TIMESTAMP)";
+    private static final String FIND_MATCH_STATE_VERSION_SQL = "SELECT version FROM match_session_states";
+    private static final String FIND_SELECTED_LEFT_TILE_SQL = "SELECT selected_left_tile_id FROM match_session_states";
+    private static final long UNKNOWN_TILE_ID = 999_999L;
+    private static final String FIND_MODE_STATE_ID_SQL =
+            "SELECT id FROM study_session_mode_states WHERE session_id = ? AND mode = ?";
+    private static final String INSERT_ATTEMPT_SQL =
+            "INSERT INTO study_attempts (id, mode_state_id, client_event_id, client_sequence, event_type, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
 
     @Autowired
     private FolderService folderService;
@@ -57,9 +83,15 @@ class StudySessionIntegrationTest {
     @Autowired
     private StudySessionService studySessionService;
 
+    @Autowired
+    private MatchBoardCache matchBoardCache;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void cleanupData() {
         this.jdbcTemplate.execute(DISABLE_REF_INTEGRITY_SQL);
@@ -77,6 +109,7 @@ class StudySessionIntegrationTest {
     }
 
     @Test
+    @SqlStatementBudget(statements = 15)
     void startReviewSession_shouldCreateItemsAndDefaultIndex() {
         final Long deckId = createDeckWithFlashcards(_unique("Review"), List.of(
                 new FlashcardCreateRequest("apple", "tao", null, null),
@@ -151,6 +184,195 @@ class StudySessionIntegrationTest {
         assertThat(errorRightTile.tileId()).isEqualTo(wrongRightTile.tileId());
     }
 
+    @Test
+    void matchMode_getSessionAfterFeedbackExpires_shouldUnlockWithoutWriting() {
+        final Long deckId = createDeckWithFlashcards(_unique("MatchExpiredFeedback"), List.of(
+                new FlashcardCreateRequest("one", "mot", null, null),
+                new FlashcardCreateRequest("two", "hai", null, null),
+                new FlashcardCreateRequest("three", "ba", null, null)));
+
+        final StudySessionResponse started = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_MATCH, 47, null));
+        final StudyMatchTileResponse leftTile = started.leftTiles().get(0);
+        final StudyMatchTileResponse wrongRightTile = findWrongRightTile(started.rightTiles(), leftTile.pairKey());
+
+        this.studySessionService.submitEvents(
+                started.sessionId(),
+                new StudySessionEventBatchRequest(List.of(
+                        new StudySessionEventRequest(
+                                "evt-expire-left",
+                                0,
+                                StudyConst.EVENT_MATCH_SELECT_LEFT,
+                                leftTile.tileId(),
+                                null),
+                        new StudySessionEventRequest(
+                                "evt-expire-right",
+                                1,
+                                StudyConst.EVENT_MATCH_SELECT_RIGHT,
+                                wrongRightTile.tileId(),
+                                null))));
+        final Long modeStateId = this.jdbcTemplate.queryForObject(
+                FIND_MODE_STATE_ID_SQL,
+                Long.class,
+                started.sessionId(),
+                StudyConst.MODE_MATCH);
+        this.matchBoardCache.flushAndEvict(modeStateId);
+        this.jdbcTemplate.update(EXPIRE_MATCH_FEEDBACK_SQL);
+        final Integer versionBeforeRead = this.jdbcTemplate.queryForObject(FIND_MATCH_STATE_VERSION_SQL, Integer.class);
+
+        final StudySessionResponse polled = this.studySessionService.getSession(started.sessionId());
+
+        assertThat(polled.lastAttemptResult().interactionLocked()).isFalse();
+        assertThat(polled.leftTiles()).noneMatch(StudyMatchTileResponse::errorFlash);
+        assertThat(polled.rightTiles()).noneMatch(StudyMatchTileResponse::errorFlash);
+        assertThat(this.matchBoardCache.drainPendingChanges()).isEmpty();
+        assertThat(this.jdbcTemplate.queryForObject(FIND_MATCH_STATE_VERSION_SQL, Integer.class))
+                .isEqualTo(versionBeforeRead);
+    }
+
+    @Test
+    @SqlStatementBudget(statements = 11)
+    void matchMode_correctSelection_shouldWriteBehindAndRecoverAfterEviction() {
+        final Long deckId = createDeckWithFlashcards(_unique("MatchWriteBehind"), List.of(
+                new FlashcardCreateRequest("north", "bac", null, null),
+                new FlashcardCreateRequest("south", "nam", null, null),
+                new FlashcardCreateRequest("east", "dong", null, null)));
+
+        final StudySessionResponse started = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_MATCH, 43, null));
+        final StudyMatchTileResponse leftTile = started.leftTiles().get(0);
+        final StudyMatchTileResponse rightTile = findMatchingRightTile(started.rightTiles(), leftTile.pairKey());
+
+        this.studySessionService.submitEvent(
+                started.sessionId(),
+                new StudySessionEventRequest(
+                        "evt-wb-left",
+                        0,
+                        StudyConst.EVENT_MATCH_SELECT_LEFT,
+                        leftTile.tileId(),
+                        null));
+        final StudySessionResponse matched = this.studySessionService.submitEvent(
+                started.sessionId(),
+                new StudySessionEventRequest(
+                        "evt-wb-right",
+                        1,
+                        StudyConst.EVENT_MATCH_SELECT_RIGHT,
+                        rightTile.tileId(),
+                        null));
+
+        assertThat(matched.currentIndex()).isEqualTo(1);
+        assertThat(matched.lastAttemptResult().feedbackStatus()).isEqualTo(StudyConst.FEEDBACK_SUCCESS);
+
+        final Long modeStateId = this.jdbcTemplate.queryForObject(
+                FIND_MODE_STATE_ID_SQL,
+                Long.class,
+                started.sessionId(),
+                StudyConst.MODE_MATCH);
+        this.matchBoardCache.drainPendingChanges();
+        this.matchBoardCache.flushAndEvict(modeStateId);
+        this.jdbcTemplate.update(RESET_MATCHED_TILES_SQL);
+        final StudySessionResponse recovered = this.studySessionService.getSession(started.sessionId());
+
+        assertThat(recovered.currentIndex()).isEqualTo(1);
+        assertThat(recovered.leftTiles())
+                .filteredOn(tile -> tile.tileId().equals(leftTile.tileId()))
+                .singleElement()
+                .extracting(StudyMatchTileResponse::matched)
+                .isEqualTo(true);
+
+        this.matchBoardCache.writeChanges(this.matchBoardCache.drainPendingChanges());
+        assertThat(this.jdbcTemplate.queryForObject(COUNT_MATCHED_TILES_SQL, Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    void submitEvents_duringMatchFeedback_shouldKeepInteractionLocked() {
+        final Long deckId = createDeckWithFlashcards(_unique("MatchBatchFeedback"), List.of(
+                new FlashcardCreateRequest("sun", "mat troi", null, null),
+                new FlashcardCreateRequest("moon", "mat trang", null, null),
+                new FlashcardCreateRequest("star", "ngoi sao", null, null)));
+
+        final StudySessionResponse started = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_MATCH, 59, null));
+        final StudyMatchTileResponse leftTile = started.leftTiles().get(0);
+        final StudyMatchTileResponse wrongRightTile = findWrongRightTile(started.rightTiles(), leftTile.pairKey());
+        final StudyMatchTileResponse rightTile = findMatchingRightTile(started.rightTiles(), leftTile.pairKey());
+
+        final StudySessionResponse batched = this.studySessionService.submitEvents(
+                started.sessionId(),
+                new StudySessionEventBatchRequest(List.of(
+                        new StudySessionEventRequest(
+                                "evt-lock-left",
+                                0,
+                                StudyConst.EVENT_MATCH_SELECT_LEFT,
+                                leftTile.tileId(),
+                                null),
+                        new StudySessionEventRequest(
+                                "evt-lock-wrong",
+                                1,
+                                StudyConst.EVENT_MATCH_SELECT_RIGHT,
+                                wrongRightTile.tileId(),
+                                null),
+                        new StudySessionEventRequest(
+                                "evt-lock-retry-right",
+                                2,
+                                StudyConst.EVENT_MATCH_SELECT_RIGHT,
+                                rightTile.tileId(),
+                                null))));
+
+        assertThat(batched.currentIndex()).isEqualTo(StudyConst.DEFAULT_INDEX);
+        assertThat(batched.lastAttemptResult().feedbackStatus()).isEqualTo(StudyConst.FEEDBACK_ERROR);
+        assertThat(batched.lastAttemptResult().interactionLocked()).isTrue();
+        assertThat(batched.leftTiles()).noneMatch(StudyMatchTileResponse::matched);
+        this.matchBoardCache.flushAndEvict(this.jdbcTemplate.queryForObject(
+                FIND_MODE_STATE_ID_SQL,
+                Long.class,
+                started.sessionId(),
+                StudyConst.MODE_MATCH));
+    }
+
+    @Test
+    void matchMode_rolledBackEvent_shouldFlushCommittedSelectionBeforeEviction() {
+        final Long deckId = createDeckWithFlashcards(_unique("MatchRollback"), List.of(
+                new FlashcardCreateRequest("up", "len", null, null),
+                new FlashcardCreateRequest("down", "xuong", null, null),
+                new FlashcardCreateRequest("left", "trai", null, null)));
+
+        final StudySessionResponse started = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_MATCH, 53, null));
+        final StudyMatchTileResponse leftTile = started.leftTiles().get(0);
+
+        this.studySessionService.submitEvent(
+                started.sessionId(),
+                new StudySessionEventRequest(
+                        "evt-rb-left",
+                        0,
+                        StudyConst.EVENT_MATCH_SELECT_LEFT,
+                        leftTile.tileId(),
+                        null));
+        assertThatThrownBy(() -> this.studySessionService.submitEvent(
+                started.sessionId(),
+                new StudySessionEventRequest(
+                        "evt-rb-right",
+                        1,
+                        StudyConst.EVENT_MATCH_SELECT_RIGHT,
+                        UNKNOWN_TILE_ID,
+                        null)))
+                .isInstanceOf(MatchSessionTileNotFoundException.class);
+
+        assertThat(this.jdbcTemplate.queryForObject(FIND_SELECTED_LEFT_TILE_SQL, Long.class))
+                .isEqualTo(leftTile.tileId());
+        final StudySessionResponse reloaded = this.studySessionService.getSession(started.sessionId());
+        assertThat(reloaded.leftTiles())
+                .filteredOn(StudyMatchTileResponse::selected)
+                .singleElement()
+                .extracting(StudyMatchTileResponse::tileId)
+                .isEqualTo(leftTile.tileId());
+    }
+
     @Test
     void submitEvent_withDuplicateClientSequence_shouldReturnCurrentStateWithoutError() {
         final Long deckId = createDeckWithFlashcards(_unique("DuplicateSequence"), List.of(
@@ -185,6 +407,72 @@ class StudySessionIntegrationTest {
     }
 
     @Test
+    void submitEvent_recordedOutsideDedupWindow_shouldReturnCurrentStateWithoutError() {
+        final Long deckId = createDeckWithFlashcards(_unique("RecordedElsewhere"), List.of(
+                new FlashcardCreateRequest("one", "mot", null, null),
+                new FlashcardCreateRequest("two", "hai", null, null),
+                new FlashcardCreateRequest("three", "ba", null, null)));
+
+        final StudySessionResponse started = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_REVIEW, 43, null));
+        this.studySessionService.submitEvent(
+                started.sessionId(),
+                new StudySessionEventRequest("evt-elsewhere-1", 1, StudyConst.EVENT_REVIEW_NEXT, null, 1));
+        final Long modeStateId = this.jdbcTemplate.queryForObject(
+                FIND_MODE_STATE_ID_SQL,
+                Long.class,
+                started.sessionId(),
+                StudyConst.MODE_REVIEW);
+        this.jdbcTemplate.update(
+                INSERT_ATTEMPT_SQL,
+                Long.MAX_VALUE,
+                modeStateId,
+                "evt-elsewhere-2",
+                2,
+                StudyConst.EVENT_REVIEW_NEXT);
+
+        final StudySessionResponse replayed = this.studySessionService.submitEvent(
+                started.sessionId(),
+                new StudySessionEventRequest("evt-elsewhere-2", 3, StudyConst.EVENT_REVIEW_NEXT, null, 2));
+
+        assertThat(replayed.currentIndex()).isEqualTo(1);
+        assertThat(this.jdbcTemplate.queryForObject(COUNT_ATTEMPTS_SQL, Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    @SqlStatementBudget(statements = 11)
+    void submitEvents_shouldApplyOrderedBatchAndSkipDuplicateSequences() {
+        final Long deckId = createDeckWithFlashcards(_unique("EventBatch"), List.of(
+                new FlashcardCreateRequest("first", "mot", null, null),
+                new FlashcardCreateRequest("second", "hai", null, null),
+                new FlashcardCreateRequest("third", "ba", null, null),
+                new FlashcardCreateRequest("fourth", "bon", null, null)));
+
+        final StudySessionResponse started = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_REVIEW, 47, null));
+
+        final StudySessionResponse batched = this.studySessionService.submitEvents(
+                started.sessionId(),
+                new StudySessionEventBatchRequest(List.of(
+                        new StudySessionEventRequest("evt-batch-1", 1, StudyConst.EVENT_REVIEW_NEXT, null, null),
+                        new StudySessionEventRequest("evt-batch-2", 2, StudyConst.EVENT_REVIEW_NEXT, null, null),
+                        new StudySessionEventRequest("evt-batch-dup", 2, StudyConst.EVENT_REVIEW_NEXT, null, null),
+                        new StudySessionEventRequest("evt-batch-3", 3, StudyConst.EVENT_REVIEW_NEXT, null, null))));
+        final StudySessionResponse replayed = this.studySessionService.submitEvents(
+                started.sessionId(),
+                new StudySessionEventBatchRequest(List.of(
+                        new StudySessionEventRequest("evt-batch-2", 2, StudyConst.EVENT_REVIEW_NEXT, null, null),
+                        new StudySessionEventRequest("evt-batch-4", 4, StudyConst.EVENT_REVIEW_PREVIOUS, null, null))));
+
+        assertThat(batched.currentIndex()).isEqualTo(3);
+        assertThat(replayed.currentIndex()).isEqualTo(2);
+        assertThat(this.jdbcTemplate.queryForObject(COUNT_ATTEMPTS_SQL, Long.class)).isEqualTo(4L);
+    }
+
+    @Test
+    @SqlStatementBudget(statements = 11)
     void completeAllModes_shouldCompleteSingleCycleSession() {
         final Long deckId = createDeckWithFlashcards(_unique("Cycle"), List.of(
                 new FlashcardCreateRequest("alpha", "mot", null, null),
@@ -294,6 +582,72 @@ class StudySessionIntegrationTest {
         assertThat(response.reviewItems()).hasSize(10);
     }
 
+    @Test
+    void startSession_withSameSeed_shouldSampleSameFlashcards() {
+        final Long deckId = createDeckWithFlashcards(_unique("SeededSample"), buildFlashcards(25));
+
+        final StudySessionResponse first = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_REVIEW, 101, null));
+        final StudySessionResponse reset = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_REVIEW, 101, true));
+
+        assertThat(reset.sessionId()).isNotEqualTo(first.sessionId());
+        assertThat(reset.reviewItems()).hasSize(10);
+        assertThat(reset.reviewItems())
+                .extracting(item -> item.flashcardId())
+                .containsExactlyElementsOf(
+                        first.reviewItems().stream().map(item -> item.flashcardId()).toList());
+    }
+
+    @Test
+    void modeItems_shouldReferenceSessionSnapshotWithoutCopyingText() {
+        final Long deckId = createDeckWithFlashcards(_unique("SharedSnapshot"), List.of(
+                new FlashcardCreateRequest("red", "do", null, null),
+                new FlashcardCreateRequest("green", "xanh la", null, null),
+                new FlashcardCreateRequest("blue", "xanh duong", null, null)));
+
+        final StudySessionResponse reviewSession = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_REVIEW, 103, null));
+        final StudySessionResponse matchSession = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_MATCH, 107, null));
+
+        assertThat(this.jdbcTemplate.queryForObject(COUNT_TEXT_BEARING_ITEMS_SQL, Long.class)).isZero();
+        assertThat(this.jdbcTemplate.queryForObject(COUNT_LABEL_BEARING_TILES_SQL, Long.class)).isZero();
+        assertThat(reviewSession.reviewItems())
+                .extracting(item -> item.frontText())
+                .containsExactlyInAnyOrder("red", "green", "blue");
+        assertThat(matchSession.leftTiles())
+                .extracting(StudyMatchTileResponse::label)
+                .containsExactlyInAnyOrder("red", "green", "blue");
+        assertThat(matchSession.rightTiles())
+                .extracting(StudyMatchTileResponse::label)
+                .containsExactlyInAnyOrder("do", "xanh la", "xanh duong");
+    }
+
+    @Test
+    void startSession_warmResume_shouldStayWithinStatementBudgetWithoutUpdates() {
+        final Long deckId = createDeckWithFlashcards(_unique("WarmResume"), buildFlashcards(6));
+        final StudySessionResponse started = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_REVIEW, 109, null));
+        final var statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final StudySessionResponse resumed = this.studySessionService.startSession(
+                deckId,
+                new StudySessionStartRequest(StudyConst.MODE_REVIEW, 109, null));
+
+        assertThat(resumed.sessionId()).isEqualTo(started.sessionId());
+        assertThat(resumed.reviewItems()).hasSize(6);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(WARM_RESUME_STATEMENT_BUDGET);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+    }
+
     private List<FlashcardCreateRequest> buildFlashcards(int count) {
         final List<FlashcardCreateRequest> flashcards = new java.util.ArrayList<>();
         var index = 1;
@@ -304,6 +658,15 @@ class StudySessionIntegrationTest {
         return flashcards;
     }
 
+    private StudyMatchTileResponse findMatchingRightTile(List<StudyMatchTileResponse> rightTiles, int pairKey) {
+        for (final StudyMatchTileResponse candidate : rightTiles) {
+            if (candidate.pairKey() == pairKey) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No matching pair found for test data.");
+    }
+
     private StudyMatchTileResponse findWrongRightTile(List<StudyMatchTileResponse> rightTiles, int pairKey) {
         for (final StudyMatchTileResponse candidate : rightTiles) {
             if (candidate.pairKey() != pairKey) {
@@ -0,0 +1,66 @@
+package com.learn.wire.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTextNormalizerTest {
+
+    private static final String BACKFILL_MIGRATION = "/db/migration/V21__add_search_text_columns.sql";
+    private static final Pattern BACKFILL_TRANSLATE = Pattern.compile(
+            "TRANSLATE\\(\\s*LOWER\\(TRIM\\(\\w+\\)\\),\\s*'([^']*)',\\s*'([^']*)'\\)");
+    private static final String BACKFILL_SAMPLE = "  Đường Tiếng Việt Ärger Çà Ÿ  ";
+
+    @Test
+    void normalize_shouldFoldVietnameseAccentsAndCase() {
+        assertThat(SearchTextNormalizer.normalize("  Đâs  ")).isEqualTo("das");
+        assertThat(SearchTextNormalizer.normalize("Tiếng Việt")).isEqualTo("tieng viet");
+        assertThat(SearchTextNormalizer.normalize("đường")).isEqualTo("duong");
+    }
+
+    @Test
+    void normalize_shouldReturnEmptyForBlankInput() {
+        assertThat(SearchTextNormalizer.normalize(null)).isEmpty();
+        assertThat(SearchTextNormalizer.normalize("   ")).isEmpty();
+    }
+
+    @Test
+    void normalize_shouldMatchSearchTextBackfillTranslation() throws IOException {
+        final Matcher matcher = BACKFILL_TRANSLATE.matcher(_readBackfillMigration());
+        int translations = 0;
+        while (matcher.find()) {
+            translations++;
+            final String from = matcher.group(1);
+            final String to = matcher.group(2);
+            assertThat(to).hasSameSizeAs(from);
+            for (int index = 0; index < from.length(); index++) {
+                final String folded = String.valueOf(from.charAt(index));
+                assertThat(SearchTextNormalizer.normalize(folded))
+                        .as("backfill folding of %s", folded)
+                        .isEqualTo(String.valueOf(to.charAt(index)));
+            }
+            assertThat(_translate(BACKFILL_SAMPLE, from, to))
+                    .isEqualTo(SearchTextNormalizer.normalize(BACKFILL_SAMPLE));
+        }
+        assertThat(translations).isEqualTo(6);
+    }
+
+    private String _readBackfillMigration() throws IOException {
+        try (InputStream stream = SearchTextNormalizerTest.class.getResourceAsStream(BACKFILL_MIGRATION)) {
+            assertThat(stream).isNotNull();
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String _translate(String value, String from, String to) {
+        return StringUtils.replaceChars(value.trim().toLowerCase(Locale.ROOT), from, to);
+    }
+}